@@ -0,0 +1,93 @@
+package com.tinkerpop.frames.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.benchmark.domain.Knows;
+import com.tinkerpop.frames.benchmark.domain.Person;
+import com.tinkerpop.frames.benchmark.domain.Project;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerModule;
+
+/**
+ * Measures iteration of {@link com.tinkerpop.frames.Adjacency} and {@link com.tinkerpop.frames.Incidence} methods over vertices of varying degree,
+ * including framing of every element returned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdjacencyBenchmark
+{
+    @Param({ BenchmarkGraphs.PROXY, BenchmarkGraphs.GENERATED })
+    public String frames;
+
+    @Param({ "1", "16", "256" })
+    public int degree;
+
+    private Person person;
+
+    @Setup
+    public void setup()
+    {
+        FramedGraph<TinkerGraph> framedGraph = BenchmarkGraphs.frame(BenchmarkGraphs.generate(1000, degree), frames, new JavaHandlerModule());
+        person = framedGraph.getVertex(0L, Person.class);
+    }
+
+    @Benchmark
+    public void iterateAdjacency(Blackhole blackhole)
+    {
+        for (Person known : person.getKnowsPeople())
+        {
+            blackhole.consume(known);
+        }
+    }
+
+    @Benchmark
+    public void iterateAdjacencyProperties(Blackhole blackhole)
+    {
+        for (Person known : person.getKnowsPeople())
+        {
+            blackhole.consume(known.getName());
+        }
+    }
+
+    @Benchmark
+    public void iterateIncidence(Blackhole blackhole)
+    {
+        for (Knows knows : person.getKnows())
+        {
+            blackhole.consume(knows);
+        }
+    }
+
+    @Benchmark
+    public void iterateIncidenceInVertices(Blackhole blackhole)
+    {
+        for (Knows knows : person.getKnows())
+        {
+            blackhole.consume(knows.getIn());
+        }
+    }
+
+    @Benchmark
+    public Project getSingleAdjacency()
+    {
+        return person.getCreatedProject();
+    }
+}
@@ -0,0 +1,101 @@
+package com.tinkerpop.frames.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.modules.Module;
+import com.tinkerpop.frames.modules.generation.GeneratedFramesModule;
+
+/**
+ * Generates graphs shaped like the test domain: people who know each other and the projects they created.
+ */
+public final class BenchmarkGraphs
+{
+    /**
+     * Frames are created by {@link java.lang.reflect.Proxy}.
+     */
+    public static final String PROXY = "proxy";
+
+    /**
+     * Frames are created by classes generated by the {@link GeneratedFramesModule}.
+     */
+    public static final String GENERATED = "generated";
+
+    /**
+     * The number of people that created each project.
+     */
+    public static final int PEOPLE_PER_PROJECT = 10;
+
+    private BenchmarkGraphs()
+    {
+    }
+
+    /**
+     * Generate a graph of people where each person knows the next <code>degree</code> people, wrapping around, and created one project.
+     *
+     * @param people The number of people. This is raised to <code>degree + 1</code> if it is smaller.
+     * @param degree The number of outgoing <code>knows</code> edges of each person.
+     * @return The graph. Person i has the id <code>i</code>, and edges of person i start at id <code>i * (degree + 1)</code> so that lookups by id are
+     *         cheap to compute.
+     */
+    public static TinkerGraph generate(int people, int degree)
+    {
+        people = Math.max(people, degree + 1);
+        TinkerGraph graph = TinkerGraph.open();
+        List<Vertex> persons = new ArrayList<Vertex>(people);
+        for (int i = 0; i < people; i++)
+        {
+            persons.add(graph.addVertex(T.id, (long) i, "type", "person", "name", "person" + i, "age", 20 + i % 50));
+        }
+
+        List<Vertex> projects = new ArrayList<Vertex>();
+        for (int i = 0; i < people; i += PEOPLE_PER_PROJECT)
+        {
+            projects.add(graph.addVertex(T.id, (long) (people + i), "type", "project", "name", "project" + i, "lang", "java"));
+        }
+
+        for (int i = 0; i < people; i++)
+        {
+            Vertex person = persons.get(i);
+            long edgeId = (long) i * (degree + 1);
+            for (int k = 1; k <= degree; k++)
+            {
+                person.addEdge("knows", persons.get((i + k) % people), T.id, edgeId++, "weight", 1.0f / k);
+            }
+            person.addEdge("created", projects.get(i / PEOPLE_PER_PROJECT), T.id, edgeId, "weight", 0.5f);
+        }
+        return graph;
+    }
+
+    /**
+     * Frame a graph with the given modules.
+     *
+     * @param graph The graph.
+     * @param frames Either {@link #PROXY} or {@link #GENERATED}.
+     * @param modules The modules to configure the framed graph with.
+     * @return The framed graph.
+     */
+    public static FramedGraph<TinkerGraph> frame(TinkerGraph graph, String frames, Module... modules)
+    {
+        List<Module> all = new ArrayList<Module>();
+        if (GENERATED.equals(frames))
+        {
+            all.add(new GeneratedFramesModule());
+        }
+        else if (!PROXY.equals(frames))
+        {
+            throw new IllegalArgumentException("Unknown frame implementation: " + frames);
+        }
+        for (Module module : modules)
+        {
+            all.add(module);
+        }
+        return new FramedGraphFactory(all.toArray(new Module[all.size()])).create(graph);
+    }
+}
@@ -0,0 +1,38 @@
+package com.tinkerpop.frames.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so that the allocation rate per operation (<code>gc.alloc.rate.norm</code>) is reported next
+ * to the timings. Results are also written to <code>target/benchmarks.json</code>. Any JMH command line options may be passed, for example a regular
+ * expression to select benchmarks:
+ *
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:exec -Dbenchmarks="Adjacency -p degree=256"
+ * </pre>
+ */
+public class BenchmarkRunner
+{
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException
+    {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty())
+        {
+            options.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+        }
+        options.addProfiler(GCProfiler.class);
+        if (!commandLine.getResult().hasValue())
+        {
+            options.resultFormat(ResultFormatType.JSON).result("target/benchmarks.json");
+        }
+        new Runner(options.build()).run();
+    }
+}
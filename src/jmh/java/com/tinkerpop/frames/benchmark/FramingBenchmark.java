@@ -0,0 +1,147 @@
+package com.tinkerpop.frames.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tinkerpop.frames.FrameSession;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.benchmark.domain.Knows;
+import com.tinkerpop.frames.benchmark.domain.Person;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerModule;
+
+/**
+ * Measures {@link FramedGraph#frame(Vertex, Class)}, {@link FramedGraph#frame(Edge, Class)}, {@link FramedGraph#addVertex(Class, Object...)} and
+ * {@link FramedGraph#addEdge(Vertex, Vertex, String, Class)}, and the batch variants {@link FramedGraph#addVertices(Class, int)} and
+ * {@link FramedGraph#addBaseVertices(Class, int)} per vertex added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FramingBenchmark
+{
+    private static final int BATCH = 100;
+
+    @Param({ BenchmarkGraphs.PROXY, BenchmarkGraphs.GENERATED })
+    public String frames;
+
+    private FramedGraph<TinkerGraph> framedGraph;
+    private Vertex vertex;
+    private Edge edge;
+
+    private FramedGraph<TinkerGraph> growingGraph;
+    private Vertex outVertex;
+    private Vertex inVertex;
+
+    @Setup
+    public void setup()
+    {
+        framedGraph = BenchmarkGraphs.frame(BenchmarkGraphs.generate(1000, 4), frames, new JavaHandlerModule());
+        vertex = framedGraph.getBaseGraph().vertices(0L).next();
+        edge = vertex.edges(Direction.OUT, "knows").next();
+    }
+
+    /**
+     * Elements are added to a fresh graph each iteration so that the size of the graph does not skew the measurements.
+     */
+    @Setup(Level.Iteration)
+    public void setupIteration()
+    {
+        growingGraph = BenchmarkGraphs.frame(TinkerGraph.open(), frames, new JavaHandlerModule());
+        outVertex = growingGraph.getBaseGraph().addVertex();
+        inVertex = growingGraph.getBaseGraph().addVertex();
+    }
+
+    @Benchmark
+    public Person frameVertex()
+    {
+        return framedGraph.frame(vertex, Person.class);
+    }
+
+    /**
+     * Frames the vertex again within a {@link FrameSession}, which returns the frame created by the first call.
+     */
+    @Benchmark
+    public Person frameVertexInSession(Session session)
+    {
+        return framedGraph.frame(vertex, Person.class);
+    }
+
+    @Benchmark
+    public Knows frameEdge()
+    {
+        return framedGraph.frame(edge, Knows.class);
+    }
+
+    @Benchmark
+    public Person addVertex()
+    {
+        return growingGraph.addVertex(Person.class);
+    }
+
+    @Benchmark
+    public Knows addEdge()
+    {
+        return growingGraph.addEdge(outVertex, inVertex, "knows", Knows.class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void addVertices(Blackhole blackhole)
+    {
+        for (Person person : growingGraph.addVertices(Person.class, BATCH))
+        {
+            blackhole.consume(person);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<Vertex> addBaseVertices()
+    {
+        return growingGraph.addBaseVertices(Person.class, BATCH);
+    }
+
+    /**
+     * Holds a session open on each benchmark thread, as sessions are confined to the thread that opened them.
+     */
+    @State(Scope.Thread)
+    public static class Session
+    {
+        private FrameSession session;
+
+        @Setup
+        public void open(FramingBenchmark benchmark)
+        {
+            session = benchmark.framedGraph.openSession();
+        }
+
+        @TearDown
+        public void close()
+        {
+            session.close();
+        }
+    }
+}
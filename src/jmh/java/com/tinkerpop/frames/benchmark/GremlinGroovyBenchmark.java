@@ -0,0 +1,83 @@
+package com.tinkerpop.frames.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tinkerpop.frames.benchmark.domain.Person;
+import com.tinkerpop.frames.modules.gremlingroovy.GremlinGroovyModule;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerModule;
+
+/**
+ * Measures {@link com.tinkerpop.frames.annotations.gremlin.GremlinGroovy} methods. The same scripts are evaluated as precompiled scripts by a module
+ * without traversal translation, and run as native traversals by a module with it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GremlinGroovyBenchmark
+{
+    @Param({ BenchmarkGraphs.PROXY, BenchmarkGraphs.GENERATED })
+    public String frames;
+
+    @Param({ "4", "64" })
+    public int degree;
+
+    private Person scripted;
+    private Person translated;
+
+    @Setup
+    public void setup()
+    {
+        TinkerGraph graph = BenchmarkGraphs.generate(1000, degree);
+        GremlinGroovyModule scripts = new GremlinGroovyModule().precompile(Person.class);
+        scripted = BenchmarkGraphs.frame(graph, frames, scripts, new JavaHandlerModule()).getVertex(0L, Person.class);
+        GremlinGroovyModule traversals = new GremlinGroovyModule().withTraversalTranslation().precompile(Person.class);
+        translated = BenchmarkGraphs.frame(graph, frames, traversals, new JavaHandlerModule()).getVertex(0L, Person.class);
+    }
+
+    @Benchmark
+    public void iterateScript(Blackhole blackhole)
+    {
+        for (Person known : scripted.getKnowsPeopleByScript())
+        {
+            blackhole.consume(known);
+        }
+    }
+
+    @Benchmark
+    public void iterateTraversal(Blackhole blackhole)
+    {
+        for (Person known : translated.getKnowsPeopleByScript())
+        {
+            blackhole.consume(known);
+        }
+    }
+
+    @Benchmark
+    public long scriptWithParameter()
+    {
+        return scripted.countKnowsPeopleOfAgeByScript(21);
+    }
+
+    @Benchmark
+    public long traversalWithParameter()
+    {
+        return translated.countKnowsPeopleOfAgeByScript(21);
+    }
+}
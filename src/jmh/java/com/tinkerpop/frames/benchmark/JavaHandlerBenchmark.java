@@ -0,0 +1,56 @@
+package com.tinkerpop.frames.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.benchmark.domain.Person;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerModule;
+
+/**
+ * Measures {@link com.tinkerpop.frames.modules.javahandler.JavaHandler} methods, which call back into the frame from the handler implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavaHandlerBenchmark
+{
+    @Param({ BenchmarkGraphs.PROXY, BenchmarkGraphs.GENERATED })
+    public String frames;
+
+    private Person person;
+
+    @Setup
+    public void setup()
+    {
+        FramedGraph<TinkerGraph> framedGraph = BenchmarkGraphs.frame(BenchmarkGraphs.generate(100, 4), frames, new JavaHandlerModule());
+        person = framedGraph.getVertex(0L, Person.class);
+    }
+
+    @Benchmark
+    public String callHandler()
+    {
+        return person.getNameAndAge();
+    }
+
+    @Benchmark
+    public int callHandlerIteratingAdjacency()
+    {
+        return person.getKnowsCount();
+    }
+}
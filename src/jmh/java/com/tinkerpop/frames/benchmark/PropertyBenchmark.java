@@ -0,0 +1,92 @@
+package com.tinkerpop.frames.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tinkerpop.frames.FrameProjection;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.PropertyRecord;
+import com.tinkerpop.frames.benchmark.domain.Knows;
+import com.tinkerpop.frames.benchmark.domain.Person;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerModule;
+
+/**
+ * Measures calls to {@link com.tinkerpop.frames.Property} getters and setters on an existing frame, which is the dispatch path through
+ * {@link com.tinkerpop.frames.FramedElement#invoke(Object, java.lang.reflect.Method, Object[])} or its generated equivalent, and compares reading
+ * every property through the getters with a {@link FrameProjection}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyBenchmark
+{
+    @Param({ BenchmarkGraphs.PROXY, BenchmarkGraphs.GENERATED })
+    public String frames;
+
+    private Person person;
+    private Knows knows;
+    private FrameProjection<Person> projection;
+    private int age;
+
+    @Setup
+    public void setup()
+    {
+        FramedGraph<TinkerGraph> framedGraph = BenchmarkGraphs.frame(BenchmarkGraphs.generate(100, 4), frames, new JavaHandlerModule());
+        person = framedGraph.getVertex(0L, Person.class);
+        knows = framedGraph.getEdge(0L, Knows.class);
+        projection = framedGraph.getProjection(Person.class);
+    }
+
+    @Benchmark
+    public String getStringProperty()
+    {
+        return person.getName();
+    }
+
+    @Benchmark
+    public Integer getBoxedProperty()
+    {
+        return person.getAge();
+    }
+
+    @Benchmark
+    public void setProperty()
+    {
+        person.setAge(age++ & 63);
+    }
+
+    @Benchmark
+    public void getAllProperties(Blackhole blackhole)
+    {
+        blackhole.consume(person.getName());
+        blackhole.consume(person.getAge());
+    }
+
+    @Benchmark
+    public PropertyRecord projectAllProperties()
+    {
+        return projection.project(person);
+    }
+
+    @Benchmark
+    public Float getEdgeProperty()
+    {
+        return knows.getWeight();
+    }
+}
@@ -0,0 +1,79 @@
+package com.tinkerpop.frames.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.benchmark.domain.Entity;
+import com.tinkerpop.frames.benchmark.domain.Person;
+import com.tinkerpop.frames.benchmark.domain.Project;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerModule;
+import com.tinkerpop.frames.modules.typedgraph.TypedGraphModuleBuilder;
+
+/**
+ * Measures resolution of the concrete frame type through the typed graph module, with and without the resolved type cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypedGraphBenchmark
+{
+    @Param({ BenchmarkGraphs.PROXY, BenchmarkGraphs.GENERATED })
+    public String frames;
+
+    @Param({ "0", "10000" })
+    public long typeCacheSize;
+
+    private FramedGraph<TinkerGraph> framedGraph;
+    private Vertex personVertex;
+    private Person person;
+
+    @Setup
+    public void setup()
+    {
+        TypedGraphModuleBuilder builder = new TypedGraphModuleBuilder().withClass(Person.class).withClass(Project.class);
+        if (typeCacheSize > 0)
+        {
+            builder.withTypeCache(typeCacheSize);
+        }
+        framedGraph = BenchmarkGraphs.frame(BenchmarkGraphs.generate(1000, 4), frames, builder.build(), new JavaHandlerModule());
+        personVertex = framedGraph.getBaseGraph().vertices(0L).next();
+        person = framedGraph.frame(personVertex, Person.class);
+    }
+
+    @Benchmark
+    public Entity resolveVertex()
+    {
+        return framedGraph.frame(personVertex, Entity.class);
+    }
+
+    @Benchmark
+    public void resolveAdjacentVertices(Blackhole blackhole)
+    {
+        for (Project project : person.getCreatedProjects())
+        {
+            blackhole.consume(project);
+        }
+        for (Person known : person.getKnowsPeople())
+        {
+            blackhole.consume(known);
+        }
+    }
+}
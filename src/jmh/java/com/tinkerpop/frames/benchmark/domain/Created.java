@@ -0,0 +1,21 @@
+package com.tinkerpop.frames.benchmark.domain;
+
+import com.tinkerpop.frames.EdgeFrame;
+import com.tinkerpop.frames.InVertex;
+import com.tinkerpop.frames.OutVertex;
+import com.tinkerpop.frames.Property;
+
+/**
+ * Mirrors the <code>Created</code> frame of the test domain.
+ */
+public interface Created extends EdgeFrame
+{
+    @Property("weight")
+    Float getWeight();
+
+    @OutVertex
+    Person getOut();
+
+    @InVertex
+    Project getIn();
+}
@@ -0,0 +1,18 @@
+package com.tinkerpop.frames.benchmark.domain;
+
+import com.tinkerpop.frames.Property;
+import com.tinkerpop.frames.VertexFrame;
+import com.tinkerpop.frames.modules.typedgraph.TypeField;
+
+/**
+ * Root of the benchmark domain. Vertices carry their kind in the <code>type</code> property so that typed graph resolution can be measured.
+ */
+@TypeField("type")
+public interface Entity extends VertexFrame
+{
+    @Property("name")
+    String getName();
+
+    @Property("name")
+    void setName(String name);
+}
@@ -0,0 +1,24 @@
+package com.tinkerpop.frames.benchmark.domain;
+
+import com.tinkerpop.frames.EdgeFrame;
+import com.tinkerpop.frames.InVertex;
+import com.tinkerpop.frames.OutVertex;
+import com.tinkerpop.frames.Property;
+
+/**
+ * Mirrors the <code>Knows</code> frame of the test domain.
+ */
+public interface Knows extends EdgeFrame
+{
+    @Property("weight")
+    Float getWeight();
+
+    @Property("weight")
+    void setWeight(float weight);
+
+    @OutVertex
+    Person getOut();
+
+    @InVertex
+    Person getIn();
+}
@@ -0,0 +1,78 @@
+package com.tinkerpop.frames.benchmark.domain;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import com.tinkerpop.frames.Adjacency;
+import com.tinkerpop.frames.Incidence;
+import com.tinkerpop.frames.Property;
+import com.tinkerpop.frames.annotations.gremlin.GremlinGroovy;
+import com.tinkerpop.frames.annotations.gremlin.GremlinParam;
+import com.tinkerpop.frames.modules.javahandler.JavaHandler;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerContext;
+import com.tinkerpop.frames.modules.typedgraph.TypeValue;
+
+/**
+ * Mirrors the <code>Person</code> frame of the test domain.
+ */
+@TypeValue("person")
+public interface Person extends Entity
+{
+    @Property("age")
+    Integer getAge();
+
+    @Property("age")
+    void setAge(Integer age);
+
+    @Incidence(label = "knows")
+    Iterable<Knows> getKnows();
+
+    @Adjacency(label = "knows")
+    Iterable<Person> getKnowsPeople();
+
+    @Adjacency(label = "knows")
+    void addKnowsPerson(Person person);
+
+    @Incidence(label = "created")
+    Iterable<Created> getCreated();
+
+    @Adjacency(label = "created")
+    Iterable<Project> getCreatedProjects();
+
+    @Adjacency(label = "created", direction = Direction.OUT)
+    Project getCreatedProject();
+
+    @GremlinGroovy("g.getBaseGraph().traversal().V(it.id()).out('knows').toList()")
+    Iterable<Person> getKnowsPeopleByScript();
+
+    @GremlinGroovy(value = "g.getBaseGraph().traversal().V(it.id()).out('knows').has('age', age).count().next()", frame = false)
+    long countKnowsPeopleOfAgeByScript(@GremlinParam("age") int age);
+
+    @JavaHandler
+    String getNameAndAge();
+
+    @JavaHandler
+    int getKnowsCount();
+
+    abstract class Impl implements JavaHandlerContext<Vertex>, Person
+    {
+        @Override
+        @JavaHandler
+        public String getNameAndAge()
+        {
+            return getName() + " (" + getAge() + ")";
+        }
+
+        @Override
+        @JavaHandler
+        public int getKnowsCount()
+        {
+            int count = 0;
+            for (Person ignored : getKnowsPeople())
+            {
+                count++;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.tinkerpop.frames.benchmark.domain;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import com.tinkerpop.frames.Adjacency;
+import com.tinkerpop.frames.Property;
+import com.tinkerpop.frames.modules.typedgraph.TypeValue;
+
+/**
+ * Mirrors the <code>Project</code> frame of the test domain.
+ */
+@TypeValue("project")
+public interface Project extends Entity
+{
+    @Property("lang")
+    String getLanguage();
+
+    @Property("lang")
+    void setLanguage(String language);
+
+    @Adjacency(label = "created", direction = Direction.IN)
+    Iterable<Person> getCreatedByPeople();
+}
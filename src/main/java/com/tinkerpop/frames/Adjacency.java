@@ -28,4 +28,56 @@ public @interface Adjacency {
      * @return the direction of the edges composing the adjacency
      */
     public Direction direction() default Direction.OUT;
+
+    /**
+     * What a single-valued getter returns when more than one vertex is adjacent. Iterable-valued getters ignore this.
+     *
+     * @return the policy for single-valued getters
+     */
+    public Multiple multiple() default Multiple.FIRST;
+
+    /**
+     * Whether an add method taking an existing vertex skips adding an edge if one already exists between the vertices.
+     *
+     * @return true to add the edge only if it is absent
+     */
+    public boolean addIfAbsent() default false;
+
+    /**
+     * How an Iterable-valued setter replaces the adjacent vertices.
+     *
+     * @return the set mode
+     */
+    public SetMode setMode() default SetMode.REPLACE;
+
+    /**
+     * Policies for single-valued getters of vertices with more than one adjacent vertex.
+     */
+    public enum Multiple {
+        /**
+         * Return the first adjacent vertex without looking for others.
+         */
+        FIRST,
+
+        /**
+         * Throw an {@link IllegalStateException}. This looks for a second adjacent vertex, but frames none.
+         */
+        FAIL
+    }
+
+    /**
+     * Strategies for Iterable-valued setters.
+     */
+    public enum SetMode {
+        /**
+         * Remove every edge with the label and add an edge for each vertex.
+         */
+        REPLACE,
+
+        /**
+         * Compare the adjacent vertices with the requested vertices by id, and only remove or add the edges that differ. Kept edges retain their
+         * ids and properties.
+         */
+        DIFF
+    }
 }
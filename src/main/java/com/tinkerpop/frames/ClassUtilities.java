@@ -13,6 +13,7 @@ public class ClassUtilities {
     private static final String GET = "get";
     private static final String REMOVE = "remove";
     private static final String ADD = "add";
+    private static final String HAS = "has";
     private static final String IS = "is";
     private static final String CAN = "can";
 
@@ -67,6 +68,25 @@ public class ClassUtilities {
         return propertyName;
     }
 
+    /**
+     * Find the key under which a bean property of a frame is stored.
+     *
+     * @param kind the frame interface
+     * @param propertyName the bean property name, for example "name" for getName()
+     * @return the value of the {@link Property} annotation on the getter or setter of the property
+     * @throws IllegalArgumentException if the frame has no <code>@Property</code> method for the property
+     */
+    public static String getPropertyKey(final Class<?> kind, final String propertyName)
+    {
+        for (Method method : kind.getMethods()) {
+            Property property = method.getAnnotation(Property.class);
+            if (property != null && (isGetMethod(method) || isSetMethod(method)) && propertyName.equals(getBeanPropertyName(method))) {
+                return property.value();
+            }
+        }
+        throw new IllegalArgumentException("No @Property method found for property '" + propertyName + "' of " + kind.getName());
+    }
+
     public static boolean isGetMethod(final Method method) {
         Class<?> returnType = method.getReturnType();
         return (method.getName().startsWith(GET) || (returnType == Boolean.class || returnType == Boolean.TYPE) && (method.getName().startsWith(IS) || method.getName().startsWith(CAN)));
@@ -80,6 +100,11 @@ public class ClassUtilities {
         return method.getName().startsWith(REMOVE);
     }
 
+    public static boolean isHasMethod(final Method method) {
+        Class<?> returnType = method.getReturnType();
+        return method.getName().startsWith(HAS) && (returnType == Boolean.class || returnType == Boolean.TYPE);
+    }
+
     public static boolean acceptsIterable(final Method method) {
         return 1 == method.getParameterTypes().length && Iterable.class.isAssignableFrom(method.getParameterTypes()[0]);
     }
@@ -0,0 +1,89 @@
+package com.tinkerpop.frames;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Looks up the elements of lazy frames by id. If a cache size is configured then the most recently resolved elements are kept, so that a run of
+ * calls on the same lazy frame only looks its element up once. Otherwise every call looks the element up in the graph.
+ * <p>
+ * A cached element is not looked up again, so elements must be evicted with {@link #invalidate(Object, boolean)} when they are removed. Evicting a
+ * vertex also evicts its edges, which are removed with it.
+ */
+class ElementResolver
+{
+    private final Cache<Object, Vertex> vertices;
+    private final Cache<Object, Edge> edges;
+
+    ElementResolver(long maximumSize)
+    {
+        this.vertices = maximumSize > 0 ? CacheBuilder.newBuilder().maximumSize(maximumSize).<Object, Vertex> build() : null;
+        this.edges = maximumSize > 0 ? CacheBuilder.newBuilder().maximumSize(maximumSize).<Object, Edge> build() : null;
+    }
+
+    /**
+     * @param graph The graph the element belongs to.
+     * @param id The id of the element.
+     * @param elementType Either {@link Vertex} or {@link Edge}.
+     * @return The element.
+     * @throws IllegalStateException if the graph has no element with the id
+     */
+    Element resolve(Graph graph, Object id, Class<? extends Element> elementType)
+    {
+        if (elementType == Edge.class)
+        {
+            return resolve(edges, graph::edges, id);
+        }
+        return resolve(vertices, graph::vertices, id);
+    }
+
+    /**
+     * Forget the element with the id, after it has been removed.
+     *
+     * @param id The id of the element.
+     * @param vertex true if the element is a vertex, false if it is an edge.
+     */
+    void invalidate(Object id, boolean vertex)
+    {
+        if (vertices == null)
+        {
+            return;
+        }
+        if (vertex)
+        {
+            vertices.invalidate(id);
+            edges.asMap().values().removeIf(edge -> edge.outVertex().id().equals(id) || edge.inVertex().id().equals(id));
+        }
+        else
+        {
+            edges.invalidate(id);
+        }
+    }
+
+    private static <E extends Element> E resolve(Cache<Object, E> cache, Function<Object[], Iterator<E>> lookup, Object id)
+    {
+        E element = cache == null ? null : cache.getIfPresent(id);
+        if (element == null)
+        {
+            Iterator<E> elements = lookup.apply(new Object[] { id });
+            if (!elements.hasNext())
+            {
+                throw new IllegalStateException("The element with id " + id + " of a lazy frame no longer exists");
+            }
+            element = elements.next();
+            if (cache != null)
+            {
+                cache.put(id, element);
+            }
+        }
+        return element;
+    }
+}
@@ -0,0 +1,170 @@
+package com.tinkerpop.frames;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+import com.tinkerpop.frames.modules.FrameConstructor;
+import com.tinkerpop.frames.modules.InvocationMetrics;
+import com.tinkerpop.frames.modules.TypeResolver;
+
+/**
+ * Caches a ready to use {@link FrameConstructor} for each combination of frame kind and {@link TypeResolver} output, so that framing an element of
+ * a known type only has to run the type resolvers and instantiate the frame. The constructors of a kind are held in a {@link ClassValue} of the
+ * kind, which does not keep the kind's class loader reachable: when the loader of a frame kind is discarded its constructors, and the frame
+ * classes they create, are discarded with it. The constructors of each kind are also bounded in number.
+ */
+class FrameConstructorCache
+{
+    private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+    private final FramedGraphConfiguration config;
+    private final ClassValue<Cache<Key, FrameConstructor>> constructors;
+    private final InvocationMetrics metrics;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    FrameConstructorCache(FramedGraphConfiguration config, final long maximumSize)
+    {
+        this.config = config;
+        this.metrics = config.getInvocationMetrics();
+        this.constructors = new ClassValue<Cache<Key, FrameConstructor>>()
+        {
+            @Override
+            protected Cache<Key, FrameConstructor> computeValue(Class<?> kind)
+            {
+                return newKindCache(maximumSize, evictions);
+            }
+        };
+    }
+
+    /**
+     * The cache of a kind must not reference this cache or the configuration: a {@link ClassValue} entry that reaches its own {@link ClassValue}
+     * is never released by the class, and would keep the configuration, and the graph it was made for, reachable.
+     */
+    private static Cache<Key, FrameConstructor> newKindCache(long maximumSize, final LongAdder evictions)
+    {
+        return CacheBuilder.newBuilder().maximumSize(maximumSize).removalListener((RemovalNotification<Key, FrameConstructor> removal) -> {
+            if (removal.wasEvicted())
+            {
+                evictions.increment();
+            }
+        }).build();
+    }
+
+    /**
+     * @param frameType Either {@link VertexFrame} or {@link EdgeFrame}.
+     * @param kind The kind of frame requested.
+     * @param element The element being framed.
+     * @return The constructor for frames of the element.
+     */
+    FrameConstructor get(Class<?> frameType, Class<?> kind, Element element)
+    {
+        Key key = new Key(frameType, resolveTypes(kind, element));
+        Cache<Key, FrameConstructor> kindConstructors = constructors.get(kind);
+        FrameConstructor constructor = kindConstructors.getIfPresent(key);
+        if (metrics != null)
+        {
+            metrics.frameCacheLookup(constructor != null);
+        }
+        if (constructor == null)
+        {
+            misses.increment();
+            constructor = createConstructor(kind, key);
+            kindConstructors.put(key, constructor);
+        }
+        else
+        {
+            hits.increment();
+        }
+        return constructor;
+    }
+
+    CacheStats stats()
+    {
+        return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, evictions.sum());
+    }
+
+    private Class<?>[] resolveTypes(Class<?> kind, Element element)
+    {
+        List<TypeResolver> typeResolvers = config.getTypeResolvers();
+        if (typeResolvers.isEmpty())
+        {
+            return NO_TYPES;
+        }
+        if (typeResolvers.size() == 1)
+        {
+            return resolveTypes(typeResolvers.get(0), kind, element);
+        }
+        Class<?>[] resolvedTypes = NO_TYPES;
+        for (TypeResolver typeResolver : typeResolvers)
+        {
+            Class<?>[] types = resolveTypes(typeResolver, kind, element);
+            int length = resolvedTypes.length;
+            resolvedTypes = Arrays.copyOf(resolvedTypes, length + types.length);
+            System.arraycopy(types, 0, resolvedTypes, length, types.length);
+        }
+        return resolvedTypes;
+    }
+
+    private static Class<?>[] resolveTypes(TypeResolver typeResolver, Class<?> kind, Element element)
+    {
+        if (element instanceof Vertex)
+        {
+            return typeResolver.resolveTypes((Vertex) element, kind);
+        }
+        return typeResolver.resolveTypes((Edge) element, kind);
+    }
+
+    private FrameConstructor createConstructor(Class<?> kind, Key key)
+    {
+        Set<Class<?>> resolvedTypes = new HashSet<Class<?>>();
+        resolvedTypes.add(key.frameType);
+        resolvedTypes.add(kind);
+        resolvedTypes.addAll(Arrays.asList(key.resolvedTypes));
+        return config.getFrameFactory().getConstructor(config.getFrameClassLoaderResolver().resolveClassLoader(kind),
+                    resolvedTypes.toArray(new Class[resolvedTypes.size()]));
+    }
+
+    private static final class Key
+    {
+        private final Class<?> frameType;
+        private final Class<?>[] resolvedTypes;
+        private final int hashCode;
+
+        Key(Class<?> frameType, Class<?>[] resolvedTypes)
+        {
+            this.frameType = frameType;
+            this.resolvedTypes = resolvedTypes;
+            this.hashCode = 31 * frameType.hashCode() + Arrays.hashCode(resolvedTypes);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof Key)
+            {
+                Key other = (Key) obj;
+                return frameType == other.frameType && Arrays.equals(resolvedTypes, other.resolvedTypes);
+            }
+            return false;
+        }
+    }
+}
@@ -16,4 +16,18 @@ public interface FrameInitializer
      * @param element The new element that is being inserted into the graph.
      */
     public void initElement(final Class<?> kind, final FramedGraph<?> framedGraph, final Element element);
+
+    /**
+     * The {@link FramedGraph} asks this once per kind and element type and does not call initializers that answer false for new elements of that
+     * kind. The answer must not change once the graph is in use.
+     * 
+     * @param kind The kind of frame.
+     * @param elementType The type of the new elements, either {@link org.apache.tinkerpop.gremlin.structure.Vertex} or
+     *            {@link org.apache.tinkerpop.gremlin.structure.Edge}.
+     * @return true if this initializer has work to do for new elements of the kind.
+     */
+    public default boolean appliesTo(final Class<?> kind, final Class<? extends Element> elementType)
+    {
+        return true;
+    }
 }
@@ -0,0 +1,180 @@
+package com.tinkerpop.frames;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.google.common.collect.Iterables;
+import com.tinkerpop.frames.modules.PropertyCodec;
+
+/**
+ * Reads every <code>@Property</code> of a frame interface in a single pass over the properties of an element, instead of one lookup and one method
+ * dispatch per getter. The values are decoded with the {@link PropertyCodec}s of the getters and returned in an array backed
+ * {@link PropertyRecord}.
+ *
+ * <pre>
+ * FrameProjection&lt;Person&gt; projection = framedGraph.getProjection(Person.class);
+ * for (PropertyRecord record : projection.projectAll(framedGraph.frameVertices(vertices, Person.class)))
+ * {
+ *     export(record.get("name"), record.get("age"));
+ * }
+ * </pre>
+ *
+ * A projection is built once per frame interface and graph configuration, the first time it is requested, and is immutable.
+ *
+ * @param <F> The frame interface.
+ */
+public final class FrameProjection<F>
+{
+    private final Class<F> kind;
+    private final String[] keys;
+    private final List<String> propertyNames;
+    private final PropertyCodec<Object>[] codecs;
+    private final Map<String, Integer> keyIndex = new HashMap<String, Integer>();
+    private final Map<String, Integer> propertyIndex = new HashMap<String, Integer>();
+
+    @SuppressWarnings("unchecked")
+    FrameProjection(Class<F> kind, FramedGraphConfiguration config)
+    {
+        this.kind = kind;
+        List<String> keys = new ArrayList<String>();
+        List<String> propertyNames = new ArrayList<String>();
+        List<PropertyCodec<Object>> codecs = new ArrayList<PropertyCodec<Object>>();
+        Method[] methods = kind.getMethods();
+        // Order the getters by name, as getMethods() returns them in no particular order.
+        Arrays.sort(methods, (a, b) -> a.getName().compareTo(b.getName()));
+        for (Method method : methods)
+        {
+            Property property = method.getAnnotation(Property.class);
+            if (property == null || !ClassUtilities.isGetMethod(method) || method.getParameterTypes().length > 0)
+            {
+                continue;
+            }
+            String propertyName = ClassUtilities.getBeanPropertyName(method);
+            Integer index = keyIndex.get(property.value());
+            if (index != null)
+            {
+                // Further getters of a key, such as isX() and getX(), read the same value.
+                propertyIndex.putIfAbsent(propertyName, index);
+                continue;
+            }
+            MethodPlan<Property> plan = MethodPlan.compile(method, property, config);
+            keyIndex.put(plan.getKey(), keys.size());
+            propertyIndex.put(propertyName, keys.size());
+            keys.add(plan.getKey());
+            propertyNames.add(propertyName);
+            codecs.add(plan.getCodec());
+        }
+        this.keys = keys.toArray(new String[keys.size()]);
+        this.propertyNames = Collections.unmodifiableList(propertyNames);
+        this.codecs = codecs.toArray(new PropertyCodec[codecs.size()]);
+    }
+
+    /**
+     * @return The frame interface.
+     */
+    public Class<F> getKind()
+    {
+        return kind;
+    }
+
+    /**
+     * @return The number of properties projected.
+     */
+    public int size()
+    {
+        return keys.length;
+    }
+
+    /**
+     * @param index The index of a property in the records of the projection.
+     * @return The key under which the property is stored.
+     */
+    public String getKey(int index)
+    {
+        return keys[index];
+    }
+
+    /**
+     * @return The bean property names of the getters, for example "name" for getName(), in the order of the values of the records.
+     */
+    public List<String> getPropertyNames()
+    {
+        return propertyNames;
+    }
+
+    /**
+     * @param propertyName A bean property name, for example "name" for getName().
+     * @return The index of the property in the records of the projection, or -1 if the frame has no <code>@Property</code> getter for it.
+     */
+    public int indexOf(String propertyName)
+    {
+        Integer index = propertyIndex.get(propertyName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Read the properties of one frame.
+     *
+     * @param frame A {@link VertexFrame}, an {@link EdgeFrame} or an {@link Element}.
+     * @return The record of the property values.
+     */
+    public PropertyRecord project(Object frame)
+    {
+        Element element = toElement(frame);
+        Object[] values = new Object[keys.length];
+        if (keys.length > 0)
+        {
+            Iterator<? extends org.apache.tinkerpop.gremlin.structure.Property<Object>> properties = element.properties(keys);
+            while (properties.hasNext())
+            {
+                org.apache.tinkerpop.gremlin.structure.Property<Object> property = properties.next();
+                int index = keyIndex.get(property.key());
+                PropertyCodec<Object> codec = codecs[index];
+                values[index] = codec == null ? property.value() : codec.decode(property.value());
+            }
+        }
+        return new PropertyRecord(this, element.id(), values);
+    }
+
+    /**
+     * Read the properties of each frame. The frames are projected lazily, as the result is iterated.
+     *
+     * @param frames {@link VertexFrame}s, {@link EdgeFrame}s or {@link Element}s.
+     * @return The records of the property values, in the order of the frames.
+     */
+    public Iterable<PropertyRecord> projectAll(Iterable<?> frames)
+    {
+        return Iterables.transform(frames, this::project);
+    }
+
+    private static Element toElement(Object frame)
+    {
+        if (frame instanceof VertexFrame)
+        {
+            return ((VertexFrame) frame).asVertex();
+        }
+        else if (frame instanceof EdgeFrame)
+        {
+            return ((EdgeFrame) frame).asEdge();
+        }
+        else if (frame instanceof Element)
+        {
+            return (Element) frame;
+        }
+        throw new IllegalArgumentException("Only VertexFrames, EdgeFrames and Elements can be projected: " + frame);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "FrameProjection[" + kind.getName() + ", " + propertyNames + "]";
+    }
+}
@@ -0,0 +1,136 @@
+package com.tinkerpop.frames;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.tinkerpop.frames.modules.FrameConstructor;
+
+/**
+ * An identity map of frames, opened with {@link FramedGraph#openSession()}. While a session is open on a thread, framing an element on that thread
+ * returns the frame already created in the session for the same element id, resolved frame class and direction, instead of a new frame. Frames
+ * are then equal by identity, and revisiting an element allocates nothing.
+ *
+ * <pre>
+ * try (FrameSession session = framedGraph.openSession())
+ * {
+ *     ...
+ * }
+ * </pre>
+ *
+ * The map holds its frames weakly and is bounded by {@link FramedGraphConfiguration#setSessionCacheSize(long)}, so a long running session only
+ * keeps the frames that are still in use. A frame returned within a session keeps the element it was created with; open one session per
+ * transaction if elements must be reloaded between transactions. Sessions are confined to the thread that opened them.
+ */
+public final class FrameSession implements AutoCloseable
+{
+    private final FramedGraph<?> framedGraph;
+    private final FrameSession previous;
+    private final Thread thread = Thread.currentThread();
+    private final Cache<Key, Object> frames;
+
+    FrameSession(FramedGraph<?> framedGraph, FrameSession previous, long maximumSize)
+    {
+        this.framedGraph = framedGraph;
+        this.previous = previous;
+        this.frames = CacheBuilder.newBuilder().maximumSize(maximumSize).weakValues().recordStats().build();
+    }
+
+    /**
+     * @return The frame of the element in this session, created with the constructor if there is none yet.
+     */
+    Object frame(FrameConstructor constructor, Element element, Direction direction)
+    {
+        Key key = new Key(element.id(), constructor, direction);
+        Object frame = frames.getIfPresent(key);
+        if (frame == null)
+        {
+            frame = constructor.newFrame(framedGraph, element, direction);
+            frames.put(key, frame);
+        }
+        return frame;
+    }
+
+    /**
+     * @return The session that was open on the thread when this session was opened, or null.
+     */
+    FrameSession getPrevious()
+    {
+        return previous;
+    }
+
+    /**
+     * Forget the frames of the session, for instance after a transaction has been committed.
+     */
+    public void clear()
+    {
+        frames.invalidateAll();
+    }
+
+    /**
+     * @return The approximate number of frames held by the session.
+     */
+    public long size()
+    {
+        return frames.size();
+    }
+
+    /**
+     * @return The hits and misses of the session. A hit is a frame that was reused.
+     */
+    public CacheStats getStats()
+    {
+        return frames.stats();
+    }
+
+    /**
+     * Close the session and reopen the session that was open on the thread before it, if any.
+     *
+     * @throws IllegalStateException if the session is not the innermost session open on the current thread
+     */
+    @Override
+    public void close()
+    {
+        if (thread != Thread.currentThread())
+        {
+            throw new IllegalStateException("A FrameSession must be closed by the thread that opened it");
+        }
+        framedGraph.closeSession(this);
+        frames.invalidateAll();
+    }
+
+    private static final class Key
+    {
+        private final Object id;
+        private final FrameConstructor constructor;
+        private final Direction direction;
+        private final int hashCode;
+
+        Key(Object id, FrameConstructor constructor, Direction direction)
+        {
+            this.id = id;
+            this.constructor = constructor;
+            this.direction = direction;
+            this.hashCode = 31 * (31 * id.hashCode() + constructor.hashCode()) + direction.hashCode();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof Key)
+            {
+                Key other = (Key) obj;
+                return constructor == other.constructor && direction == other.direction && id.equals(other.id);
+            }
+            return false;
+        }
+    }
+}
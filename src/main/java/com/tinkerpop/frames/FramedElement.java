@@ -1,19 +1,12 @@
 package com.tinkerpop.frames;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 
-import com.tinkerpop.frames.annotations.AnnotationHandler;
-import com.tinkerpop.frames.modules.MethodHandler;
-
 /**
  * The proxy class of a framed element.
  *
@@ -30,8 +23,6 @@ public class FramedElement implements InvocationHandler
     private static Method toStringMethod;
     private static Method asVertexMethod;
     private static Method asEdgeMethod;
-    private static Map<MethodCallEntry, MethodHandlerEntry> methocCallCache = Collections
-                .synchronizedMap(new HashMap<MethodCallEntry, MethodHandlerEntry>());
 
     static
     {
@@ -74,146 +65,93 @@ public class FramedElement implements InvocationHandler
         this(framedGraph, element, Direction.OUT);
     }
 
-    public Object invoke(final Object proxy, final Method originalMethod, final Object[] arguments)
+    /**
+     * For subclasses that look up the element when a method is called, by overriding {@link #getElement()}.
+     */
+    protected FramedElement(final FramedGraph framedGraph, final Direction direction)
     {
-        MethodCallEntry methodCallEntry = new MethodCallEntry(proxy.getClass(), originalMethod);
-
-        MethodHandlerEntry methodHandlerEntry = methocCallCache.get(methodCallEntry);
-        if (methodHandlerEntry != null)
+        if (null == framedGraph)
         {
-            // hitCount.incrementAndGet();
-            if (methodHandlerEntry.methodHandler != null)
-                return methodHandlerEntry.methodHandler.processElement(proxy, methodHandlerEntry.method, arguments, methodHandlerEntry.annotation,
-                            this.framedGraph,
-                            this.element);
-            else if (methodHandlerEntry.annotationHandler != null)
-                return methodHandlerEntry.annotationHandler.processElement(methodHandlerEntry.annotation, methodHandlerEntry.method, arguments,
-                            this.framedGraph, this.element,
-                            this.direction);
+            throw new IllegalArgumentException("FramedGraph can not be null");
         }
-        Method method = null;
-        Class<?> methodInterface = null;
 
-        // try to find the method on one of the proxy's interfaces
-        // (the passed in Method is often from a superclass or from the {@link Proxy} object itself,
-        // so we need to make sure we find the method that the user actually intended)
-        for (Class<?> c : proxy.getClass().getInterfaces())
-        {
-            if (method != null && c.isAssignableFrom(methodInterface))
-            {
-                // don't search this class if we already have found a method from a subclass of it
-                continue;
-            }
-
-            for (Method interfaceMethod : c.getMethods())
-            {
-                if (compareMethods(originalMethod, interfaceMethod))
-                {
-                    if (interfaceMethod.getAnnotations().length > 0)
-                    {
-                        method = interfaceMethod;
-                        methodInterface = c;
-                    }
-                    break;
-                }
-            }
-        }
-        if (method == null)
-        {
-            method = originalMethod;
-        }
+        this.element = null;
+        this.framedGraph = framedGraph;
+        this.direction = direction;
+    }
 
-        Annotation[] annotations = method.getAnnotations();
-        Map<Class<? extends Annotation>, AnnotationHandler<?>> annotationHandlers = this.framedGraph.getConfig().getAnnotationHandlers();
-        Map<Class<? extends Annotation>, MethodHandler<?>> methodHandlers = this.framedGraph.getConfig().getMethodHandlers();
-        for (final Annotation annotation : annotations)
+    public Object invoke(final Object proxy, final Method originalMethod, final Object[] arguments)
+    {
+        MethodDispatch methodDispatch = this.framedGraph.getConfig().getDispatchTable(proxy.getClass()).get(originalMethod);
+        if (methodDispatch == null)
         {
-            MethodHandler methodHandler = methodHandlers.get(annotation.annotationType());
-            if (methodHandler != null)
-            {
-                methocCallCache.put(methodCallEntry, new MethodHandlerEntry(method, annotation, methodHandler));
-                return methodHandler.processElement(proxy, method, arguments, annotation, this.framedGraph, this.element);
-            }
+            methodDispatch = MethodDispatch.resolve(this.framedGraph.getConfig(), proxy.getClass().getInterfaces(), originalMethod);
         }
-        for (final Annotation annotation : annotations)
+        if (methodDispatch.isHandled())
         {
-            AnnotationHandler annotationHandler = annotationHandlers.get(annotation.annotationType());
-            if (annotationHandler != null)
-            {
-                methocCallCache.put(methodCallEntry, new MethodHandlerEntry(method, annotation, annotationHandler));
-                return annotationHandler.processElement(annotation, method, arguments, this.framedGraph, this.element, this.direction);
-            }
+            return methodDispatch.invoke(proxy, arguments, this.framedGraph, getElement(), this.direction);
         }
 
         // Now that we have checked for annotations, check if it is one of the default methods that we
         // have builtin support for
         if (originalMethod.equals(hashCodeMethod))
         {
-            return this.element.hashCode();
+            return this.frameHashCode();
         }
         else if (originalMethod.equals(equalsMethod))
         {
-            return this.proxyEquals(arguments[0]);
+            return this.frameEquals(arguments[0]);
         }
         else if (originalMethod.equals(toStringMethod))
         {
-            return this.element.toString();
+            return this.frameToString();
         }
         else if (originalMethod.equals(asVertexMethod) || originalMethod.equals(asEdgeMethod))
         {
-            return this.element;
+            return getElement();
         }
 
-        if (method.getAnnotations().length == 0)
-        {
-            throw new UnhandledMethodException("The method " + method.getDeclaringClass().getName() + "." + method.getName()
-                        + " has no annotations, therefore frames cannot handle the method.");
-        }
+        throw methodDispatch.unhandled();
+    }
 
-        throw new UnhandledMethodException("The method " + method.getDeclaringClass().getName() + "." + method.getName()
-                    + " was not annotated with any annotations that the framed graph is configured for. Please check your frame interface and/or graph configuration.");
+    /**
+     * @return The hash code of the frame, which is the hash code of its element.
+     */
+    protected int frameHashCode()
+    {
+        return getElement().hashCode();
     }
 
     /**
-     * Returns true if the two methods have the same arguments, return types, and method names.
+     * @param other An object compared to the frame.
+     * @return true if the other object is a frame of the same element, or the element itself.
      */
-    private boolean compareMethods(Method m1, Method m2)
+    protected boolean frameEquals(final Object other)
     {
-        if (!m1.getName().equals(m2.getName()))
-        {
-            return false;
-        }
-        if (!m1.getReturnType().equals(m2.getReturnType()))
-        {
-            return false;
-        }
-        Class<?>[] params1 = m1.getParameterTypes();
-        Class<?>[] params2 = m2.getParameterTypes();
-        if (params1.length == params2.length)
-        {
-            for (int i = 0; i < params1.length; i++)
-            {
-                if (params1[i] != params2[i])
-                    return false;
-            }
-            return true;
-        }
-        return false;
+        return proxyEquals(getElement(), other);
     }
 
-    private Boolean proxyEquals(final Object other)
+    /**
+     * @return The string form of the frame, which is the string form of its element.
+     */
+    protected String frameToString()
+    {
+        return getElement().toString();
+    }
+
+    private static Boolean proxyEquals(final Element element, final Object other)
     {
         if (other instanceof VertexFrame)
         {
-            return this.element.equals(((VertexFrame) other).asVertex());
+            return element.equals(((VertexFrame) other).asVertex());
         }
         if (other instanceof EdgeFrame)
         {
-            return this.element.equals(((EdgeFrame) other).asEdge());
+            return element.equals(((EdgeFrame) other).asEdge());
         }
         else if (other instanceof Element)
         {
-            return ElementHelper.areEqual(this.element, other);
+            return ElementHelper.areEqual(element, other);
         }
         else
         {
@@ -225,62 +163,4 @@ public class FramedElement implements InvocationHandler
     {
         return this.element;
     }
-
-    private class MethodCallEntry
-    {
-        private Class clazz;
-        private Method method;
-
-        public MethodCallEntry(Class clazz, Method method)
-        {
-            this.clazz = clazz;
-            this.method = method;
-        }
-
-        @Override
-        public boolean equals(Object o)
-        {
-            if (this == o)
-                return true;
-            if (o == null || getClass() != o.getClass())
-                return false;
-
-            MethodCallEntry that = (MethodCallEntry) o;
-
-            if (clazz != null ? !clazz.equals(that.clazz) : that.clazz != null)
-                return false;
-            return !(method != null ? !method.equals(that.method) : that.method != null);
-
-        }
-
-        @Override
-        public int hashCode()
-        {
-            int result = clazz != null ? clazz.hashCode() : 0;
-            result = 31 * result + (method != null ? method.hashCode() : 0);
-            return result;
-        }
-    }
-
-    private class MethodHandlerEntry
-    {
-        private final Method method;
-        private final Annotation annotation;
-        private MethodHandler methodHandler;
-        private AnnotationHandler annotationHandler;
-
-        public MethodHandlerEntry(Method method, Annotation annotation, MethodHandler<?> methodHandler)
-        {
-            this.method = method;
-            this.annotation = annotation;
-            this.methodHandler = methodHandler;
-        }
-
-        public MethodHandlerEntry(Method method, Annotation annotation, AnnotationHandler<?> annotationHandler)
-        {
-            this.method = method;
-            this.annotation = annotation;
-            this.annotationHandler = annotationHandler;
-        }
-    }
 }
@@ -0,0 +1,18 @@
+package com.tinkerpop.frames;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+/**
+ * A {@link FrameInitializer} that works through the frame of the new element. The {@link FramedGraph} frames a new element once, after every plain
+ * {@link FrameInitializer} has run, and hands that frame to each of these initializers before returning it to the user.
+ */
+public interface FramedElementInitializer extends FrameInitializer
+{
+    /**
+     * @param kind The kind of frame.
+     * @param framedGraph The graph.
+     * @param element The new element that is being inserted into the graph.
+     * @param frame The frame of the new element that will be returned to the user.
+     */
+    public void initFrame(final Class<?> kind, final FramedGraph<?> framedGraph, final Element element, final Object frame);
+}
@@ -1,15 +1,20 @@
 package com.tinkerpop.frames;
 
-import java.lang.reflect.Proxy;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.MutationListener;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -17,12 +22,17 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.structure.util.wrapped.WrappedGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 
+import com.google.common.cache.CacheStats;
 import com.tinkerpop.frames.annotations.AdjacencyAnnotationHandler;
 import com.tinkerpop.frames.annotations.InVertexAnnotationHandler;
 import com.tinkerpop.frames.annotations.IncidenceAnnotationHandler;
 import com.tinkerpop.frames.annotations.OutVertexAnnotationHandler;
 import com.tinkerpop.frames.annotations.gremlin.GremlinGroovyAnnotationHandler;
-import com.tinkerpop.frames.modules.TypeResolver;
+import com.tinkerpop.frames.core.FramedGraphQueryImpl;
+import com.tinkerpop.frames.jfr.FramesEvents;
+import com.tinkerpop.frames.modules.FrameConstructor;
+import com.tinkerpop.frames.modules.InvocationMetrics;
+import com.tinkerpop.frames.modules.PropertyCodec;
 import com.tinkerpop.frames.structures.FramedEdgeIterable;
 import com.tinkerpop.frames.structures.FramedVertexIterable;
 
@@ -36,10 +46,15 @@ import com.tinkerpop.frames.structures.FramedVertexIterable;
 public class FramedGraph<T extends TinkerGraph> implements Graph, WrappedGraph<T>
 {
 
+    private static final Object[] NO_KEY_VALUES = new Object[0];
+
     protected final T baseGraph;
 
     private FramedGraphConfiguration config;
     private boolean configViaFactory;
+    private final Map<String, AtomicInteger> vertexLookups = new ConcurrentHashMap<String, AtomicInteger>();
+    private final Map<String, AtomicInteger> edgeLookups = new ConcurrentHashMap<String, AtomicInteger>();
+    private final ThreadLocal<FrameSession> sessions = new ThreadLocal<FrameSession>();
 
     /**
      * @param baseGraph The original graph being framed.
@@ -86,18 +101,16 @@ public class FramedGraph<T extends TinkerGraph> implements Graph, WrappedGraph<T
         {
             return null;
         }
-
-        Collection<Class<?>> resolvedTypes = new HashSet<Class<?>>();
-        resolvedTypes.add(VertexFrame.class);
-        resolvedTypes.add(kind);
-        for (TypeResolver typeResolver : config.getTypeResolvers())
+        reportFramed(kind, vertex);
+        Object event = FramesEvents.begin(FramesEvents.Kind.FRAME);
+        try
+        {
+            return (F) newFrame(VertexFrame.class, kind, vertex, Direction.OUT);
+        }
+        finally
         {
-            resolvedTypes.addAll(Arrays.asList(typeResolver.resolveTypes(
-                        vertex, kind)));
+            FramesEvents.commit(event, kind, null, vertex.id());
         }
-        return (F) Proxy.newProxyInstance(config.getFrameClassLoaderResolver().resolveClassLoader(kind),
-                    resolvedTypes.toArray(new Class[resolvedTypes.size()]),
-                    new FramedElement(this, vertex));
     }
 
     /**
@@ -115,18 +128,16 @@ public class FramedGraph<T extends TinkerGraph> implements Graph, WrappedGraph<T
         {
             return null;
         }
-
-        Collection<Class<?>> resolvedTypes = new HashSet<Class<?>>();
-        resolvedTypes.add(EdgeFrame.class);
-        resolvedTypes.add(kind);
-        for (TypeResolver typeResolver : config.getTypeResolvers())
+        reportFramed(kind, edge);
+        Object event = FramesEvents.begin(FramesEvents.Kind.FRAME);
+        try
+        {
+            return (F) newFrame(EdgeFrame.class, kind, edge, Direction.OUT);
+        }
+        finally
         {
-            resolvedTypes.addAll(Arrays.asList(typeResolver.resolveTypes(
-                        edge, kind)));
+            FramesEvents.commit(event, kind, null, edge.id());
         }
-        return (F) Proxy.newProxyInstance(config.getFrameClassLoaderResolver().resolveClassLoader(kind),
-                    resolvedTypes.toArray(new Class[resolvedTypes.size()]),
-                    new FramedElement(this, edge));
     }
 
     /**
@@ -148,18 +159,164 @@ public class FramedGraph<T extends TinkerGraph> implements Graph, WrappedGraph<T
         {
             return null;
         }
+        reportFramed(kind, edge);
+        Object event = FramesEvents.begin(FramesEvents.Kind.FRAME);
+        try
+        {
+            return (F) newFrame(EdgeFrame.class, kind, edge, direction);
+        }
+        finally
+        {
+            FramesEvents.commit(event, kind, null, edge.id());
+        }
+    }
 
-        Collection<Class<?>> resolvedTypes = new HashSet<Class<?>>();
-        resolvedTypes.add(EdgeFrame.class);
-        resolvedTypes.add(kind);
-        for (TypeResolver typeResolver : config.getTypeResolvers())
+    /**
+     * Frame a vertex lazily. The types of the frame are resolved from the vertex now, but the frame holds only the id of the vertex and looks the
+     * vertex up each time one of its methods is called, so that large collections of frames do not keep their vertices in memory. Lazy frames are
+     * always proxies, and are never shared through a {@link FrameSession}.
+     *
+     * @param vertex the vertex to frame
+     * @param kind the default annotated interface to frame the vertex as
+     * @param <F> the default type of the annotated interface
+     * @return a proxy object backed by the id of the vertex, or null if the vertex parameter was null
+     * @see FramedGraphConfiguration#setLazyFrameCacheSize(long)
+     */
+    public <F> F frameLazily(final Vertex vertex, final Class<F> kind)
+    {
+        if (vertex == null)
         {
-            resolvedTypes.addAll(Arrays.asList(typeResolver.resolveTypes(edge,
-                        kind)));
+            return null;
+        }
+        reportFramed(kind, vertex);
+        return (F) config.getFrameConstructorCache().get(VertexFrame.class, kind, vertex).newLazyFrame(this, vertex.id(), Vertex.class, Direction.OUT);
+    }
+
+    /**
+     * Frame an edge lazily. The frame holds only the id of the edge, see {@link #frameLazily(Vertex, Class)}.
+     *
+     * @param edge the edge to frame
+     * @param kind the default annotated interface to frame the edge as
+     * @param <F> the default type of the annotated interface
+     * @return a proxy object backed by the id of the edge, or null if the edge parameter was null
+     */
+    public <F> F frameLazily(final Edge edge, final Class<F> kind)
+    {
+        if (edge == null)
+        {
+            return null;
+        }
+        reportFramed(kind, edge);
+        return (F) config.getFrameConstructorCache().get(EdgeFrame.class, kind, edge).newLazyFrame(this, edge.id(), Edge.class, Direction.OUT);
+    }
+
+    /**
+     * Frame vertices lazily into a list, see {@link #frameLazily(Vertex, Class)}.
+     *
+     * @param vertices the vertices to frame
+     * @param kind the default annotated interface to frame the vertices as
+     * @param <F> the default type of the annotated interface
+     * @return a list of proxy objects backed by the ids of the vertices
+     */
+    public <F> List<F> frameVerticesLazily(final Iterable<? extends Vertex> vertices, final Class<F> kind)
+    {
+        List<F> frames = new ArrayList<F>();
+        for (Vertex vertex : vertices)
+        {
+            frames.add(frameLazily(vertex, kind));
+        }
+        return frames;
+    }
+
+    /**
+     * Frame edges lazily into a list, see {@link #frameLazily(Vertex, Class)}.
+     *
+     * @param edges the edges to frame
+     * @param kind the default annotated interface to frame the edges as
+     * @param <F> the default type of the annotated interface
+     * @return a list of proxy objects backed by the ids of the edges
+     */
+    public <F> List<F> frameEdgesLazily(final Iterable<? extends Edge> edges, final Class<F> kind)
+    {
+        List<F> frames = new ArrayList<F>();
+        for (Edge edge : edges)
+        {
+            frames.add(frameLazily(edge, kind));
+        }
+        return frames;
+    }
+
+    /**
+     * Forget the cached element of lazy frames, after it has been removed without going through a frame. Removing a vertex also forgets its edges.
+     * Edges removed by frame methods are forgotten automatically.
+     *
+     * @param element the removed element
+     * @see FramedGraphConfiguration#setLazyFrameCacheSize(long)
+     */
+    public void invalidateLazyElement(final Element element)
+    {
+        config.getElementResolver().invalidate(element.id(), element instanceof Vertex);
+    }
+
+    /**
+     * A listener that evicts the elements removed by traversals of the base graph that use an {@link EventStrategy} from the cache of lazy frames:
+     *
+     * <pre>
+     * EventStrategy events = EventStrategy.build().addListener(framedGraph.getLazyFrameCacheListener()).create();
+     * GraphTraversalSource g = graph.traversal(GraphTraversalSource.build().with(events));
+     * g.V(id).drop().iterate();
+     * </pre>
+     *
+     * @return the listener
+     * @see FramedGraphConfiguration#setLazyFrameCacheSize(long)
+     */
+    public MutationListener getLazyFrameCacheListener()
+    {
+        return new LazyFrameCacheListener(this);
+    }
+
+    private Object newFrame(final Class<?> frameType, final Class<?> kind, final Element element, final Direction direction)
+    {
+        FrameConstructor constructor = config.getFrameConstructorCache().get(frameType, kind, element);
+        FrameSession session = sessions.get();
+        return session == null ? constructor.newFrame(this, element, direction) : session.frame(constructor, element, direction);
+    }
+
+    /**
+     * Open an identity map of frames on the current thread. Until the session is closed, framing an element on this thread returns the same frame
+     * instance for the same element id and resolved frame class. Sessions may be nested; closing a session reopens the one it replaced.
+     *
+     * @return the session, which must be closed by the thread that opened it
+     */
+    public FrameSession openSession()
+    {
+        FrameSession session = new FrameSession(this, sessions.get(), config.getSessionCacheSize());
+        sessions.set(session);
+        return session;
+    }
+
+    /**
+     * @return the session open on the current thread, or null if frames are created anew each time an element is framed
+     */
+    public FrameSession getSession()
+    {
+        return sessions.get();
+    }
+
+    void closeSession(final FrameSession session)
+    {
+        if (sessions.get() != session)
+        {
+            throw new IllegalStateException("Only the innermost FrameSession open on a thread can be closed");
+        }
+        if (session.getPrevious() == null)
+        {
+            sessions.remove();
+        }
+        else
+        {
+            sessions.set(session.getPrevious());
         }
-        return (F) Proxy.newProxyInstance(config.getFrameClassLoaderResolver().resolveClassLoader(kind),
-                    resolvedTypes.toArray(new Class[resolvedTypes.size()]),
-                    new FramedElement(this, edge, direction));
     }
 
     /**
@@ -238,11 +395,57 @@ public class FramedGraph<T extends TinkerGraph> implements Graph, WrappedGraph<T
     public <E> E addEdge(Vertex outVertex, Vertex inVertex, String label, final Class<E> kind)
     {
         Edge edge = outVertex.addEdge(label, inVertex);
-        for (FrameInitializer initializer : config.getFrameInitializers())
+        return initNewElement(kind, config.getInitializerPlan(kind, Edge.class), edge, true);
+    }
+
+    /**
+     * Add edges with the same label and kind from one vertex to each of a number of vertices. The initializers that apply to the kind are looked up
+     * once for the whole batch.
+     *
+     * @param outVertex the vertex the edges go out of
+     * @param inVertices the vertices the edges go into
+     * @param label the label of the edges
+     * @param kind the default annotated interface to frame the edges as
+     * @param <E> the default type of the annotated interface
+     * @return the new edges in the order they were added, framed as they are iterated
+     */
+    public <E> Iterable<E> addEdges(final Vertex outVertex, final Iterable<? extends Vertex> inVertices, final String label, final Class<E> kind)
+    {
+        InitializerPlan plan = config.getInitializerPlan(kind, Edge.class);
+        if (plan.hasFrameInitializers())
         {
-            initializer.initElement(kind, this, edge);
+            // The frames were needed by the initializers anyway.
+            List<E> framed = new ArrayList<E>();
+            for (Vertex inVertex : inVertices)
+            {
+                framed.add(initNewElement(kind, plan, outVertex.addEdge(label, inVertex), true));
+            }
+            return framed;
         }
-        return this.frame(edge, kind);
+        return new FramedEdgeIterable<E>(this, createBaseEdges(outVertex, inVertices, label, kind, plan), kind);
+    }
+
+    /**
+     * Add edges as {@link #addEdges(Vertex, Iterable, String, Class)} does, without framing them for the caller.
+     *
+     * @return the new edges in the order they were added
+     */
+    public List<Edge> addBaseEdges(final Vertex outVertex, final Iterable<? extends Vertex> inVertices, final String label, final Class<?> kind)
+    {
+        return createBaseEdges(outVertex, inVertices, label, kind, config.getInitializerPlan(kind, Edge.class));
+    }
+
+    private List<Edge> createBaseEdges(final Vertex outVertex, final Iterable<? extends Vertex> inVertices, final String label, final Class<?> kind,
+                final InitializerPlan plan)
+    {
+        List<Edge> edges = new ArrayList<Edge>();
+        for (Vertex inVertex : inVertices)
+        {
+            Edge edge = outVertex.addEdge(label, inVertex);
+            initNewElement(kind, plan, edge, false);
+            edges.add(edge);
+        }
+        return edges;
     }
 
     /**
@@ -255,11 +458,113 @@ public class FramedGraph<T extends TinkerGraph> implements Graph, WrappedGraph<T
     public <F> F addVertex(final Class<F> kind, Object... keyValues)
     {
         Vertex vertex = getBaseGraph().addVertex(keyValues);
-        for (FrameInitializer initializer : config.getFrameInitializers())
+        return initNewElement(kind, config.getInitializerPlan(kind, Vertex.class), vertex, true);
+    }
+
+    /**
+     * Add a number of vertices of the same kind to the underlying graph. The initializers that apply to the kind are looked up once for the whole
+     * batch.
+     *
+     * @param kind the default annotated interface to frame the vertices as
+     * @param count the number of vertices to add
+     * @param <F> the default type of the annotated interface
+     * @return the new vertices in the order they were added, framed as they are iterated
+     */
+    public <F> Iterable<F> addVertices(final Class<F> kind, final int count)
+    {
+        return createVertices(kind, Stream.generate(() -> NO_KEY_VALUES).limit(count));
+    }
+
+    /**
+     * Add a vertex of the same kind for each of a stream of property maps. The keys of the maps are property keys, or
+     * {@link org.apache.tinkerpop.gremlin.structure.T#label} and {@link org.apache.tinkerpop.gremlin.structure.T#id} as for
+     * {@link Graph#addVertex(Object...)}. The initializers that apply to the kind are looked up once for the whole batch.
+     *
+     * @param kind the default annotated interface to frame the vertices as
+     * @param properties the properties of each new vertex
+     * @param <F> the default type of the annotated interface
+     * @return the new vertices in the order they were added, framed as they are iterated
+     */
+    public <F> Iterable<F> addVertices(final Class<F> kind, final Stream<? extends Map<?, ?>> properties)
+    {
+        return createVertices(kind, properties.map(FramedGraph::toKeyValues));
+    }
+
+    /**
+     * Add vertices as {@link #addVertices(Class, int)} does, without framing them for the caller.
+     *
+     * @return the new vertices in the order they were added
+     */
+    public List<Vertex> addBaseVertices(final Class<?> kind, final int count)
+    {
+        return createBaseVertices(kind, config.getInitializerPlan(kind, Vertex.class), Stream.generate(() -> NO_KEY_VALUES).limit(count));
+    }
+
+    /**
+     * Add vertices as {@link #addVertices(Class, Stream)} does, without framing them for the caller.
+     *
+     * @return the new vertices in the order they were added
+     */
+    public List<Vertex> addBaseVertices(final Class<?> kind, final Stream<? extends Map<?, ?>> properties)
+    {
+        return createBaseVertices(kind, config.getInitializerPlan(kind, Vertex.class), properties.map(FramedGraph::toKeyValues));
+    }
+
+    private <F> Iterable<F> createVertices(final Class<F> kind, final Stream<Object[]> keyValues)
+    {
+        InitializerPlan plan = config.getInitializerPlan(kind, Vertex.class);
+        if (plan.hasFrameInitializers())
         {
-            initializer.initElement(kind, this, vertex);
+            // The frames were needed by the initializers anyway.
+            List<F> framed = new ArrayList<F>();
+            keyValues.forEachOrdered(kv -> framed.add(initNewElement(kind, plan, getBaseGraph().addVertex(kv), true)));
+            return framed;
         }
-        return this.frame(vertex, kind);
+        return new FramedVertexIterable<F>(this, createBaseVertices(kind, plan, keyValues), kind);
+    }
+
+    private List<Vertex> createBaseVertices(final Class<?> kind, final InitializerPlan plan, final Stream<Object[]> keyValues)
+    {
+        List<Vertex> vertices = new ArrayList<Vertex>();
+        keyValues.forEachOrdered(kv ->
+        {
+            Vertex vertex = getBaseGraph().addVertex(kv);
+            initNewElement(kind, plan, vertex, false);
+            vertices.add(vertex);
+        });
+        return vertices;
+    }
+
+    /**
+     * Initialize a new element. The element is framed at most once, after the initializers that work on the element have run, and the same frame is
+     * handed to the initializers that work through the frame.
+     *
+     * @param frame true if the caller needs the frame. Otherwise the element is only framed if an initializer needs the frame.
+     * @return the frame of the element, or null if it was not framed
+     */
+    private <F> F initNewElement(final Class<F> kind, final InitializerPlan plan, final Element element, final boolean frame)
+    {
+        plan.initElement(kind, this, element);
+        F framed = null;
+        if (frame || plan.hasFrameInitializers())
+        {
+            framed = element instanceof Vertex ? this.frame((Vertex) element, kind) : this.frame((Edge) element, kind);
+            plan.initFrame(kind, this, element, framed);
+        }
+        reportAdded(kind, element);
+        return framed;
+    }
+
+    private static Object[] toKeyValues(final Map<?, ?> properties)
+    {
+        Object[] keyValues = new Object[properties.size() * 2];
+        int i = 0;
+        for (Map.Entry<?, ?> property : properties.entrySet())
+        {
+            keyValues[i++] = property.getKey();
+            keyValues[i++] = property.getValue();
+        }
+        return keyValues;
     }
 
     /**
@@ -283,6 +588,169 @@ public class FramedGraph<T extends TinkerGraph> implements Graph, WrappedGraph<T
         }
     }
 
+    /**
+     * Find the vertices with a property value. The lookup uses the index of the underlying graph for the key if there is one.
+     *
+     * @param kind the default annotated interface to frame the vertices as
+     * @param key the property key
+     * @param value the property value
+     * @param <F> the default type of the annotated interface
+     * @return an iterable of proxy objects backed by the matching vertices
+     */
+    public <F> Iterable<F> findVertices(final Class<F> kind, final String key, final Object value)
+    {
+        countLookup(vertexLookups, key, Vertex.class);
+        return new FramedVertexIterable<F>(this, () -> getBaseGraph().traversal().V().has(key, value), kind);
+    }
+
+    /**
+     * Find the vertices whose <code>@Property</code> has a value. The key is taken from the {@link Property} annotation of the property's getter or
+     * setter, and the value is encoded by its {@link PropertyCodec}, as it is stored.
+     *
+     * @param kind the annotated interface declaring the property
+     * @param propertyName the bean property name, for example "name" for getName()
+     * @param value the property value
+     * @param <F> the default type of the annotated interface
+     * @return an iterable of proxy objects backed by the matching vertices
+     */
+    public <F> Iterable<F> findVerticesByProperty(final Class<F> kind, final String propertyName, final Object value)
+    {
+        return findVertices(kind, ClassUtilities.getPropertyKey(kind, propertyName), toPropertyValue(value));
+    }
+
+    /**
+     * Find the edges with a property value. The lookup uses the index of the underlying graph for the key if there is one.
+     *
+     * @param kind the default annotated interface to frame the edges as
+     * @param key the property key
+     * @param value the property value
+     * @param <F> the default type of the annotated interface
+     * @return an iterable of proxy objects backed by the matching edges
+     */
+    public <F> Iterable<F> findEdges(final Class<F> kind, final String key, final Object value)
+    {
+        countLookup(edgeLookups, key, Edge.class);
+        return new FramedEdgeIterable<F>(this, () -> getBaseGraph().traversal().E().has(key, value), kind);
+    }
+
+    /**
+     * Find the edges whose <code>@Property</code> has a value. See {@link #findVerticesByProperty(Class, String, Object)}.
+     */
+    public <F> Iterable<F> findEdgesByProperty(final Class<F> kind, final String propertyName, final Object value)
+    {
+        return findEdges(kind, ClassUtilities.getPropertyKey(kind, propertyName), toPropertyValue(value));
+    }
+
+    /**
+     * Index a vertex property key of the underlying graph, if it is not already indexed.
+     *
+     * @param key the property key
+     */
+    public void createVertexIndex(final String key)
+    {
+        createIndex(key, Vertex.class);
+    }
+
+    /**
+     * Index an edge property key of the underlying graph, if it is not already indexed.
+     *
+     * @param key the property key
+     */
+    public void createEdgeIndex(final String key)
+    {
+        createIndex(key, Edge.class);
+    }
+
+    private <E extends Element> void createIndex(final String key, final Class<E> elementClass)
+    {
+        if (!getBaseGraph().getIndexedKeys(elementClass).contains(key))
+        {
+            getBaseGraph().createIndex(key, elementClass);
+        }
+    }
+
+    private <E extends Element> void countLookup(final Map<String, AtomicInteger> lookups, final String key, final Class<E> elementClass)
+    {
+        int threshold = config.getAutoIndexThreshold();
+        if (threshold <= 0 || getBaseGraph().getIndexedKeys(elementClass).contains(key))
+        {
+            return;
+        }
+        AtomicInteger count = lookups.computeIfAbsent(key, k -> new AtomicInteger());
+        if (count.incrementAndGet() >= threshold)
+        {
+            synchronized (lookups)
+            {
+                createIndex(key, elementClass);
+            }
+            lookups.remove(key);
+        }
+    }
+
+    private void reportFramed(final Class<?> kind, final Element element)
+    {
+        InvocationMetrics metrics = config.getInvocationMetrics();
+        if (metrics != null)
+        {
+            metrics.elementFramed(kind, element);
+        }
+    }
+
+    private void reportAdded(final Class<?> kind, final Element element)
+    {
+        InvocationMetrics metrics = config.getInvocationMetrics();
+        if (metrics != null)
+        {
+            metrics.elementAdded(kind, element);
+        }
+    }
+
+    /**
+     * Convert a value to the form it is stored in, so that it can be compared with stored values.
+     */
+    @SuppressWarnings("unchecked")
+    private Object toPropertyValue(final Object value)
+    {
+        PropertyCodec<Object> codec = value == null ? null : (PropertyCodec<Object>) config.findPropertyCodec(value);
+        return codec == null ? value : codec.encode(value);
+    }
+
+    /**
+     * Get the projection of a frame interface, which reads all of the <code>@Property</code> values of a frame in a single pass over the
+     * properties of its element.
+     *
+     * @param kind the frame interface
+     * @param <F> the frame interface
+     * @return the projection, shared by every call with the same kind
+     */
+    public <F> FrameProjection<F> getProjection(final Class<F> kind)
+    {
+        return config.getProjection(kind);
+    }
+
+    /**
+     * Read the <code>@Property</code> values of frames into records. The frames are read lazily, as the result is iterated.
+     *
+     * @param frames the frames, or their elements
+     * @param kind the frame interface whose <code>@Property</code> getters are read
+     * @return the records, in the order of the frames
+     */
+    public Iterable<PropertyRecord> project(final Iterable<?> frames, final Class<?> kind)
+    {
+        return config.getProjection(kind).projectAll(frames);
+    }
+
+    /**
+     * Create a query over the whole graph. The conditions of the query are evaluated by the underlying graph, using its indices where possible, and
+     * only the matching elements are framed.
+     *
+     * @return a query over the vertices or edges of the graph
+     */
+    public FramedGraphQuery query()
+    {
+        return new FramedGraphQueryImpl(this);
+    }
+
     public Features getFeatures()
     {
         return config.getConfiguredGraph().features();
@@ -360,6 +828,14 @@ public class FramedGraph<T extends TinkerGraph> implements Graph, WrappedGraph<T
         return getBaseGraph().configuration();
     }
 
+    /**
+     * @return Hit and miss counts of the cache of frame constructors used by the frame methods.
+     */
+    public CacheStats getFrameCacheStats()
+    {
+        return config.getFrameConstructorCache().stats();
+    }
+
     public FramedGraphConfiguration getConfig()
     {
         return config;
@@ -1,25 +1,37 @@
 package com.tinkerpop.frames;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 
 import com.tinkerpop.frames.annotations.AnnotationHandler;
 import com.tinkerpop.frames.modules.DefaultClassLoaderResolver;
+import com.tinkerpop.frames.modules.codec.EnumCodec;
 import com.tinkerpop.frames.modules.FrameClassLoaderResolver;
+import com.tinkerpop.frames.modules.FrameFactory;
+import com.tinkerpop.frames.modules.InvocationMetrics;
 import com.tinkerpop.frames.modules.MethodHandler;
 import com.tinkerpop.frames.modules.Module;
+import com.tinkerpop.frames.modules.PropertyCodec;
+import com.tinkerpop.frames.modules.PropertyWriteListener;
+import com.tinkerpop.frames.modules.ProxyFrameFactory;
 import com.tinkerpop.frames.modules.TypeResolver;
 
 /**
  * A configuration for a {@link FramedGraph}. These are supplied to {@link Module}s for each {@link FramedGraph} being create by a
  * {@link FramedGraphFactory}.
  * 
- * Allows registration of {@link AnnotationHandler}s, {@link FrameInitializer}s and {@link TypeResolver}s.
+ * Allows registration of {@link AnnotationHandler}s, {@link FrameInitializer}s, {@link TypeResolver}s, {@link PropertyCodec}s,
+ * {@link PropertyWriteListener}s, the {@link FrameFactory} and {@link InvocationMetrics}.
  * 
  * @author Bryn Cooke
  * 
@@ -28,10 +40,24 @@ public class FramedGraphConfiguration
 {
     private Map<Class<? extends Annotation>, AnnotationHandler<?>> annotationHandlers = new HashMap<Class<? extends Annotation>, AnnotationHandler<?>>();
     private Map<Class<? extends Annotation>, MethodHandler<?>> methodHandlers = new HashMap<Class<? extends Annotation>, MethodHandler<?>>();
+    private Map<Class<?>, PropertyCodec<?>> propertyCodecs = new LinkedHashMap<Class<?>, PropertyCodec<?>>();
+    private List<PropertyWriteListener> propertyWriteListeners = new ArrayList<PropertyWriteListener>();
     private List<FrameInitializer> frameInitializers = new ArrayList<FrameInitializer>();
     private List<TypeResolver> typeResolvers = new ArrayList<TypeResolver>();
     private FrameClassLoaderResolver frameClassLoaderResolver = new DefaultClassLoaderResolver();
+    private FrameFactory frameFactory = new ProxyFrameFactory();
     private TinkerGraph configuredGraph;
+    private volatile ClassValue<Map<Method, MethodDispatch>> dispatchTables = newDispatchTables();
+    private volatile ClassValue<InitializerPlan> vertexInitializerPlans = newInitializerPlans(Vertex.class);
+    private volatile ClassValue<InitializerPlan> edgeInitializerPlans = newInitializerPlans(Edge.class);
+    private volatile ClassValue<FrameProjection<?>> projections = newProjections();
+    private long frameCacheSize = 1024;
+    private long sessionCacheSize = 10000;
+    private long lazyFrameCacheSize;
+    private volatile ElementResolver elementResolver;
+    private volatile FrameConstructorCache frameConstructorCache;
+    private int autoIndexThreshold;
+    private InvocationMetrics invocationMetrics;
 
     /**
      * @param annotationType the type of annotation handled by the annotation handler
@@ -52,6 +78,7 @@ public class FramedGraphConfiguration
                 final Class<? extends Annotation> annotationType)
     {
         getAnnotationHandlers().remove(annotationType);
+        dispatchTables = newDispatchTables();
     }
 
     /**
@@ -60,6 +87,7 @@ public class FramedGraphConfiguration
     void addAnnotationHandler(AnnotationHandler<?> annotationHandler)
     {
         annotationHandlers.put(annotationHandler.getAnnotationType(), annotationHandler);
+        dispatchTables = newDispatchTables();
     }
 
     /**
@@ -68,6 +96,27 @@ public class FramedGraphConfiguration
     public void addMethodHandler(MethodHandler<?> methodHandler)
     {
         methodHandlers.put(methodHandler.getAnnotationType(), methodHandler);
+        dispatchTables = newDispatchTables();
+    }
+
+    /**
+     * @param type The declared type of the values of <code>@Property</code> methods that the codec converts.
+     * @param propertyCodec The {@link PropertyCodec} to add to the {@link FramedGraph}.
+     */
+    public void addPropertyCodec(Class<?> type, PropertyCodec<?> propertyCodec)
+    {
+        propertyCodecs.put(type, propertyCodec);
+        dispatchTables = newDispatchTables();
+        projections = newProjections();
+    }
+
+    /**
+     * @param propertyWriteListener The {@link PropertyWriteListener} to tell about the properties written by <code>@Property</code> methods.
+     */
+    public void addPropertyWriteListener(PropertyWriteListener propertyWriteListener)
+    {
+        propertyWriteListeners.add(propertyWriteListener);
+        dispatchTables = newDispatchTables();
     }
 
     /**
@@ -76,6 +125,8 @@ public class FramedGraphConfiguration
     public void addFrameInitializer(FrameInitializer frameInitializer)
     {
         frameInitializers.add(frameInitializer);
+        vertexInitializerPlans = newInitializerPlans(Vertex.class);
+        edgeInitializerPlans = newInitializerPlans(Edge.class);
     }
 
     /**
@@ -84,11 +135,86 @@ public class FramedGraphConfiguration
     public void addTypeResolver(TypeResolver typeResolver)
     {
         typeResolvers.add(typeResolver);
+        frameConstructorCache = null;
     }
 
     public void setFrameClassLoaderResolver(FrameClassLoaderResolver frameClassLoaderResolver)
     {
         this.frameClassLoaderResolver = frameClassLoaderResolver;
+        frameConstructorCache = null;
+    }
+
+    /**
+     * @param frameFactory The {@link FrameFactory} used to implement frame interfaces.
+     */
+    public void setFrameFactory(FrameFactory frameFactory)
+    {
+        this.frameFactory = frameFactory;
+        frameConstructorCache = null;
+    }
+
+    /**
+     * @param frameCacheSize The maximum number of combinations of resolved types for which the {@link FramedGraph} keeps a ready to use frame
+     *            constructor, per frame kind. Constructors are also dropped when the class loader of their frame kind is discarded.
+     */
+    public void setFrameCacheSize(long frameCacheSize)
+    {
+        this.frameCacheSize = frameCacheSize;
+        frameConstructorCache = null;
+    }
+
+    /**
+     * @param sessionCacheSize The maximum number of frames held by each {@link FrameSession}. Frames are also released once they are no longer
+     *            referenced.
+     */
+    public void setSessionCacheSize(long sessionCacheSize)
+    {
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    long getSessionCacheSize()
+    {
+        return sessionCacheSize;
+    }
+
+    /**
+     * @param lazyFrameCacheSize The maximum number of elements of lazy frames that the {@link FramedGraph} keeps after looking them up by id. Zero,
+     *            the default, looks the element up on every call.
+     */
+    public void setLazyFrameCacheSize(long lazyFrameCacheSize)
+    {
+        this.lazyFrameCacheSize = lazyFrameCacheSize;
+        elementResolver = null;
+    }
+
+    /**
+     * @param autoIndexThreshold The number of lookups by an unindexed key after which the {@link FramedGraph} find methods create an index for the
+     *            key. Zero, the default, disables automatic indexing.
+     */
+    public void setAutoIndexThreshold(int autoIndexThreshold)
+    {
+        this.autoIndexThreshold = autoIndexThreshold;
+    }
+
+    /**
+     * @param invocationMetrics The metrics that frame method calls, framed and added elements and frame cache lookups are reported to, or null to
+     *            take no measurements.
+     */
+    public void setInvocationMetrics(InvocationMetrics invocationMetrics)
+    {
+        this.invocationMetrics = invocationMetrics;
+        dispatchTables = newDispatchTables();
+        frameConstructorCache = null;
+    }
+
+    InvocationMetrics getInvocationMetrics()
+    {
+        return invocationMetrics;
+    }
+
+    int getAutoIndexThreshold()
+    {
+        return autoIndexThreshold;
     }
 
     List<FrameInitializer> getFrameInitializers()
@@ -111,6 +237,47 @@ public class FramedGraphConfiguration
         return frameClassLoaderResolver;
     }
 
+    FrameFactory getFrameFactory()
+    {
+        return frameFactory;
+    }
+
+    FrameConstructorCache getFrameConstructorCache()
+    {
+        FrameConstructorCache cache = frameConstructorCache;
+        if (cache == null)
+        {
+            synchronized (this)
+            {
+                cache = frameConstructorCache;
+                if (cache == null)
+                {
+                    cache = new FrameConstructorCache(this, frameCacheSize);
+                    frameConstructorCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    ElementResolver getElementResolver()
+    {
+        ElementResolver resolver = elementResolver;
+        if (resolver == null)
+        {
+            synchronized (this)
+            {
+                resolver = elementResolver;
+                if (resolver == null)
+                {
+                    resolver = new ElementResolver(lazyFrameCacheSize);
+                    elementResolver = resolver;
+                }
+            }
+        }
+        return resolver;
+    }
+
     public void setConfiguredGraph(TinkerGraph configuredGraph)
     {
         this.configuredGraph = configuredGraph;
@@ -121,8 +288,124 @@ public class FramedGraphConfiguration
         return configuredGraph;
     }
 
+    /**
+     * @param type The declared type of a property.
+     * @return The codec registered for exactly the type, an {@link EnumCodec} for enums, or null if the values are stored as they are.
+     */
+    PropertyCodec<?> getPropertyCodec(Class<?> type)
+    {
+        PropertyCodec<?> codec = propertyCodecs.get(type);
+        return codec == null ? MethodPlan.defaultCodec(type) : codec;
+    }
+
+    /**
+     * @param value A property value.
+     * @return The codec for the class of the value or for the first registered super type of it, or null if the value is stored as it is.
+     */
+    PropertyCodec<?> findPropertyCodec(Object value)
+    {
+        Class<?> type = value instanceof Enum ? ((Enum<?>) value).getDeclaringClass() : value.getClass();
+        PropertyCodec<?> codec = getPropertyCodec(type);
+        if (codec == null)
+        {
+            for (Map.Entry<Class<?>, PropertyCodec<?>> entry : propertyCodecs.entrySet())
+            {
+                if (entry.getKey().isAssignableFrom(type))
+                {
+                    return entry.getValue();
+                }
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * @param key A property key.
+     * @return The listeners that are told about writes of the key.
+     */
+    List<PropertyWriteListener> getPropertyWriteListeners(String key)
+    {
+        List<PropertyWriteListener> listeners = new ArrayList<PropertyWriteListener>();
+        for (PropertyWriteListener listener : propertyWriteListeners)
+        {
+            if (listener.listensTo(key))
+            {
+                listeners.add(listener);
+            }
+        }
+        return listeners;
+    }
+
     Map<Class<? extends Annotation>, MethodHandler<?>> getMethodHandlers()
     {
         return methodHandlers;
     }
+
+    /**
+     * @param frameClass The class of a framed element.
+     * @return The resolved handlers for every method of the frame class. The table is built once per class, the first time it is requested, and is
+     *         never modified afterwards.
+     */
+    Map<Method, MethodDispatch> getDispatchTable(Class<?> frameClass)
+    {
+        return dispatchTables.get(frameClass);
+    }
+
+    private ClassValue<Map<Method, MethodDispatch>> newDispatchTables()
+    {
+        return new ClassValue<Map<Method, MethodDispatch>>()
+        {
+            @Override
+            protected Map<Method, MethodDispatch> computeValue(Class<?> frameClass)
+            {
+                return MethodDispatch.resolveAll(FramedGraphConfiguration.this, frameClass.getInterfaces());
+            }
+        };
+    }
+
+    /**
+     * @param kind The kind of frame of a new element.
+     * @param elementType Either {@link Vertex} or {@link Edge}.
+     * @return The initializers that apply to new elements of the kind. The plan is built once per kind, the first time it is requested.
+     */
+    InitializerPlan getInitializerPlan(Class<?> kind, Class<? extends Element> elementType)
+    {
+        return (elementType == Edge.class ? edgeInitializerPlans : vertexInitializerPlans).get(kind);
+    }
+
+    private ClassValue<InitializerPlan> newInitializerPlans(final Class<? extends Element> elementType)
+    {
+        return new ClassValue<InitializerPlan>()
+        {
+            @Override
+            protected InitializerPlan computeValue(Class<?> kind)
+            {
+                return new InitializerPlan(frameInitializers, kind, elementType);
+            }
+        };
+    }
+
+    /**
+     * @param kind A frame interface.
+     * @return The projection of the <code>@Property</code> getters of the interface. The projection is built once per interface, the first time it is
+     *         requested.
+     */
+    @SuppressWarnings("unchecked")
+    <F> FrameProjection<F> getProjection(Class<F> kind)
+    {
+        return (FrameProjection<F>) projections.get(kind);
+    }
+
+    private ClassValue<FrameProjection<?>> newProjections()
+    {
+        return new ClassValue<FrameProjection<?>>()
+        {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected FrameProjection<?> computeValue(Class<?> kind)
+            {
+                return new FrameProjection<Object>((Class<Object>) kind, FramedGraphConfiguration.this);
+            }
+        };
+    }
 }
@@ -1,5 +1,7 @@
 package com.tinkerpop.frames;
 
+import java.util.function.Predicate;
+
 /**
  * GraphQuery that allows framing of results.
  * 
@@ -14,6 +16,8 @@ public interface FramedGraphQuery
 
     FramedGraphQuery has(String key, Object value);
 
+    FramedGraphQuery has(String key, Predicate predicate);
+
     FramedGraphQuery limit(int limit);
 
     /**
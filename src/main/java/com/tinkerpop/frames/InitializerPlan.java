@@ -0,0 +1,70 @@
+package com.tinkerpop.frames;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+/**
+ * The {@link FrameInitializer}s that have work to do for new elements of one frame kind, split into those that work on the element and those that
+ * work through its frame. Plans are built once per kind by {@link FramedGraphConfiguration} and never modified afterwards.
+ */
+final class InitializerPlan
+{
+    private final FrameInitializer[] elementInitializers;
+    private final FramedElementInitializer[] frameInitializers;
+
+    InitializerPlan(List<FrameInitializer> initializers, Class<?> kind, Class<? extends Element> elementType)
+    {
+        List<FrameInitializer> elementInitializers = new ArrayList<FrameInitializer>();
+        List<FramedElementInitializer> frameInitializers = new ArrayList<FramedElementInitializer>();
+        for (FrameInitializer initializer : initializers)
+        {
+            if (!initializer.appliesTo(kind, elementType))
+            {
+                continue;
+            }
+            if (initializer instanceof FramedElementInitializer)
+            {
+                frameInitializers.add((FramedElementInitializer) initializer);
+            }
+            else
+            {
+                elementInitializers.add(initializer);
+            }
+        }
+        this.elementInitializers = elementInitializers.toArray(new FrameInitializer[elementInitializers.size()]);
+        this.frameInitializers = frameInitializers.toArray(new FramedElementInitializer[frameInitializers.size()]);
+    }
+
+    /**
+     * Run the initializers that work on the element. This happens before the element is framed, so that type fields written here are seen by the
+     * type resolvers.
+     */
+    void initElement(Class<?> kind, FramedGraph<?> framedGraph, Element element)
+    {
+        for (FrameInitializer initializer : elementInitializers)
+        {
+            initializer.initElement(kind, framedGraph, element);
+        }
+    }
+
+    /**
+     * Run the initializers that work through the frame of the element.
+     */
+    void initFrame(Class<?> kind, FramedGraph<?> framedGraph, Element element, Object frame)
+    {
+        for (FramedElementInitializer initializer : frameInitializers)
+        {
+            initializer.initFrame(kind, framedGraph, element, frame);
+        }
+    }
+
+    /**
+     * @return true if an initializer needs the frame of new elements, so that they have to be framed even if the caller does not need the frame.
+     */
+    boolean hasFrameInitializers()
+    {
+        return frameInitializers.length > 0;
+    }
+}
@@ -0,0 +1,73 @@
+package com.tinkerpop.frames;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.MutationListener;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+
+/**
+ * Evicts the elements that a traversal removes from the lazy frame cache of a {@link FramedGraph}. Events carry detached elements, so elements
+ * are evicted by id.
+ */
+class LazyFrameCacheListener implements MutationListener
+{
+    private final FramedGraph<?> framedGraph;
+
+    LazyFrameCacheListener(FramedGraph<?> framedGraph)
+    {
+        this.framedGraph = framedGraph;
+    }
+
+    @Override
+    public void vertexAdded(Vertex vertex)
+    {
+    }
+
+    @Override
+    public void vertexRemoved(Vertex vertex)
+    {
+        framedGraph.getConfig().getElementResolver().invalidate(vertex.id(), true);
+    }
+
+    @Override
+    public void vertexPropertyChanged(Vertex vertex, Property oldValue, Object setValue, Object... vertexPropertyKeyValues)
+    {
+    }
+
+    @Override
+    public void vertexPropertyRemoved(VertexProperty vertexProperty)
+    {
+    }
+
+    @Override
+    public void edgeAdded(Edge edge)
+    {
+    }
+
+    @Override
+    public void edgeRemoved(Edge edge)
+    {
+        framedGraph.getConfig().getElementResolver().invalidate(edge.id(), false);
+    }
+
+    @Override
+    public void edgePropertyChanged(Edge edge, Property oldValue, Object setValue)
+    {
+    }
+
+    @Override
+    public void edgePropertyRemoved(Edge edge, Property property)
+    {
+    }
+
+    @Override
+    public void vertexPropertyPropertyChanged(VertexProperty element, Property oldValue, Object setValue)
+    {
+    }
+
+    @Override
+    public void vertexPropertyPropertyRemoved(VertexProperty element, Property property)
+    {
+    }
+}
@@ -0,0 +1,98 @@
+package com.tinkerpop.frames;
+
+import java.lang.reflect.Proxy;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+/**
+ * The proxy class of a lazy frame. Only the id of the element is held, and the element is looked up in the graph each time a method of the frame
+ * is called, through the cache configured with {@link FramedGraphConfiguration#setLazyFrameCacheSize(long)}.
+ *
+ * @see FramedGraph#frameLazily(org.apache.tinkerpop.gremlin.structure.Vertex, Class)
+ */
+public class LazyFramedElement extends FramedElement
+{
+    private final Object id;
+    private final Class<? extends Element> elementType;
+
+    /**
+     * @param id The id of the element.
+     * @param elementType Either {@link org.apache.tinkerpop.gremlin.structure.Vertex} or {@link org.apache.tinkerpop.gremlin.structure.Edge}.
+     */
+    public LazyFramedElement(final FramedGraph framedGraph, final Object id, final Class<? extends Element> elementType, final Direction direction)
+    {
+        super(framedGraph, direction);
+        if (null == id)
+        {
+            throw new IllegalArgumentException("Element id can not be null");
+        }
+        this.id = id;
+        this.elementType = elementType;
+    }
+
+    /**
+     * @return The id of the element, without looking the element up.
+     */
+    public Object getId()
+    {
+        return this.id;
+    }
+
+    @Override
+    public Element getElement()
+    {
+        return this.framedGraph.getConfig().getElementResolver().resolve(this.framedGraph.getBaseGraph(), this.id, this.elementType);
+    }
+
+    /**
+     * The hash code of the id, which is the hash code of the element, without looking the element up.
+     */
+    @Override
+    protected int frameHashCode()
+    {
+        return this.id.hashCode();
+    }
+
+    /**
+     * Compares ids, so that lazy frames can be compared, and removed from collections, without looking their elements up, even once the elements
+     * have been removed.
+     */
+    @Override
+    protected boolean frameEquals(final Object other)
+    {
+        if (other instanceof Proxy && Proxy.getInvocationHandler(other) instanceof LazyFramedElement)
+        {
+            LazyFramedElement lazy = (LazyFramedElement) Proxy.getInvocationHandler(other);
+            return this.elementType == lazy.elementType && this.id.equals(lazy.id);
+        }
+        Element element;
+        if (other instanceof VertexFrame)
+        {
+            element = ((VertexFrame) other).asVertex();
+        }
+        else if (other instanceof EdgeFrame)
+        {
+            element = ((EdgeFrame) other).asEdge();
+        }
+        else if (other instanceof Element)
+        {
+            element = (Element) other;
+        }
+        else
+        {
+            return false;
+        }
+        return this.elementType.isInstance(element) && this.id.equals(element.id());
+    }
+
+    /**
+     * The id, in the form of the string of a vertex or an edge, without looking the element up.
+     */
+    @Override
+    protected String frameToString()
+    {
+        return (this.elementType == Edge.class ? "e[" : "v[") + this.id + "]";
+    }
+}
@@ -0,0 +1,334 @@
+package com.tinkerpop.frames;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.annotations.AnnotationHandler;
+import com.tinkerpop.frames.annotations.PlannedAnnotationHandler;
+import com.tinkerpop.frames.jfr.FramesEvents;
+import com.tinkerpop.frames.modules.InvocationMetrics;
+import com.tinkerpop.frames.modules.MethodHandler;
+import com.tinkerpop.frames.modules.MethodMetrics;
+import com.tinkerpop.frames.modules.PlannedMethodHandler;
+
+/**
+ * The resolved handler for a single method of a frame interface. Resolution follows the same rules for every frame implementation: the annotated
+ * declaration of the method is located on the most specific interface, {@link MethodHandler}s take precedence over {@link AnnotationHandler}s and the
+ * first annotation with a registered handler wins. The {@link MethodPlan} of a handled method is compiled with the dispatch and passed to
+ * {@link PlannedMethodHandler}s and {@link PlannedAnnotationHandler}s. If {@link InvocationMetrics} are registered then calls of handled methods are
+ * timed.
+ */
+public final class MethodDispatch
+{
+    private static final Method[] OBJECT_METHODS;
+
+    static
+    {
+        try
+        {
+            OBJECT_METHODS = new Method[] { Object.class.getMethod("hashCode"), Object.class.getMethod("equals", Object.class),
+                        Object.class.getMethod("toString") };
+        }
+        catch (NoSuchMethodException e)
+        {
+            throw new NoSuchMethodError(e.getMessage());
+        }
+    }
+
+    private static final Class<?>[] METHOD_HANDLER_PARAMETERS = { Object.class, Method.class, Object[].class, Annotation.class, FramedGraph.class,
+                Element.class };
+    private static final Class<?>[] PLANNED_METHOD_HANDLER_PARAMETERS = { Object.class, MethodPlan.class, Object[].class, FramedGraph.class,
+                Element.class };
+    private static final Class<?>[] ANNOTATION_HANDLER_PARAMETERS = { Annotation.class, Method.class, Object[].class, FramedGraph.class,
+                Element.class, Direction.class };
+    private static final Class<?>[] PLANNED_ANNOTATION_HANDLER_PARAMETERS = { MethodPlan.class, Object[].class, FramedGraph.class, Element.class,
+                Direction.class };
+
+    private final Method method;
+    private final Annotation annotation;
+    private final MethodHandler methodHandler;
+    private final AnnotationHandler annotationHandler;
+    private final MethodMetrics metrics;
+    private final MethodPlan plan;
+    private final PlannedMethodHandler plannedMethodHandler;
+    private final PlannedAnnotationHandler plannedAnnotationHandler;
+
+    private MethodDispatch(Method method, Annotation annotation, MethodHandler<?> methodHandler, AnnotationHandler<?> annotationHandler,
+                FramedGraphConfiguration config)
+    {
+        this.method = method;
+        this.annotation = annotation;
+        this.methodHandler = methodHandler;
+        this.annotationHandler = annotationHandler;
+        InvocationMetrics invocationMetrics = config.getInvocationMetrics();
+        this.metrics = invocationMetrics == null || !isHandled() ? null : invocationMetrics.forMethod(method);
+        this.plan = isHandled() ? MethodPlan.compile(method, annotation, config) : null;
+        this.plannedMethodHandler = methodHandler instanceof PlannedMethodHandler
+                    && callsPlan(methodHandler.getClass(), PLANNED_METHOD_HANDLER_PARAMETERS, METHOD_HANDLER_PARAMETERS)
+                    ? (PlannedMethodHandler) methodHandler : null;
+        this.plannedAnnotationHandler = annotationHandler instanceof PlannedAnnotationHandler
+                    && callsPlan(annotationHandler.getClass(), PLANNED_ANNOTATION_HANDLER_PARAMETERS, ANNOTATION_HANDLER_PARAMETERS)
+                    ? (PlannedAnnotationHandler) annotationHandler : null;
+        if (plannedMethodHandler != null)
+        {
+            plan.setHandlerState(plannedMethodHandler.prepare(plan));
+        }
+    }
+
+    /**
+     * A planned handler is only called with the plan if its planned <code>processElement</code> method is declared no higher in the class hierarchy
+     * than its unplanned one. Otherwise a subclass has overridden the unplanned method, and calling the planned method would bypass it.
+     */
+    private static boolean callsPlan(Class<?> handlerClass, Class<?>[] plannedParameters, Class<?>[] parameters)
+    {
+        try
+        {
+            Class<?> plannedDeclarer = handlerClass.getMethod("processElement", plannedParameters).getDeclaringClass();
+            Class<?> declarer = handlerClass.getMethod("processElement", parameters).getDeclaringClass();
+            return declarer.isAssignableFrom(plannedDeclarer);
+        }
+        catch (NoSuchMethodException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Resolve the handler for a method called on a frame implementing the given interfaces.
+     *
+     * @param config The configuration of the graph the frame belongs to.
+     * @param interfaces The interfaces implemented by the frame.
+     * @param originalMethod The method being called. This may be declared on a super interface or on {@link Object}.
+     * @return The dispatch for the method. If no handler is registered for the method then {@link #isHandled()} will return false.
+     */
+    public static MethodDispatch resolve(FramedGraphConfiguration config, Class<?>[] interfaces, Method originalMethod)
+    {
+        Method method = findAnnotatedMethod(interfaces, originalMethod);
+
+        Annotation[] annotations = method.getAnnotations();
+        Map<Class<? extends Annotation>, MethodHandler<?>> methodHandlers = config.getMethodHandlers();
+        for (final Annotation annotation : annotations)
+        {
+            MethodHandler<?> methodHandler = methodHandlers.get(annotation.annotationType());
+            if (methodHandler != null)
+            {
+                return new MethodDispatch(method, annotation, methodHandler, null, config);
+            }
+        }
+        Map<Class<? extends Annotation>, AnnotationHandler<?>> annotationHandlers = config.getAnnotationHandlers();
+        for (final Annotation annotation : annotations)
+        {
+            AnnotationHandler<?> annotationHandler = annotationHandlers.get(annotation.annotationType());
+            if (annotationHandler != null)
+            {
+                return new MethodDispatch(method, annotation, null, annotationHandler, config);
+            }
+        }
+        return new MethodDispatch(method, null, null, null, config);
+    }
+
+    /**
+     * Resolve every method of a frame class up front.
+     *
+     * @param config The configuration of the graph the frame belongs to.
+     * @param interfaces The interfaces implemented by the frame.
+     * @return The dispatch for each method of the interfaces and for the methods of {@link Object} that proxies forward.
+     */
+    static Map<Method, MethodDispatch> resolveAll(FramedGraphConfiguration config, Class<?>[] interfaces)
+    {
+        Map<Method, MethodDispatch> table = new HashMap<Method, MethodDispatch>();
+        for (Class<?> type : interfaces)
+        {
+            for (Method method : type.getMethods())
+            {
+                if (!table.containsKey(method))
+                {
+                    table.put(method, resolve(config, interfaces, method));
+                }
+            }
+        }
+        for (Method method : OBJECT_METHODS)
+        {
+            table.put(method, resolve(config, interfaces, method));
+        }
+        return table;
+    }
+
+    /**
+     * Try to find the method on one of the frame's interfaces. The passed in method is often from a super interface or from the proxy object itself, so
+     * we need to make sure we find the method that the user actually intended.
+     */
+    static Method findAnnotatedMethod(Class<?>[] interfaces, Method originalMethod)
+    {
+        Method method = null;
+        Class<?> methodInterface = null;
+        for (Class<?> c : interfaces)
+        {
+            if (method != null && c.isAssignableFrom(methodInterface))
+            {
+                // don't search this class if we already have found a method from a subclass of it
+                continue;
+            }
+
+            for (Method interfaceMethod : c.getMethods())
+            {
+                if (compareMethods(originalMethod, interfaceMethod))
+                {
+                    if (interfaceMethod.getAnnotations().length > 0)
+                    {
+                        method = interfaceMethod;
+                        methodInterface = c;
+                    }
+                    break;
+                }
+            }
+        }
+        return method == null ? originalMethod : method;
+    }
+
+    /**
+     * Returns true if the two methods have the same arguments, return types, and method names.
+     */
+    private static boolean compareMethods(Method m1, Method m2)
+    {
+        if (!m1.getName().equals(m2.getName()))
+        {
+            return false;
+        }
+        if (!m1.getReturnType().equals(m2.getReturnType()))
+        {
+            return false;
+        }
+        Class<?>[] params1 = m1.getParameterTypes();
+        Class<?>[] params2 = m2.getParameterTypes();
+        if (params1.length == params2.length)
+        {
+            for (int i = 0; i < params1.length; i++)
+            {
+                if (params1[i] != params2[i])
+                    return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if a handler is registered for the method.
+     */
+    public boolean isHandled()
+    {
+        return methodHandler != null || annotationHandler != null;
+    }
+
+    /**
+     * @return The annotated declaration of the method.
+     */
+    public Method getMethod()
+    {
+        return method;
+    }
+
+    /**
+     * @return The annotation that selected the handler, or null if the method is not handled.
+     */
+    public Annotation getAnnotation()
+    {
+        return annotation;
+    }
+
+    /**
+     * @return The plan of the method, compiled when the method was resolved, or null if the method is not handled.
+     */
+    public MethodPlan<?> getPlan()
+    {
+        return plan;
+    }
+
+    /**
+     * @return The method handler for the method, or null if the method is handled by an {@link AnnotationHandler}.
+     */
+    public MethodHandler<?> getMethodHandler()
+    {
+        return methodHandler;
+    }
+
+    /**
+     * @return The metrics that calls of the method are recorded in, or null if calls are not measured.
+     */
+    public MethodMetrics getMethodMetrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * Call the handler for the method.
+     *
+     * @param frame The frame upon which the method is being called.
+     * @param arguments The arguments to the method.
+     * @param framedGraph The graph being called.
+     * @param element The underlying element.
+     * @param direction The direction of the edge.
+     * @return A return value for the method.
+     */
+    public Object invoke(Object frame, Object[] arguments, FramedGraph<?> framedGraph, Element element, Direction direction)
+    {
+        Object event = FramesEvents.begin(FramesEvents.Kind.DISPATCH);
+        if (metrics == null && !FramesEvents.isRecording(event))
+        {
+            return dispatch(frame, arguments, framedGraph, element, direction);
+        }
+        long start = metrics == null ? 0 : System.nanoTime();
+        try
+        {
+            return dispatch(frame, arguments, framedGraph, element, direction);
+        }
+        finally
+        {
+            if (metrics != null)
+            {
+                metrics.record(System.nanoTime() - start);
+            }
+            FramesEvents.commit(event, method.getDeclaringClass(), method, element.id());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object dispatch(Object frame, Object[] arguments, FramedGraph<?> framedGraph, Element element, Direction direction)
+    {
+        if (plannedMethodHandler != null)
+        {
+            return plannedMethodHandler.processElement(frame, plan, arguments, framedGraph, element);
+        }
+        else if (plannedAnnotationHandler != null)
+        {
+            return plannedAnnotationHandler.processElement(plan, arguments, framedGraph, element, direction);
+        }
+        else if (methodHandler != null)
+        {
+            return methodHandler.processElement(frame, method, arguments, annotation, framedGraph, element);
+        }
+        else if (annotationHandler != null)
+        {
+            return annotationHandler.processElement(annotation, method, arguments, framedGraph, element, direction);
+        }
+        throw unhandled();
+    }
+
+    UnhandledMethodException unhandled()
+    {
+        if (method.getAnnotations().length == 0)
+        {
+            return new UnhandledMethodException("The method " + method.getDeclaringClass().getName() + "." + method.getName()
+                        + " has no annotations, therefore frames cannot handle the method.");
+        }
+
+        return new UnhandledMethodException("The method " + method.getDeclaringClass().getName() + "." + method.getName()
+                    + " was not annotated with any annotations that the framed graph is configured for. Please check your frame interface and/or graph configuration.");
+    }
+}
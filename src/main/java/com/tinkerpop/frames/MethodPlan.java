@@ -0,0 +1,344 @@
+package com.tinkerpop.frames;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import com.tinkerpop.frames.annotations.PlannedAnnotationHandler;
+import com.tinkerpop.frames.modules.PlannedMethodHandler;
+import com.tinkerpop.frames.modules.PropertyCodec;
+import com.tinkerpop.frames.modules.PropertyWriteListener;
+import com.tinkerpop.frames.modules.codec.EnumCodec;
+
+/**
+ * The static facts about a frame method that handlers would otherwise derive from the method on every call: the kind of operation named by the
+ * method, the property key or edge label and direction of its annotation, the kind of frame it reads or writes, the shape of its return value and
+ * the {@link PropertyCodec} of its property values and the {@link PropertyWriteListener}s of the properties it writes.
+ * A plan is compiled once per frame interface method, when the method is resolved, and handed to {@link PlannedMethodHandler}s and
+ * {@link PlannedAnnotationHandler}s on every call. Plans are immutable.
+ *
+ * @param <T> The type of annotation that selected the handler of the method.
+ */
+public final class MethodPlan<T extends Annotation>
+{
+    /**
+     * The operation named by the prefix of the method name.
+     */
+    public enum Operation
+    {
+        /**
+         * <code>getX()</code>, or <code>isX()</code> and <code>canX()</code> returning a boolean.
+         */
+        GET,
+        /**
+         * <code>setX(...)</code>.
+         */
+        SET,
+        /**
+         * <code>addX(...)</code>.
+         */
+        ADD,
+        /**
+         * <code>removeX(...)</code>.
+         */
+        REMOVE,
+        /**
+         * <code>hasX(...)</code> returning a boolean.
+         */
+        HAS,
+        /**
+         * Any other method name.
+         */
+        OTHER
+    }
+
+    /**
+     * The shape of the return value of the method.
+     */
+    public enum ReturnShape
+    {
+        VOID,
+        PRIMITIVE,
+        ENUM,
+        ITERABLE,
+        MAP,
+        /**
+         * A super type of the interface declaring the method, so that the frame itself may be returned.
+         */
+        SELF,
+        OBJECT
+    }
+
+    private final Method method;
+    private final T annotation;
+    private final Operation operation;
+    private final String key;
+    private final Direction direction;
+    private final Class<?> frameKind;
+    private final ReturnShape returnShape;
+    private final boolean acceptsIterable;
+    private final PropertyCodec<Object> codec;
+    private final List<PropertyWriteListener> writeListeners;
+    // Set once by the dispatch that compiled the plan, before the dispatch is published.
+    private Object handlerState;
+
+    private MethodPlan(Method method, T annotation, FramedGraphConfiguration config)
+    {
+        this.method = method;
+        this.annotation = annotation;
+        this.operation = operationOf(method);
+        if (annotation instanceof Property)
+        {
+            this.key = ((Property) annotation).value();
+            this.direction = null;
+        }
+        else if (annotation instanceof Adjacency)
+        {
+            this.key = ((Adjacency) annotation).label();
+            this.direction = ((Adjacency) annotation).direction();
+        }
+        else if (annotation instanceof Incidence)
+        {
+            this.key = ((Incidence) annotation).label();
+            this.direction = ((Incidence) annotation).direction();
+        }
+        else
+        {
+            this.key = null;
+            this.direction = null;
+        }
+        this.frameKind = frameKindOf(method);
+        this.returnShape = returnShapeOf(method);
+        this.acceptsIterable = ClassUtilities.acceptsIterable(method);
+        this.codec = annotation instanceof Property ? codecOf(method, operation, config) : null;
+        this.writeListeners = annotation instanceof Property && config != null && (operation == Operation.SET || operation == Operation.REMOVE)
+                    ? Collections.unmodifiableList(config.getPropertyWriteListeners(key)) : Collections.<PropertyWriteListener> emptyList();
+    }
+
+    /**
+     * Compile the plan of a method. Only the default {@link PropertyCodec}s are used, and no {@link PropertyWriteListener}s.
+     *
+     * @param method The annotated declaration of the method.
+     * @param annotation The annotation that selected the handler of the method.
+     * @return The plan.
+     */
+    public static <T extends Annotation> MethodPlan<T> compile(Method method, T annotation)
+    {
+        return new MethodPlan<T>(method, annotation, null);
+    }
+
+    /**
+     * Compile the plan of a method with the {@link PropertyCodec}s and {@link PropertyWriteListener}s registered on a configuration.
+     */
+    static <T extends Annotation> MethodPlan<T> compile(Method method, T annotation, FramedGraphConfiguration config)
+    {
+        return new MethodPlan<T>(method, annotation, config);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PropertyCodec<Object> codecOf(Method method, Operation operation, FramedGraphConfiguration config)
+    {
+        Class<?> type;
+        if (operation == Operation.GET)
+        {
+            type = method.getReturnType();
+        }
+        else if (operation == Operation.SET && method.getParameterTypes().length > 0)
+        {
+            type = method.getParameterTypes()[0];
+        }
+        else
+        {
+            return null;
+        }
+        return (PropertyCodec<Object>) (config == null ? defaultCodec(type) : config.getPropertyCodec(type));
+    }
+
+    /**
+     * @return The codec used for values of the type unless another codec is registered for it.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static PropertyCodec<?> defaultCodec(Class<?> type)
+    {
+        return type.isEnum() ? EnumCodec.of((Class) type) : null;
+    }
+
+    private static Operation operationOf(Method method)
+    {
+        if (ClassUtilities.isHasMethod(method))
+        {
+            return Operation.HAS;
+        }
+        else if (ClassUtilities.isGetMethod(method))
+        {
+            return Operation.GET;
+        }
+        else if (ClassUtilities.isSetMethod(method))
+        {
+            return Operation.SET;
+        }
+        else if (ClassUtilities.isAddMethod(method))
+        {
+            return Operation.ADD;
+        }
+        else if (ClassUtilities.isRemoveMethod(method))
+        {
+            return Operation.REMOVE;
+        }
+        return Operation.OTHER;
+    }
+
+    private static ReturnShape returnShapeOf(Method method)
+    {
+        Class<?> returnType = method.getReturnType();
+        if (returnType == Void.TYPE)
+        {
+            return ReturnShape.VOID;
+        }
+        else if (returnType.isPrimitive())
+        {
+            return ReturnShape.PRIMITIVE;
+        }
+        else if (returnType.isEnum())
+        {
+            return ReturnShape.ENUM;
+        }
+        else if (ClassUtilities.returnsIterable(method))
+        {
+            return ReturnShape.ITERABLE;
+        }
+        else if (ClassUtilities.returnsMap(method))
+        {
+            return ReturnShape.MAP;
+        }
+        else if (returnType.isAssignableFrom(method.getDeclaringClass()))
+        {
+            return ReturnShape.SELF;
+        }
+        return ReturnShape.OBJECT;
+    }
+
+    /**
+     * The generic element type of the return type, as {@link ClassUtilities#getGenericClass(Method)} finds it, or the return type itself if it can
+     * not be resolved to a class.
+     */
+    private static Class<?> frameKindOf(Method method)
+    {
+        try
+        {
+            return ClassUtilities.getGenericClass(method);
+        }
+        catch (RuntimeException e)
+        {
+            // Generic array types are not resolved. Handlers that need the generic type fail when they are called, as they did before.
+            return method.getReturnType();
+        }
+    }
+
+    /**
+     * @return The annotated declaration of the method.
+     */
+    public Method getMethod()
+    {
+        return method;
+    }
+
+    /**
+     * @return The annotation that selected the handler of the method.
+     */
+    public T getAnnotation()
+    {
+        return annotation;
+    }
+
+    /**
+     * @return The operation named by the method.
+     */
+    public Operation getOperation()
+    {
+        return operation;
+    }
+
+    /**
+     * @return The property key of a <code>@Property</code> method or the edge label of an <code>@Adjacency</code> or <code>@Incidence</code>
+     *         method, or null for other annotations.
+     */
+    public String getKey()
+    {
+        return key;
+    }
+
+    /**
+     * @return The edge direction of an <code>@Adjacency</code> or <code>@Incidence</code> method, or null for other annotations.
+     */
+    public Direction getDirection()
+    {
+        return direction;
+    }
+
+    /**
+     * @return The kind of frame returned by the method: the element type of a returned iterable, the key type of a returned map, or the return type
+     *         itself.
+     */
+    public Class<?> getFrameKind()
+    {
+        return frameKind;
+    }
+
+    /**
+     * @return The shape of the return value.
+     */
+    public ReturnShape getReturnShape()
+    {
+        return returnShape;
+    }
+
+    /**
+     * @return true if the method takes a single {@link Iterable} argument.
+     */
+    public boolean acceptsIterable()
+    {
+        return acceptsIterable;
+    }
+
+    /**
+     * @return The codec for the values of a <code>@Property</code> getter or setter, or null if the values are stored as they are.
+     */
+    public PropertyCodec<Object> getCodec()
+    {
+        return codec;
+    }
+
+    /**
+     * @return The listeners to tell once a <code>@Property</code> setter or remover has written its property. Empty for other methods.
+     */
+    public List<PropertyWriteListener> getWriteListeners()
+    {
+        return writeListeners;
+    }
+
+    /**
+     * @return What the {@link PlannedMethodHandler} of the method prepared for its calls, or null if it prepared nothing or the plan was not
+     *         compiled by a framed graph.
+     * @see PlannedMethodHandler#prepare(MethodPlan)
+     */
+    public Object getHandlerState()
+    {
+        return handlerState;
+    }
+
+    void setHandlerState(Object handlerState)
+    {
+        this.handlerState = handlerState;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MethodPlan[" + method.getDeclaringClass().getName() + "." + method.getName() + ", " + operation + ", " + returnShape
+                    + (key == null ? "" : ", " + key) + (direction == null ? "" : ", " + direction) + "]";
+    }
+}
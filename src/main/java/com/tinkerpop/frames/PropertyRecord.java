@@ -0,0 +1,107 @@
+package com.tinkerpop.frames;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The <code>@Property</code> values of one element, read by a {@link FrameProjection}. The values are held in an array in the order of
+ * {@link FrameProjection#getPropertyNames()}; absent properties are null.
+ */
+public final class PropertyRecord
+{
+    private final FrameProjection<?> projection;
+    private final Object id;
+    private final Object[] values;
+
+    PropertyRecord(FrameProjection<?> projection, Object id, Object[] values)
+    {
+        this.projection = projection;
+        this.id = id;
+        this.values = values;
+    }
+
+    /**
+     * @return The projection that read the record.
+     */
+    public FrameProjection<?> getProjection()
+    {
+        return projection;
+    }
+
+    /**
+     * @return The id of the element.
+     */
+    public Object getId()
+    {
+        return id;
+    }
+
+    /**
+     * @param index The index of a property in the projection.
+     * @return The value of the property, or null if the element does not have it.
+     */
+    public Object get(int index)
+    {
+        return values[index];
+    }
+
+    /**
+     * @param propertyName The bean property name, for example "name" for getName().
+     * @return The value of the property, or null if the element does not have it.
+     * @throws IllegalArgumentException if the frame has no <code>@Property</code> getter for the property
+     */
+    public Object get(String propertyName)
+    {
+        int index = projection.indexOf(propertyName);
+        if (index < 0)
+        {
+            throw new IllegalArgumentException("No @Property getter found for property '" + propertyName + "' of " + projection.getKind().getName());
+        }
+        return values[index];
+    }
+
+    /**
+     * @return The number of values, which is the size of the projection.
+     */
+    public int size()
+    {
+        return values.length;
+    }
+
+    /**
+     * @return A copy of the values, keyed by bean property name in the order of the projection.
+     */
+    public Map<String, Object> asMap()
+    {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < values.length; i++)
+        {
+            map.put(projection.getPropertyNames().get(i), values[i]);
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (!(other instanceof PropertyRecord))
+        {
+            return false;
+        }
+        PropertyRecord record = (PropertyRecord) other;
+        return projection == record.projection && id.equals(record.id) && Arrays.deepEquals(values, record.values);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * id.hashCode() + Arrays.deepHashCode(values);
+    }
+
+    @Override
+    public String toString()
+    {
+        return projection.getKind().getSimpleName() + "[" + id + "]" + asMap();
+    }
+}
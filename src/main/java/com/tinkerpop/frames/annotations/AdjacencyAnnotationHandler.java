@@ -1,19 +1,25 @@
 package com.tinkerpop.frames.annotations;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.tinkerpop.frames.Adjacency;
-import com.tinkerpop.frames.ClassUtilities;
 import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.MethodPlan;
 import com.tinkerpop.frames.VertexFrame;
 import com.tinkerpop.frames.structures.FramedVertexIterable;
 
-public class AdjacencyAnnotationHandler implements AnnotationHandler<Adjacency>
+public class AdjacencyAnnotationHandler implements PlannedAnnotationHandler<Adjacency>
 {
 
     @Override
@@ -25,10 +31,17 @@ public class AdjacencyAnnotationHandler implements AnnotationHandler<Adjacency>
     @Override
     public Object processElement(final Adjacency annotation, final Method method, final Object[] arguments, final FramedGraph framedGraph,
                 final Element element, final Direction direction)
+    {
+        return processElement(MethodPlan.compile(method, annotation), arguments, framedGraph, element, direction);
+    }
+
+    @Override
+    public Object processElement(final MethodPlan<Adjacency> plan, final Object[] arguments, final FramedGraph<?> framedGraph,
+                final Element element, final Direction direction)
     {
         if (element instanceof Vertex)
         {
-            return processVertex(annotation, method, arguments, framedGraph, (Vertex) element);
+            return processVertex(plan, arguments, framedGraph, (Vertex) element);
         }
         else
         {
@@ -39,30 +52,37 @@ public class AdjacencyAnnotationHandler implements AnnotationHandler<Adjacency>
     public Object processVertex(final Adjacency adjacency, final Method method, final Object[] arguments, final FramedGraph framedGraph,
                 final Vertex vertex)
     {
-        if (ClassUtilities.isGetMethod(method))
+        return processVertex(MethodPlan.compile(method, adjacency), arguments, framedGraph, vertex);
+    }
+
+    public Object processVertex(final MethodPlan<Adjacency> plan, final Object[] arguments, final FramedGraph<?> framedGraph, final Vertex vertex)
+    {
+        final Adjacency adjacency = plan.getAnnotation();
+        final Method method = plan.getMethod();
+        switch (plan.getOperation())
         {
-            Iterable<Vertex> verticesIterable = () -> vertex.vertices(adjacency.direction(), adjacency.label());
-            final FramedVertexIterable r = new FramedVertexIterable(framedGraph, verticesIterable,
-                        ClassUtilities.getGenericClass(method));
-            if (ClassUtilities.returnsIterable(method))
+        case HAS:
+            if (arguments == null || arguments[0] == null)
+                throw new IllegalArgumentException("null passed to @Adjacency " + method.getName() + " labelled " + adjacency.label());
+            return getEdges(vertex, adjacency.direction(), adjacency.label(), ((VertexFrame) arguments[0]).asVertex()).hasNext();
+        case GET:
+            if (plan.getReturnShape() == MethodPlan.ReturnShape.ITERABLE)
             {
-                return r;
+                Iterable<Vertex> verticesIterable = () -> vertex.vertices(adjacency.direction(), adjacency.label());
+                return new FramedVertexIterable(framedGraph, verticesIterable, plan.getFrameKind());
             }
             else
             {
-                return r.iterator().hasNext() ? r.iterator().next() : null;
+                return getAdjacentVertex(plan, framedGraph, vertex);
             }
-        }
-        else if (ClassUtilities.isAddMethod(method))
-        {
-            Class<?> returnType = method.getReturnType();
+        case ADD:
             Vertex newVertex;
             Object returnValue = null;
             if (arguments == null)
             {
                 // Use this method to get the vertex so that the vertex
                 // initializer is called.
-                returnValue = framedGraph.addVertex(returnType);
+                returnValue = framedGraph.addVertex(method.getReturnType());
                 newVertex = ((VertexFrame) returnValue).asVertex();
             }
             else
@@ -70,10 +90,14 @@ public class AdjacencyAnnotationHandler implements AnnotationHandler<Adjacency>
                 if (arguments[0] == null)
                     throw new IllegalArgumentException("null passed to @Adjacency " + method.getName() + " labelled " + adjacency.label());
                 newVertex = ((VertexFrame) arguments[0]).asVertex();
+                if (adjacency.addIfAbsent() && getEdges(vertex, adjacency.direction(), adjacency.label(), newVertex).hasNext())
+                {
+                    return null;
+                }
             }
             addEdges(adjacency, framedGraph, vertex, newVertex);
 
-            if (returnType.isPrimitive())
+            if (plan.getReturnShape() == MethodPlan.ReturnShape.VOID || plan.getReturnShape() == MethodPlan.ReturnShape.PRIMITIVE)
             {
                 return null;
             }
@@ -81,17 +105,17 @@ public class AdjacencyAnnotationHandler implements AnnotationHandler<Adjacency>
             {
                 return returnValue;
             }
-
-        }
-        else if (ClassUtilities.isRemoveMethod(method))
-        {
+        case REMOVE:
             removeEdges(adjacency.direction(), adjacency.label(), vertex, ((VertexFrame) arguments[0]).asVertex(), framedGraph);
             return null;
-        }
-        else if (ClassUtilities.isSetMethod(method))
-        {
+        case SET:
+            if (plan.acceptsIterable() && adjacency.setMode() == Adjacency.SetMode.DIFF)
+            {
+                setEdges(adjacency, framedGraph, vertex, (Iterable) arguments[0]);
+                return null;
+            }
             removeEdges(adjacency.direction(), adjacency.label(), vertex, null, framedGraph);
-            if (ClassUtilities.acceptsIterable(method))
+            if (plan.acceptsIterable())
             {
                 for (Object o : (Iterable) arguments[0])
                 {
@@ -104,14 +128,35 @@ public class AdjacencyAnnotationHandler implements AnnotationHandler<Adjacency>
             {
                 if (null != arguments[0])
                 {
-                    Vertex newVertex = ((VertexFrame) arguments[0]).asVertex();
-                    addEdges(adjacency, framedGraph, vertex, newVertex);
+                    Vertex v = ((VertexFrame) arguments[0]).asVertex();
+                    addEdges(adjacency, framedGraph, vertex, v);
                 }
                 return null;
             }
+        default:
+            return null;
         }
+    }
 
-        return null;
+    /**
+     * Frame a single adjacent vertex, reading at most two adjacent vertices from the graph.
+     */
+    private Object getAdjacentVertex(final MethodPlan<Adjacency> plan, final FramedGraph<?> framedGraph, final Vertex vertex)
+    {
+        final Adjacency adjacency = plan.getAnnotation();
+        Iterator<Vertex> vertices = vertex.vertices(adjacency.direction(), adjacency.label());
+        if (!vertices.hasNext())
+        {
+            return null;
+        }
+        Vertex adjacent = vertices.next();
+        if (adjacency.multiple() == Adjacency.Multiple.FAIL && vertices.hasNext())
+        {
+            Method method = plan.getMethod();
+            throw new IllegalStateException("More than one vertex is adjacent to " + vertex + " by '" + adjacency.label() + "' edges in direction "
+                        + adjacency.direction() + ", called from " + method.getDeclaringClass().getName() + "." + method.getName());
+        }
+        return framedGraph.frame(adjacent, plan.getFrameKind());
     }
 
     private void addEdges(final Adjacency adjacency, final FramedGraph framedGraph, final Vertex vertex, Vertex newVertex)
@@ -119,11 +164,11 @@ public class AdjacencyAnnotationHandler implements AnnotationHandler<Adjacency>
         switch (adjacency.direction())
         {
         case OUT:
-            vertex.addEdge(adjacency.label(), newVertex);
+            addEdge(vertex, adjacency.label(), newVertex);
             // framedGraph.addEdge(null, vertex, newVertex, adjacency.label());
             break;
         case IN:
-            newVertex.addEdge(adjacency.label(), vertex);
+            addEdge(newVertex, adjacency.label(), vertex);
             // framedGraph.addEdge(null, newVertex, vertex, adjacency.label());
             break;
         case BOTH:
@@ -131,16 +176,126 @@ public class AdjacencyAnnotationHandler implements AnnotationHandler<Adjacency>
         }
     }
 
+    /**
+     * Make the adjacent vertices match the requested vertices, removing and adding only the edges that differ. A vertex requested n times ends up
+     * with n edges.
+     */
+    private void setEdges(final Adjacency adjacency, final FramedGraph framedGraph, final Vertex vertex, final Iterable<?> requested)
+    {
+        if (adjacency.direction() == Direction.BOTH)
+        {
+            throw new UnsupportedOperationException("Direction.BOTH it not supported on 'add' or 'set' methods");
+        }
+
+        // Maps from vertex id -> number of edges still to be added.
+        Map<Object, Integer> missing = new LinkedHashMap<Object, Integer>();
+        Map<Object, Vertex> requestedVertices = new HashMap<Object, Vertex>();
+        for (Object o : requested)
+        {
+            Vertex v = ((VertexFrame) o).asVertex();
+            missing.merge(v.id(), 1, Integer::sum);
+            requestedVertices.putIfAbsent(v.id(), v);
+        }
+
+        Direction opposite = adjacency.direction().opposite();
+        Iterator<Edge> edges = vertex.edges(adjacency.direction(), adjacency.label());
+        while (edges.hasNext())
+        {
+            Edge edge = edges.next();
+            Object otherId = edge.vertices(opposite).next().id();
+            Integer count = missing.get(otherId);
+            if (count == null)
+            {
+                removeEdge(framedGraph, edge);
+            }
+            else if (count == 1)
+            {
+                missing.remove(otherId);
+            }
+            else
+            {
+                missing.put(otherId, count - 1);
+            }
+        }
+
+        for (Map.Entry<Object, Integer> entry : missing.entrySet())
+        {
+            Vertex newVertex = requestedVertices.get(entry.getKey());
+            for (int i = 0; i < entry.getValue(); i++)
+            {
+                addEdges(adjacency, framedGraph, vertex, newVertex);
+            }
+        }
+    }
+
     private void removeEdges(final Direction direction, final String label, final Vertex element, final Vertex otherVertex,
                 final FramedGraph framedGraph)
     {
-        Iterable<Edge> edgeIterable = () -> element.edges(direction, label);
-        for (final Edge edge : edgeIterable)
+        if (null == otherVertex)
+        {
+            Iterator<Edge> edges = element.edges(direction, label);
+            while (edges.hasNext())
+            {
+                removeEdge(framedGraph, edges.next());
+            }
+        }
+        else
         {
-            if (null == otherVertex || edge.vertices(direction.opposite()).next().equals(otherVertex))
+            // The edges are found lazily, so read them all before removing any.
+            for (Edge edge : Lists.newArrayList(getEdges(element, direction, label, otherVertex)))
             {
-                edge.remove();
+                removeEdge(framedGraph, edge);
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Find the edges with a label between a vertex and another vertex. This implementation walks the incident edges of the vertex as the result is
+     * iterated, so that has methods stop at the first match.
+     *
+     * @param vertex The framed vertex.
+     * @param direction The direction of the edges, from the framed vertex.
+     * @param label The edge label.
+     * @param otherVertex The vertex at the other end of the edges.
+     * @return The edges.
+     */
+    protected Iterator<Edge> getEdges(final Vertex vertex, final Direction direction, final String label, final Vertex otherVertex)
+    {
+        return Iterators.filter(vertex.edges(direction, label), edge -> isBetween(edge, direction, otherVertex));
+    }
+
+    private static boolean isBetween(final Edge edge, final Direction direction, final Vertex otherVertex)
+    {
+        switch (direction)
+        {
+        case OUT:
+            return edge.inVertex().equals(otherVertex);
+        case IN:
+            return edge.outVertex().equals(otherVertex);
+        default:
+            return edge.inVertex().equals(otherVertex) || edge.outVertex().equals(otherVertex);
+        }
+    }
+
+    /**
+     * Add an edge for an adjacency.
+     */
+    protected Edge addEdge(final Vertex outVertex, final String label, final Vertex inVertex)
+    {
+        return outVertex.addEdge(label, inVertex);
+    }
+
+    private void removeEdge(final FramedGraph<?> framedGraph, final Edge edge)
+    {
+        removeEdge(edge);
+        framedGraph.invalidateLazyElement(edge);
+    }
+
+    /**
+     * Remove an edge of an adjacency.
+     */
+    protected void removeEdge(final Edge edge)
+    {
+        edge.remove();
+    }
+}
@@ -7,14 +7,14 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
-import com.tinkerpop.frames.ClassUtilities;
 import com.tinkerpop.frames.EdgeFrame;
 import com.tinkerpop.frames.FramedGraph;
 import com.tinkerpop.frames.Incidence;
+import com.tinkerpop.frames.MethodPlan;
 import com.tinkerpop.frames.VertexFrame;
 import com.tinkerpop.frames.structures.FramedEdgeIterable;
 
-public class IncidenceAnnotationHandler implements AnnotationHandler<Incidence>
+public class IncidenceAnnotationHandler implements PlannedAnnotationHandler<Incidence>
 {
 
     @Override
@@ -26,10 +26,17 @@ public class IncidenceAnnotationHandler implements AnnotationHandler<Incidence>
     @Override
     public Object processElement(final Incidence annotation, final Method method, final Object[] arguments, final FramedGraph framedGraph,
                 final Element element, final Direction direction)
+    {
+        return processElement(MethodPlan.compile(method, annotation), arguments, framedGraph, element, direction);
+    }
+
+    @Override
+    public Object processElement(final MethodPlan<Incidence> plan, final Object[] arguments, final FramedGraph<?> framedGraph,
+                final Element element, final Direction direction)
     {
         if (element instanceof Vertex)
         {
-            return processVertex(annotation, method, arguments, framedGraph, (Vertex) element);
+            return processVertex(plan, arguments, framedGraph, (Vertex) element);
         }
         else
         {
@@ -40,44 +47,40 @@ public class IncidenceAnnotationHandler implements AnnotationHandler<Incidence>
     public Object processVertex(final Incidence incidence, final Method method, final Object[] arguments, final FramedGraph framedGraph,
                 final Vertex element)
     {
-        if (ClassUtilities.isGetMethod(method))
+        return processVertex(MethodPlan.compile(method, incidence), arguments, framedGraph, element);
+    }
+
+    public Object processVertex(final MethodPlan<Incidence> plan, final Object[] arguments, final FramedGraph<?> framedGraph, final Vertex element)
+    {
+        final Incidence incidence = plan.getAnnotation();
+        switch (plan.getOperation())
         {
+        case GET:
             Iterable<Edge> edgesIterable = () -> element.edges(incidence.direction(), incidence.label());
 
-            return new FramedEdgeIterable(framedGraph, edgesIterable, incidence.direction(),
-                        ClassUtilities.getGenericClass(method));
-        }
-        else if (ClassUtilities.isAddMethod(method))
-        {
+            return new FramedEdgeIterable(framedGraph, edgesIterable, incidence.direction(), plan.getFrameKind());
+        case ADD:
             VertexFrame vertexFrame = ((VertexFrame) arguments[0]);
+            Class<?> returnType = plan.getMethod().getReturnType();
 
             switch (incidence.direction())
             {
             case OUT:
-                return framedGraph.addEdge(element, vertexFrame.asVertex(), incidence.label(), method.getReturnType());
-            // result = element.addEdge(incidence.label(), vertexFrame.asVertex());
-            // return framedGraph.frame(result, method.getReturnType());
-            // return framedGraph.addEdge(null, element, vertexFrame.asVertex(), incidence.label(), Direction.OUT,
-            // method.getReturnType());
+                return framedGraph.addEdge(element, vertexFrame.asVertex(), incidence.label(), returnType);
             case IN:
-                return framedGraph.addEdge(vertexFrame.asVertex(), element, incidence.label(), method.getReturnType());
-            // result = vertexFrame.asVertex().addEdge(incidence.label(), element);
-            // return framedGraph.frame(result, method.getReturnType());
-            // return framedGraph.addEdge(null, vertexFrame.asVertex(), element, incidence.label(), Direction.IN,
-            // method.getReturnType());
+                return framedGraph.addEdge(vertexFrame.asVertex(), element, incidence.label(), returnType);
             case BOTH:
                 throw new UnsupportedOperationException("Direction.BOTH it not supported on 'add' or 'set' methods");
             }
-
-        }
-        else if (ClassUtilities.isRemoveMethod(method))
-        {
+            return null;
+        case REMOVE:
             Edge edge = ((EdgeFrame) arguments[0]).asEdge();
             edge.remove();
+            framedGraph.invalidateLazyElement(edge);
+            return null;
+        default:
             return null;
         }
-
-        return null;
     }
 
 }
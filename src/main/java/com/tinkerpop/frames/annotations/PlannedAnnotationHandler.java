@@ -0,0 +1,30 @@
+package com.tinkerpop.frames.annotations;
+
+import java.lang.annotation.Annotation;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.MethodPlan;
+
+/**
+ * An {@link AnnotationHandler} that is called with the {@link MethodPlan} of the method instead of the method and annotation, so that it does not
+ * have to inspect the method on every call. The framed graph only calls
+ * {@link #processElement(MethodPlan, Object[], FramedGraph, Element, Direction)} on handlers implementing this interface.
+ * 
+ * @param <T> The type of annotation handled.
+ */
+public interface PlannedAnnotationHandler<T extends Annotation> extends AnnotationHandler<T>
+{
+    /**
+     * @param plan The plan of the method being called on the frame.
+     * @param arguments The arguments to the method.
+     * @param framedGraph The graph being called.
+     * @param element The underlying element.
+     * @param direction The direction of the edge.
+     * @return A return value for the method.
+     */
+    public Object processElement(final MethodPlan<T> plan, final Object[] arguments, final FramedGraph<?> framedGraph, final Element element,
+                final Direction direction);
+}
@@ -1,15 +1,18 @@
 package com.tinkerpop.frames.annotations;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import org.apache.tinkerpop.gremlin.structure.Element;
 
-import com.tinkerpop.frames.ClassUtilities;
 import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.MethodPlan;
 import com.tinkerpop.frames.Property;
-import com.tinkerpop.frames.modules.MethodHandler;
+import com.tinkerpop.frames.modules.PlannedMethodHandler;
+import com.tinkerpop.frames.modules.PropertyCodec;
+import com.tinkerpop.frames.modules.PropertyWriteListener;
 
-public class PropertyMethodHandler implements MethodHandler<Property>
+public class PropertyMethodHandler implements PlannedMethodHandler<Property>
 {
 
     @Override
@@ -18,56 +21,71 @@ public class PropertyMethodHandler implements MethodHandler<Property>
         return Property.class;
     }
 
+    /**
+     * Compiles the plan of the method on every call. The framed graph calls
+     * {@link #processElement(Object, MethodPlan, Object[], FramedGraph, Element)} with the plan compiled when the method was resolved.
+     */
     @Override
     public Object processElement(Object frame, Method method,
                 Object[] arguments, Property annotation,
                 FramedGraph<?> framedGraph, Element element)
     {
-        if (ClassUtilities.isGetMethod(method))
-        {
-            org.apache.tinkerpop.gremlin.structure.Property<?> property = element.property(annotation.value());
-            Object value = property.isPresent() ? property.value() : null;
-            if (method.getReturnType().isEnum())
-                return getValueAsEnum(method, value);
-            else
-                return value;
-        }
-        else if (ClassUtilities.isSetMethod(method))
+        return processElement(frame, MethodPlan.compile(method, annotation), arguments, framedGraph, element);
+    }
+
+    @Override
+    public Object processElement(Object frame, MethodPlan<Property> plan, Object[] arguments, FramedGraph<?> framedGraph, Element element)
+    {
+        switch (plan.getOperation())
         {
+        case GET:
+            org.apache.tinkerpop.gremlin.structure.Property<?> property = element.property(plan.getKey());
+            if (!property.isPresent())
+                return null;
+            PropertyCodec<Object> codec = plan.getCodec();
+            return codec == null ? property.value() : codec.decode(property.value());
+        case SET:
             Object value = arguments[0];
             if (null == value)
             {
-                element.property(annotation.value()).remove();
+                element.property(plan.getKey()).remove();
             }
             else
             {
-                if (value.getClass().isEnum())
+                codec = plan.getCodec();
+                if (codec != null)
+                {
+                    element.property(plan.getKey(), codec.encode(value));
+                }
+                else if (value.getClass().isEnum())
                 {
-                    element.property(annotation.value(), ((Enum<?>) value).name());
+                    element.property(plan.getKey(), ((Enum<?>) value).name());
                 }
                 else
                 {
-                    element.property(annotation.value(), value);
+                    element.property(plan.getKey(), value);
                 }
             }
-            if (method.getReturnType().isAssignableFrom(frame.getClass()))
+            written(plan, framedGraph, element);
+            if (plan.getReturnShape() == MethodPlan.ReturnShape.SELF
+                        || plan.getReturnShape() == MethodPlan.ReturnShape.OBJECT && plan.getMethod().getReturnType().isInstance(frame))
                 return frame;
-        }
-        else if (ClassUtilities.isRemoveMethod(method))
-        {
-            element.property(annotation.value()).remove();
+            return null;
+        case REMOVE:
+            element.property(plan.getKey()).remove();
+            written(plan, framedGraph, element);
+            return null;
+        default:
             return null;
         }
-
-        return null;
     }
 
-    private Enum getValueAsEnum(final Method method, final Object value)
+    private static void written(MethodPlan<Property> plan, FramedGraph<?> framedGraph, Element element)
     {
-        Class<Enum> en = (Class<Enum>) method.getReturnType();
-        if (value != null)
-            return Enum.valueOf(en, value.toString());
-
-        return null;
+        List<PropertyWriteListener> listeners = plan.getWriteListeners();
+        for (int i = 0; i < listeners.size(); i++)
+        {
+            listeners.get(i).propertyWritten(framedGraph, element, plan.getKey());
+        }
     }
 }
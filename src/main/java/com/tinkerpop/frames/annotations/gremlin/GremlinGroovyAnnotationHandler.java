@@ -2,7 +2,12 @@ package com.tinkerpop.frames.annotations.gremlin;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
 
 import javax.script.Bindings;
@@ -14,9 +19,17 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheBuilderSpec;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
 import com.tinkerpop.frames.ClassUtilities;
 import com.tinkerpop.frames.FramedGraph;
 import com.tinkerpop.frames.annotations.AnnotationHandler;
+import com.tinkerpop.frames.annotations.gremlin.TraversalTranslator.TranslatedTraversal;
+import com.tinkerpop.frames.annotations.gremlin.TraversalTranslator.UntranslatableException;
+import com.tinkerpop.frames.jfr.FramesEvents;
 import com.tinkerpop.frames.modules.MethodHandler;
 import com.tinkerpop.frames.structures.FramedVertexIterable;
 import com.tinkerpop.frames.structures.FramedVertexMap;
@@ -28,12 +41,76 @@ import com.tinkerpop.frames.util.ExceptionUtils;
  */
 public class GremlinGroovyAnnotationHandler implements AnnotationHandler<GremlinGroovy>, MethodHandler<GremlinGroovy>
 {
+    /**
+     * The default specification of the compiled script cache. See {@link CacheBuilderSpec} for the syntax.
+     */
+    public static final String DEFAULT_SCRIPT_CACHE_SPEC = "maximumSize=1000";
+
     private final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
     private static final String IT = "it";
     private static final String G = "g";
 
     private static final Logger LOGGER = Logger.getLogger(GremlinGroovyAnnotationHandler.class.getName());
 
+    // Maps from method -> compiled script and parameter bindings.
+    private final LoadingCache<Method, CompiledMethod> scriptCache;
+
+    private volatile boolean translateTraversals;
+    private final Set<Method> translatedMethods = Collections.newSetFromMap(new ConcurrentHashMap<Method, Boolean>());
+    private final Map<Method, String> untranslatedMethods = new ConcurrentHashMap<Method, String>();
+
+    public GremlinGroovyAnnotationHandler()
+    {
+        this(DEFAULT_SCRIPT_CACHE_SPEC);
+    }
+
+    /**
+     * @param scriptCacheSpec The size and eviction policy of the compiled script cache, for example
+     *            <code>"maximumSize=500,expireAfterAccess=30m"</code>. See {@link CacheBuilderSpec} for the syntax.
+     */
+    public GremlinGroovyAnnotationHandler(String scriptCacheSpec)
+    {
+        this.scriptCache = CacheBuilder.from(scriptCacheSpec).recordStats().build(new CacheLoader<Method, CompiledMethod>()
+        {
+            @Override
+            public CompiledMethod load(Method method) throws ScriptException
+            {
+                CompiledMethod compiledMethod = new CompiledMethod(method);
+                compiledMethod.prepare();
+                return compiledMethod;
+            }
+        });
+    }
+
+    /**
+     * Translate scripts into native {@link org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal}s where possible, rather than
+     * evaluating them with the script engine. Methods whose scripts can not be translated are still evaluated by the script engine, and are reported
+     * by {@link #getUntranslatedMethods()}. Scripts that have already been compiled, for example by {@link #precompile(Class)}, are kept, so this may
+     * be called before or after precompiling.
+     *
+     * @param translateTraversals true to translate scripts.
+     */
+    public void setTranslateTraversals(boolean translateTraversals)
+    {
+        this.translateTraversals = translateTraversals;
+    }
+
+    /**
+     * @return The methods whose scripts have been translated into native traversals.
+     */
+    public Set<Method> getTranslatedMethods()
+    {
+        return Collections.unmodifiableSet(translatedMethods);
+    }
+
+    /**
+     * @return The methods whose scripts could not be translated into native traversals, with the reason why.
+     */
+    public Map<Method, String> getUntranslatedMethods()
+    {
+        return Collections.unmodifiableMap(untranslatedMethods);
+    }
+
     public GremlinGroovyScriptEngine getGremlinScriptEngine()
     {
         return this.engine;
@@ -62,13 +139,31 @@ public class GremlinGroovyAnnotationHandler implements AnnotationHandler<Gremlin
     public Object processVertex(final GremlinGroovy annotation, final Method method, final Object[] arguments, final FramedGraph framedGraph,
                 final Vertex vertex)
     {
+        final CompiledMethod compiledMethod = getCompiledMethod(method);
+        final Object event = FramesEvents.begin(FramesEvents.Kind.SCRIPT_EVALUATION);
         try
         {
-            final CompiledScript script = this.engine.compile(annotation.value());
-            final Bindings bindings = getBindings(method, arguments);
-            bindings.put(IT, vertex);
-            bindings.put(G, framedGraph);
-            final Object result = script.eval(bindings);
+            final TranslatedTraversal traversal = translateTraversals ? compiledMethod.getTraversal() : null;
+            final Object result;
+            if (traversal != null)
+            {
+                try
+                {
+                    result = traversal.evaluate(framedGraph, vertex, arguments);
+                }
+                catch (RuntimeException e)
+                {
+                    // The script engine reports failures of a script as ScriptExceptions.
+                    throw new ScriptException(e);
+                }
+            }
+            else
+            {
+                final Bindings bindings = compiledMethod.getBindings(arguments);
+                bindings.put(IT, vertex);
+                bindings.put(G, framedGraph);
+                result = compiledMethod.getScript().eval(bindings);
+            }
 
             if (annotation.frame())
             {
@@ -101,12 +196,64 @@ public class GremlinGroovyAnnotationHandler implements AnnotationHandler<Gremlin
             ExceptionUtils.sneakyThrow(e); // Preserve original exception functionality.
             return null;
         }
+        finally
+        {
+            FramesEvents.commit(event, method.getDeclaringClass(), method, vertex.id());
+        }
+    }
+
+    /**
+     * Compile the scripts of all <code>@GremlinGroovy</code> methods of a frame interface, so that the first call to each method does not pay the
+     * compilation cost.
+     *
+     * @param frameType The frame interface.
+     */
+    public void precompile(Class<?> frameType)
+    {
+        for (Method method : frameType.getMethods())
+        {
+            if (method.isAnnotationPresent(GremlinGroovy.class))
+            {
+                try
+                {
+                    getCompiledMethod(method).prepare();
+                }
+                catch (ScriptException e)
+                {
+                    ExceptionUtils.sneakyThrow(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Hit, miss and eviction counts of the compiled script cache.
+     */
+    public CacheStats getScriptCacheStats()
+    {
+        return scriptCache.stats();
+    }
+
+    private CompiledMethod getCompiledMethod(Method method)
+    {
+        try
+        {
+            return scriptCache.get(method);
+        }
+        catch (ExecutionException e)
+        {
+            ExceptionUtils.sneakyThrow(e.getCause()); // Preserve original exception functionality.
+            return null;
+        }
     }
 
-    private Bindings getBindings(final Method method, final Object[] arguments)
+    /**
+     * @return The name bound to each parameter of the method, or null for parameters without a {@link GremlinParam} annotation.
+     */
+    private static String[] getBindingNames(final Method method)
     {
-        Bindings bindings = engine.createBindings();
         Annotation[][] allParameterAnnotations = method.getParameterAnnotations();
+        String[] bindingNames = new String[allParameterAnnotations.length];
         for (int pCount = 0; pCount < allParameterAnnotations.length; pCount++)
         {
             Annotation parameterAnnotations[] = allParameterAnnotations[pCount];
@@ -115,12 +262,132 @@ public class GremlinGroovyAnnotationHandler implements AnnotationHandler<Gremlin
                 Annotation paramAnnotation = parameterAnnotations[aCount];
                 if (paramAnnotation instanceof GremlinParam)
                 {
-                    bindings.put(((GremlinParam) paramAnnotation).value(), arguments[pCount]);
+                    bindingNames[pCount] = ((GremlinParam) paramAnnotation).value();
                     break;
                 }
             }
         }
-        return bindings;
+        return bindingNames;
+    }
+
+    /**
+     * The script of a method, compiled by the script engine and translated into a native traversal as they are needed, so that changing
+     * {@link #setTranslateTraversals(boolean)} keeps the work already done.
+     */
+    private final class CompiledMethod
+    {
+        private final Method method;
+        private final GremlinGroovy annotation;
+        private final String[] bindingNames;
+        private volatile CompiledScript script;
+        private volatile TranslatedTraversal traversal;
+        private volatile boolean translationAttempted;
+
+        CompiledMethod(Method method)
+        {
+            this.method = method;
+            this.annotation = method.getAnnotation(GremlinGroovy.class);
+            this.bindingNames = getBindingNames(method);
+        }
+
+        /**
+         * Do the work needed to call the method with the current translation setting.
+         */
+        void prepare() throws ScriptException
+        {
+            if (!translateTraversals || getTraversal() == null)
+            {
+                getScript();
+            }
+        }
+
+        CompiledScript getScript() throws ScriptException
+        {
+            CompiledScript compiled = script;
+            if (compiled == null)
+            {
+                synchronized (this)
+                {
+                    compiled = script;
+                    if (compiled == null)
+                    {
+                        Object event = FramesEvents.begin(FramesEvents.Kind.SCRIPT_COMPILATION);
+                        try
+                        {
+                            compiled = engine.compile(annotation.value());
+                        }
+                        finally
+                        {
+                            FramesEvents.commit(event, method.getDeclaringClass(), method, null);
+                        }
+                        script = compiled;
+                    }
+                }
+            }
+            return compiled;
+        }
+
+        /**
+         * @return The translation of the script, or null if it can not be translated.
+         */
+        TranslatedTraversal getTraversal()
+        {
+            if (!translationAttempted)
+            {
+                synchronized (this)
+                {
+                    if (!translationAttempted)
+                    {
+                        traversal = translate();
+                        translationAttempted = true;
+                    }
+                }
+            }
+            return traversal;
+        }
+
+        private TranslatedTraversal translate()
+        {
+            Map<String, Integer> parameters = new HashMap<String, Integer>();
+            for (int i = 0; i < bindingNames.length; i++)
+            {
+                if (bindingNames[i] != null)
+                {
+                    parameters.put(bindingNames[i], i);
+                }
+            }
+            Object event = FramesEvents.begin(FramesEvents.Kind.SCRIPT_COMPILATION);
+            try
+            {
+                TranslatedTraversal translated = TraversalTranslator.translate(annotation, parameters);
+                translatedMethods.add(method);
+                return translated;
+            }
+            catch (UntranslatableException e)
+            {
+                untranslatedMethods.put(method, e.getMessage());
+                LOGGER.fine("Using the script engine for " + method.getDeclaringClass().getName() + "." + method.getName() + ": "
+                            + e.getMessage());
+                return null;
+            }
+            finally
+            {
+                FramesEvents.commit(event, method.getDeclaringClass(), method, null);
+            }
+        }
+
+        Bindings getBindings(final Object[] arguments)
+        {
+            Bindings bindings = engine.createBindings();
+            for (int i = 0; i < bindingNames.length; i++)
+            {
+                if (bindingNames[i] != null)
+                {
+                    bindings.put(bindingNames[i], arguments[i]);
+                }
+            }
+            return bindings;
+        }
     }
 
     @Override
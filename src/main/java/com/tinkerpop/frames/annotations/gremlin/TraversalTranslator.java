@@ -0,0 +1,575 @@
+package com.tinkerpop.frames.annotations.gremlin;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import com.tinkerpop.frames.FramedGraph;
+
+/**
+ * Translates simple <code>@GremlinGroovy</code> expressions into steps of a {@link GraphTraversal}, so that they can be run without the script engine.
+ * <p>
+ * An expression can be translated if it starts a traversal from the framed vertex, continues with a chain of supported steps and ends with at most
+ * one terminal step, for example <code>g.getBaseGraph().traversal().V(it.id()).out('knows').has('age', age).values('name').toList()</code>. Step
+ * arguments must be literals or the names of {@link GremlinParam} parameters. The translated traversal is built and terminated exactly as the script
+ * would be, so it returns the same objects. Anything else is reported as untranslatable and left to the script engine.
+ */
+class TraversalTranslator
+{
+    /**
+     * The kind of object emitted by a step.
+     */
+    private enum Emits
+    {
+        VERTEX, EDGE, VALUE
+    }
+
+    /**
+     * The reason an expression can not be translated.
+     */
+    static class UntranslatableException extends Exception
+    {
+        UntranslatableException(String message)
+        {
+            super(message);
+        }
+    }
+
+    /**
+     * A translated expression. A new traversal is built from the steps on each call.
+     */
+    static class TranslatedTraversal
+    {
+        private final boolean startFromId;
+        private final Step[] steps;
+        private final Terminal terminal;
+
+        private TranslatedTraversal(boolean startFromId, Step[] steps, Terminal terminal)
+        {
+            this.startFromId = startFromId;
+            this.steps = steps;
+            this.terminal = terminal;
+        }
+
+        /**
+         * Run the traversal.
+         *
+         * @return The same result as the script: the traversal itself, or the result of its terminal step.
+         */
+        Object evaluate(final FramedGraph<?> framedGraph, final Vertex vertex, final Object[] arguments)
+        {
+            GraphTraversal<?, ?> traversal = framedGraph.getBaseGraph().traversal().V(startFromId ? vertex.id() : vertex);
+            for (Step step : steps)
+            {
+                traversal = step.apply(traversal, arguments);
+            }
+            return terminal == null ? traversal : terminal.apply(traversal, arguments);
+        }
+    }
+
+    /**
+     * Appends a step to a traversal.
+     */
+    private interface Step
+    {
+        GraphTraversal<?, ?> apply(GraphTraversal<?, ?> traversal, Object[] arguments);
+    }
+
+    /**
+     * Ends a traversal, such as <code>toList()</code>.
+     */
+    private interface Terminal
+    {
+        Object apply(GraphTraversal<?, ?> traversal, Object[] arguments);
+    }
+
+    /**
+     * A step argument: either a literal or a parameter of the method.
+     */
+    private interface Argument
+    {
+        Object value(Object[] arguments);
+    }
+
+    private final String expression;
+    private final Map<String, Integer> parameters;
+    private int position;
+
+    private TraversalTranslator(String expression, Map<String, Integer> parameters)
+    {
+        this.expression = expression;
+        this.parameters = parameters;
+    }
+
+    /**
+     * @param annotation The annotation of the method.
+     * @param parameters The index of each {@link GremlinParam} parameter, keyed by name.
+     * @return The translated expression.
+     * @throws UntranslatableException If the expression is not supported.
+     */
+    static TranslatedTraversal translate(GremlinGroovy annotation, Map<String, Integer> parameters) throws UntranslatableException
+    {
+        return new TraversalTranslator(annotation.value(), parameters).parse();
+    }
+
+    private TranslatedTraversal parse() throws UntranslatableException
+    {
+        boolean startFromId = source();
+        List<Step> steps = new ArrayList<Step>();
+        Terminal terminal = null;
+        Emits emits = Emits.VERTEX;
+        while (peek() == '.' && terminal == null)
+        {
+            position++;
+            String name = identifier();
+            Argument[] arguments = arguments(name);
+            terminal = terminal(name, arguments);
+            if (terminal == null)
+            {
+                emits = step(name, arguments, emits, steps);
+            }
+        }
+        if (peek() == ';')
+        {
+            position++;
+        }
+        if (peek() != 0)
+        {
+            throw new UntranslatableException("unexpected '" + expression.charAt(position) + "' at position " + position);
+        }
+        return new TranslatedTraversal(startFromId, steps.toArray(new Step[steps.size()]), terminal);
+    }
+
+    /**
+     * Parse <code>g.getBaseGraph().traversal().V(it.id())</code>, <code>g.baseGraph.traversal().V(it)</code> and their combinations.
+     *
+     * @return true if the traversal starts from the id of the vertex, false if it starts from the vertex.
+     */
+    private boolean source() throws UntranslatableException
+    {
+        if (!identifier().equals("g"))
+        {
+            throw new UntranslatableException("expression must start with 'g.getBaseGraph().traversal().V(it.id())'");
+        }
+        expect('.');
+        String baseGraph = identifier();
+        if (baseGraph.equals("getBaseGraph"))
+        {
+            expect('(');
+            expect(')');
+        }
+        else if (!baseGraph.equals("baseGraph"))
+        {
+            throw new UntranslatableException("expression must start with 'g.getBaseGraph().traversal().V(it.id())'");
+        }
+        expect('.');
+        expectIdentifier("traversal");
+        expect('(');
+        expect(')');
+        expect('.');
+        expectIdentifier("V");
+        expect('(');
+        expectIdentifier("it");
+        boolean startFromId = false;
+        if (peek() == '.')
+        {
+            position++;
+            expectIdentifier("id");
+            expect('(');
+            expect(')');
+            startFromId = true;
+        }
+        expect(')');
+        return startFromId;
+    }
+
+    private Argument[] arguments(String name) throws UntranslatableException
+    {
+        // Without parentheses Groovy reads a property rather than calling the step.
+        if (peek() != '(')
+        {
+            throw new UntranslatableException("step '" + name + "' must be called with parentheses");
+        }
+        position++;
+        List<Argument> arguments = new ArrayList<Argument>();
+        if (peek() != ')')
+        {
+            arguments.add(argument());
+            while (peek() == ',')
+            {
+                position++;
+                arguments.add(argument());
+            }
+        }
+        expect(')');
+        return arguments.toArray(new Argument[arguments.size()]);
+    }
+
+    private static Terminal terminal(final String name, final Argument[] a) throws UntranslatableException
+    {
+        switch (name)
+        {
+        case "toList":
+            requireArguments(name, a, 0, 0);
+            return (t, args) -> t.toList();
+        case "toSet":
+            requireArguments(name, a, 0, 0);
+            return (t, args) -> t.toSet();
+        case "next":
+            requireArguments(name, a, 0, 1);
+            if (a.length == 0)
+            {
+                return (t, args) -> t.next();
+            }
+            return (t, args) -> t.next(((Number) a[0].value(args)).intValue());
+        case "tryNext":
+            requireArguments(name, a, 0, 0);
+            return (t, args) -> t.tryNext();
+        case "hasNext":
+            requireArguments(name, a, 0, 0);
+            return (t, args) -> t.hasNext();
+        default:
+            return null;
+        }
+    }
+
+    private Emits step(final String name, final Argument[] a, final Emits input, final List<Step> steps) throws UntranslatableException
+    {
+        switch (name)
+        {
+        case "out":
+        case "in":
+        case "both":
+        case "outE":
+        case "inE":
+        case "bothE":
+            requireInput(name, input, Emits.VERTEX);
+            steps.add(adjacentStep(name, a));
+            return name.endsWith("E") ? Emits.EDGE : Emits.VERTEX;
+        case "outV":
+        case "inV":
+        case "bothV":
+        case "otherV":
+            requireInput(name, input, Emits.EDGE);
+            requireArguments(name, a, 0, 0);
+            steps.add(edgeVertexStep(name));
+            return Emits.VERTEX;
+        case "has":
+            requireElements(name, input);
+            requireArguments(name, a, 1, 2);
+            if (a.length == 1)
+            {
+                steps.add((t, args) -> t.has(string(a[0], args)));
+            }
+            else
+            {
+                steps.add((t, args) -> t.has(string(a[0], args), a[1].value(args)));
+            }
+            return input;
+        case "hasNot":
+            requireElements(name, input);
+            requireArguments(name, a, 1, 1);
+            steps.add((t, args) -> t.hasNot(string(a[0], args)));
+            return input;
+        case "hasLabel":
+            requireElements(name, input);
+            requireArguments(name, a, 1, Integer.MAX_VALUE);
+            steps.add((t, args) -> t.hasLabel(strings(a, args)));
+            return input;
+        case "hasId":
+            requireElements(name, input);
+            requireArguments(name, a, 1, Integer.MAX_VALUE);
+            steps.add((t, args) -> t.hasId(values(a, args)));
+            return input;
+        case "values":
+            requireElements(name, input);
+            steps.add((t, args) -> t.values(strings(a, args)));
+            return Emits.VALUE;
+        case "id":
+            requireElements(name, input);
+            requireArguments(name, a, 0, 0);
+            steps.add((t, args) -> t.id());
+            return Emits.VALUE;
+        case "label":
+            requireElements(name, input);
+            requireArguments(name, a, 0, 0);
+            steps.add((t, args) -> t.label());
+            return Emits.VALUE;
+        case "limit":
+            requireArguments(name, a, 1, 1);
+            steps.add((t, args) -> t.limit(number(a[0], args)));
+            return input;
+        case "range":
+            requireArguments(name, a, 2, 2);
+            steps.add((t, args) -> t.range(number(a[0], args), number(a[1], args)));
+            return input;
+        case "dedup":
+            requireArguments(name, a, 0, 0);
+            steps.add((t, args) -> t.dedup());
+            return input;
+        case "simplePath":
+            requireArguments(name, a, 0, 0);
+            steps.add((t, args) -> t.simplePath());
+            return input;
+        case "count":
+            requireArguments(name, a, 0, 0);
+            steps.add((t, args) -> t.count());
+            return Emits.VALUE;
+        default:
+            throw new UntranslatableException("unsupported step '" + name + "'");
+        }
+    }
+
+    private static Step adjacentStep(final String name, final Argument[] a)
+    {
+        switch (name)
+        {
+        case "out":
+            return (t, args) -> t.out(strings(a, args));
+        case "in":
+            return (t, args) -> t.in(strings(a, args));
+        case "both":
+            return (t, args) -> t.both(strings(a, args));
+        case "outE":
+            return (t, args) -> t.outE(strings(a, args));
+        case "inE":
+            return (t, args) -> t.inE(strings(a, args));
+        default:
+            return (t, args) -> t.bothE(strings(a, args));
+        }
+    }
+
+    private static Step edgeVertexStep(final String name)
+    {
+        switch (name)
+        {
+        case "outV":
+            return (t, args) -> t.outV();
+        case "inV":
+            return (t, args) -> t.inV();
+        case "bothV":
+            return (t, args) -> t.bothV();
+        default:
+            return (t, args) -> t.otherV();
+        }
+    }
+
+    private static void requireInput(String name, Emits input, Emits required) throws UntranslatableException
+    {
+        if (input != required)
+        {
+            throw new UntranslatableException("step '" + name + "' requires " + required.name().toLowerCase() + " input");
+        }
+    }
+
+    private static void requireElements(String name, Emits input) throws UntranslatableException
+    {
+        if (input == Emits.VALUE)
+        {
+            throw new UntranslatableException("step '" + name + "' requires element input");
+        }
+    }
+
+    private static void requireArguments(String name, Argument[] arguments, int min, int max) throws UntranslatableException
+    {
+        if (arguments.length < min || arguments.length > max)
+        {
+            throw new UntranslatableException("unsupported number of arguments to step '" + name + "'");
+        }
+    }
+
+    private static String string(Argument argument, Object[] arguments)
+    {
+        return (String) argument.value(arguments);
+    }
+
+    private static String[] strings(Argument[] a, Object[] arguments)
+    {
+        String[] strings = new String[a.length];
+        for (int i = 0; i < a.length; i++)
+        {
+            strings[i] = string(a[i], arguments);
+        }
+        return strings;
+    }
+
+    private static Object[] values(Argument[] a, Object[] arguments)
+    {
+        Object[] values = new Object[a.length];
+        for (int i = 0; i < a.length; i++)
+        {
+            values[i] = a[i].value(arguments);
+        }
+        return values;
+    }
+
+    private static long number(Argument argument, Object[] arguments)
+    {
+        return ((Number) argument.value(arguments)).longValue();
+    }
+
+    private Argument argument() throws UntranslatableException
+    {
+        char c = peek();
+        if (c == '\'' || c == '"')
+        {
+            final String value = stringLiteral(c);
+            return arguments -> value;
+        }
+        if (c == '-' || Character.isDigit(c))
+        {
+            final Number value = numberLiteral();
+            return arguments -> value;
+        }
+        String name = identifier();
+        if (name.equals("true") || name.equals("false"))
+        {
+            final Boolean value = Boolean.valueOf(name);
+            return arguments -> value;
+        }
+        if (name.equals("null"))
+        {
+            return arguments -> null;
+        }
+        final Integer index = parameters.get(name);
+        if (index == null)
+        {
+            throw new UntranslatableException("'" + name + "' is not a @GremlinParam parameter");
+        }
+        return arguments -> arguments[index];
+    }
+
+    private String stringLiteral(char quote) throws UntranslatableException
+    {
+        StringBuilder value = new StringBuilder();
+        position++;
+        while (position < expression.length())
+        {
+            char c = expression.charAt(position++);
+            if (c == quote)
+            {
+                return value.toString();
+            }
+            if (c == '$' && quote == '"')
+            {
+                throw new UntranslatableException("GString interpolation is not supported");
+            }
+            if (c == '\\')
+            {
+                if (position == expression.length())
+                {
+                    break;
+                }
+                c = expression.charAt(position++);
+                switch (c)
+                {
+                case 'n':
+                    c = '\n';
+                    break;
+                case 't':
+                    c = '\t';
+                    break;
+                case 'r':
+                    c = '\r';
+                    break;
+                case '\\':
+                case '\'':
+                case '"':
+                    break;
+                default:
+                    throw new UntranslatableException("unsupported escape '\\" + c + "'");
+                }
+            }
+            value.append(c);
+        }
+        throw new UntranslatableException("unterminated string literal");
+    }
+
+    /**
+     * Parse a number the way Groovy does: integers are {@link Integer} unless suffixed with L and decimals are {@link BigDecimal}.
+     */
+    private Number numberLiteral() throws UntranslatableException
+    {
+        int start = position;
+        if (expression.charAt(position) == '-')
+        {
+            position++;
+        }
+        while (position < expression.length() && (Character.isDigit(expression.charAt(position)) || expression.charAt(position) == '.'))
+        {
+            position++;
+        }
+        String literal = expression.substring(start, position);
+        try
+        {
+            if (position < expression.length() && Character.toUpperCase(expression.charAt(position)) == 'L')
+            {
+                position++;
+                return Long.valueOf(literal);
+            }
+            if (literal.indexOf('.') >= 0)
+            {
+                return new BigDecimal(literal);
+            }
+            return Integer.valueOf(literal);
+        }
+        catch (NumberFormatException e)
+        {
+            throw new UntranslatableException("unsupported number '" + literal + "'");
+        }
+    }
+
+    private String identifier() throws UntranslatableException
+    {
+        skipWhitespace();
+        int start = position;
+        while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)))
+        {
+            position++;
+        }
+        if (start == position || !Character.isJavaIdentifierStart(expression.charAt(start)))
+        {
+            throw new UntranslatableException("expected an identifier at position " + start);
+        }
+        return expression.substring(start, position);
+    }
+
+    private void expectIdentifier(String name) throws UntranslatableException
+    {
+        int start = position;
+        if (!identifier().equals(name))
+        {
+            throw new UntranslatableException("expected '" + name + "' at position " + start);
+        }
+    }
+
+    private void expect(char c) throws UntranslatableException
+    {
+        if (peek() != c)
+        {
+            throw new UntranslatableException("expected '" + c + "' at position " + position);
+        }
+        position++;
+    }
+
+    /**
+     * @return The next character that is not whitespace, or 0 at the end of the expression.
+     */
+    private char peek()
+    {
+        skipWhitespace();
+        return position < expression.length() ? expression.charAt(position) : 0;
+    }
+
+    private void skipWhitespace()
+    {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position)))
+        {
+            position++;
+        }
+    }
+}
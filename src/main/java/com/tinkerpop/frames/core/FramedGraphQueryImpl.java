@@ -1,9 +1,11 @@
 package com.tinkerpop.frames.core;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Predicate;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -13,47 +15,69 @@ import com.tinkerpop.frames.FramedGraphQuery;
 import com.tinkerpop.frames.structures.FramedEdgeIterable;
 import com.tinkerpop.frames.structures.FramedVertexIterable;
 
+/**
+ * Records the query steps and appends them to a <code>V()</code> or <code>E()</code> traversal of the base graph when the results are iterated, so
+ * that the underlying graph can answer the query, using its indices where possible. Only the matching elements are framed.
+ */
 public class FramedGraphQueryImpl implements FramedGraphQuery
 {
     private FramedGraph<?> graph;
-    private GraphTraversal<?, ?> traversal;
+    private final List<Step> steps = new ArrayList<Step>();
+
+    /**
+     * Appends a query step to a traversal.
+     */
+    private interface Step
+    {
+        void apply(GraphTraversal<?, ?> traversal);
+    }
 
     public FramedGraphQueryImpl(FramedGraph<?> graph)
     {
         this.graph = graph;
-        this.traversal = new DefaultGraphTraversal<Object, Object>(graph);
     }
 
     public FramedGraphQuery has(String key)
     {
-        this.traversal = this.traversal.V().has(key);
+        this.steps.add(traversal -> traversal.has(key));
         return this;
     }
 
     public FramedGraphQuery hasNot(String key)
     {
-        this.traversal = this.traversal.V().hasNot(key);
+        this.steps.add(traversal -> traversal.hasNot(key));
         return this;
     }
 
     public FramedGraphQuery has(String key, Object value)
     {
-        this.traversal = this.traversal.V().has(key, value);
+        this.steps.add(traversal -> traversal.has(key, value));
         return this;
     }
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     public FramedGraphQuery has(String key, Predicate predicate)
     {
-        this.traversal = this.traversal.V().has(key, predicate);
+        final P p = predicate instanceof P ? (P) predicate : P.test((value, ignored) -> predicate.test(value), null);
+        this.steps.add(traversal -> traversal.has(key, p));
         return this;
     }
 
     public FramedGraphQuery limit(int limit)
     {
-        this.traversal = this.traversal.V().limit(limit);
+        this.steps.add(traversal -> traversal.limit(limit));
         return this;
     }
 
+    private <E> GraphTraversal<?, E> apply(GraphTraversal<?, E> traversal)
+    {
+        for (Step step : steps)
+        {
+            step.apply(traversal);
+        }
+        return traversal;
+    }
+
     @Override
     public <T> Iterable<T> edges(Class<T> kind)
     {
@@ -62,7 +86,7 @@ public class FramedGraphQueryImpl implements FramedGraphQuery
             @Override
             public Iterator<Edge> iterator()
             {
-                return graph.edges();
+                return apply(graph.getBaseGraph().traversal().E());
             }
         };
 
@@ -77,7 +101,7 @@ public class FramedGraphQueryImpl implements FramedGraphQuery
             @Override
             public Iterator<Vertex> iterator()
             {
-                return graph.vertices();
+                return apply(graph.getBaseGraph().traversal().V());
             }
         };
 
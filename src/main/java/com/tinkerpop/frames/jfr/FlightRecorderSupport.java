@@ -0,0 +1,93 @@
+package com.tinkerpop.frames.jfr;
+
+import java.lang.reflect.Method;
+
+import jdk.jfr.EventType;
+
+/**
+ * The only class that {@link FramesEvents} calls when the <code>jdk.jfr</code> API is available, so that the event classes are never loaded
+ * otherwise.
+ */
+final class FlightRecorderSupport
+{
+    // The event type of each kind, whose enabled state is read before an event is created.
+    private static final EventType[] TYPES = new EventType[FramesEvents.Kind.values().length];
+
+    static
+    {
+        for (FramesEvents.Kind kind : FramesEvents.Kind.values())
+        {
+            TYPES[kind.ordinal()] = EventType.getEventType(eventClass(kind));
+        }
+    }
+
+    private FlightRecorderSupport()
+    {
+    }
+
+    static Object begin(FramesEvents.Kind kind)
+    {
+        if (!TYPES[kind.ordinal()].isEnabled())
+        {
+            return FramesEvents.NOT_RECORDED;
+        }
+        FramesEvent event = create(kind);
+        event.begin();
+        return event;
+    }
+
+    static void commit(Object token, Class<?> frameInterface, Method method, Object elementId)
+    {
+        FramesEvent event = (FramesEvent) token;
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.frameInterface = frameInterface;
+            event.method = method == null ? null : method.getName();
+            event.elementId = elementId == null ? null : elementId.toString();
+            event.commit();
+        }
+    }
+
+    private static FramesEvent create(FramesEvents.Kind kind)
+    {
+        switch (kind)
+        {
+        case FRAME:
+            return new FramesEvent.Frame();
+        case DISPATCH:
+            return new FramesEvent.Dispatch();
+        case SCRIPT_COMPILATION:
+            return new FramesEvent.ScriptCompilation();
+        case SCRIPT_EVALUATION:
+            return new FramesEvent.ScriptEvaluation();
+        case JAVA_HANDLER_CREATION:
+            return new FramesEvent.JavaHandlerCreation();
+        case TYPE_RESOLUTION:
+            return new FramesEvent.TypeResolution();
+        default:
+            throw new IllegalArgumentException("Unknown event kind: " + kind);
+        }
+    }
+
+    private static Class<? extends FramesEvent> eventClass(FramesEvents.Kind kind)
+    {
+        switch (kind)
+        {
+        case FRAME:
+            return FramesEvent.Frame.class;
+        case DISPATCH:
+            return FramesEvent.Dispatch.class;
+        case SCRIPT_COMPILATION:
+            return FramesEvent.ScriptCompilation.class;
+        case SCRIPT_EVALUATION:
+            return FramesEvent.ScriptEvaluation.class;
+        case JAVA_HANDLER_CREATION:
+            return FramesEvent.JavaHandlerCreation.class;
+        case TYPE_RESOLUTION:
+            return FramesEvent.TypeResolution.class;
+        default:
+            throw new IllegalArgumentException("Unknown event kind: " + kind);
+        }
+    }
+}
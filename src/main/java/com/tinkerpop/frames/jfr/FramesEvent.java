@@ -0,0 +1,72 @@
+package com.tinkerpop.frames.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder events emitted through {@link FramesEvents}.
+ */
+@Category("Frames")
+public abstract class FramesEvent extends Event
+{
+    @Label("Frame Interface")
+    Class<?> frameInterface;
+
+    @Label("Method")
+    String method;
+
+    @Label("Element Id")
+    String elementId;
+
+    @Name("com.tinkerpop.frames.Frame")
+    @Label("Frame Element")
+    @Description("Framing an element, including type resolution and frame class lookup")
+    @Enabled(false)
+    @StackTrace(false)
+    public static final class Frame extends FramesEvent
+    {
+    }
+
+    @Name("com.tinkerpop.frames.Dispatch")
+    @Label("Frame Method Dispatch")
+    @Description("Calling the handler of a frame method")
+    @Enabled(false)
+    @StackTrace(false)
+    public static final class Dispatch extends FramesEvent
+    {
+    }
+
+    @Name("com.tinkerpop.frames.ScriptCompilation")
+    @Label("Gremlin Groovy Compilation")
+    @Description("Compiling or translating the script of a @GremlinGroovy method")
+    public static final class ScriptCompilation extends FramesEvent
+    {
+    }
+
+    @Name("com.tinkerpop.frames.ScriptEvaluation")
+    @Label("Gremlin Groovy Evaluation")
+    @Description("Evaluating the script of a @GremlinGroovy method")
+    public static final class ScriptEvaluation extends FramesEvent
+    {
+    }
+
+    @Name("com.tinkerpop.frames.JavaHandlerCreation")
+    @Label("Java Handler Creation")
+    @Description("Creating the implementation of a @JavaHandler method")
+    public static final class JavaHandlerCreation extends FramesEvent
+    {
+    }
+
+    @Name("com.tinkerpop.frames.TypeResolution")
+    @Label("Type Resolution")
+    @Description("Resolving the frame type of an element from its type field")
+    @StackTrace(false)
+    public static final class TypeResolution extends FramesEvent
+    {
+    }
+}
@@ -0,0 +1,88 @@
+package com.tinkerpop.frames.jfr;
+
+import java.lang.reflect.Method;
+
+/**
+ * Emits JDK Flight Recorder events for frames operations, so that the cost of frames can be correlated with the GC, lock and allocation events of a
+ * recording. The events are in the "Frames" category:
+ * <ul>
+ * <li><code>com.tinkerpop.frames.Frame</code>, framing an element. Disabled by default.</li>
+ * <li><code>com.tinkerpop.frames.Dispatch</code>, calling the handler of a frame method. Disabled by default.</li>
+ * <li><code>com.tinkerpop.frames.ScriptCompilation</code>, compiling or translating a <code>@GremlinGroovy</code> script.</li>
+ * <li><code>com.tinkerpop.frames.ScriptEvaluation</code>, evaluating a <code>@GremlinGroovy</code> script.</li>
+ * <li><code>com.tinkerpop.frames.JavaHandlerCreation</code>, creating a <code>@JavaHandler</code> implementation.</li>
+ * <li><code>com.tinkerpop.frames.TypeResolution</code>, resolving the type of an element from its type field.</li>
+ * </ul>
+ * Each event carries the frame interface, the method name and the element id, where they apply. The frequent events are disabled by default and
+ * can be enabled in the recording settings, for example <code>com.tinkerpop.frames.Dispatch#enabled=true</code>.
+ * <p>
+ * On JVMs without the <code>jdk.jfr</code> API no event classes are loaded and these methods do nothing.
+ */
+public final class FramesEvents
+{
+    public enum Kind
+    {
+        FRAME, DISPATCH, SCRIPT_COMPILATION, SCRIPT_EVALUATION, JAVA_HANDLER_CREATION, TYPE_RESOLUTION
+    }
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    /**
+     * Returned by {@link #begin(Kind)} for events that are not being recorded, so that nothing is allocated for them.
+     */
+    static final Object NOT_RECORDED = new Object();
+
+    private FramesEvents()
+    {
+    }
+
+    /**
+     * Start timing an operation. Whether the event is enabled is checked before an event is created, so an event that is not being recorded costs
+     * a field read.
+     * 
+     * @param kind The kind of event.
+     * @return The event to pass to {@link #commit(Object, Class, Method, Object)}, or a shared token if the event is not being recorded.
+     */
+    public static Object begin(Kind kind)
+    {
+        return AVAILABLE ? FlightRecorderSupport.begin(kind) : NOT_RECORDED;
+    }
+
+    /**
+     * @param event The event returned by {@link #begin(Kind)}.
+     * @return true if the event is being recorded and must be committed.
+     */
+    public static boolean isRecording(Object event)
+    {
+        return event != NOT_RECORDED;
+    }
+
+    /**
+     * Finish timing an operation and record it if it exceeds the threshold of the event.
+     * 
+     * @param event The event returned by {@link #begin(Kind)}. Nothing is done if the event is not being recorded.
+     * @param frameInterface The frame interface, or null.
+     * @param method The frame method, or null.
+     * @param elementId The id of the element, or null.
+     */
+    public static void commit(Object event, Class<?> frameInterface, Method method, Object elementId)
+    {
+        if (event != NOT_RECORDED)
+        {
+            FlightRecorderSupport.commit(event, frameInterface, method, elementId);
+        }
+    }
+
+    private static boolean isAvailable()
+    {
+        try
+        {
+            Class.forName("jdk.jfr.Event", false, FramesEvents.class.getClassLoader());
+            return true;
+        }
+        catch (ClassNotFoundException | LinkageError e)
+        {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.tinkerpop.frames.modules;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.FramedGraph;
+
+/**
+ * Instantiates frames for one set of resolved interfaces.
+ *
+ * @see FrameFactory
+ */
+public interface FrameConstructor
+{
+    /**
+     * @param framedGraph The graph the element belongs to.
+     * @param element The element to frame.
+     * @param direction The direction of the edge.
+     * @return A frame backed by the element.
+     */
+    Object newFrame(FramedGraph<?> framedGraph, Element element, Direction direction);
+
+    /**
+     * Lazy frames look their element up on every call, so a factory whose frames hold their element in a field may return the lazy frames of a
+     * {@link ProxyFrameFactory} for the same interfaces instead, as the <code>GeneratedFramesModule</code> does.
+     *
+     * @param framedGraph The graph the element belongs to.
+     * @param id The id of the element to frame.
+     * @param elementType Either {@link org.apache.tinkerpop.gremlin.structure.Vertex} or {@link org.apache.tinkerpop.gremlin.structure.Edge}.
+     * @param direction The direction of the edge.
+     * @return A frame that holds only the id and looks up the element when its methods are called.
+     */
+    Object newLazyFrame(FramedGraph<?> framedGraph, Object id, Class<? extends Element> elementType, Direction direction);
+}
@@ -0,0 +1,19 @@
+package com.tinkerpop.frames.modules;
+
+import com.tinkerpop.frames.FramedGraph;
+
+/**
+ * Creates the objects that implement frame interfaces. The default implementation is {@link ProxyFrameFactory}, which uses
+ * {@link java.lang.reflect.Proxy}. An alternative factory may be registered on the configuration by a {@link Module}.
+ *
+ * Instances of this class should be threadsafe.
+ */
+public interface FrameFactory
+{
+    /**
+     * @param classLoader The class loader resolved by the {@link FrameClassLoaderResolver} for the frame.
+     * @param interfaces The interfaces that the frame must implement, as resolved by the {@link FramedGraph} and its {@link TypeResolver}s.
+     * @return A constructor for frames implementing the interfaces.
+     */
+    FrameConstructor getConstructor(ClassLoader classLoader, Class<?>[] interfaces);
+}
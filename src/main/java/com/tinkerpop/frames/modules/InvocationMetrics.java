@@ -0,0 +1,40 @@
+package com.tinkerpop.frames.modules;
+
+import java.lang.reflect.Method;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+/**
+ * Receives measurements from a {@link com.tinkerpop.frames.FramedGraph}: the time taken by each frame method, the elements framed and added, and
+ * the lookups in the frame constructor cache. It is registered on the configuration by a {@link Module}. When no metrics are registered the framed
+ * graph does not take any measurements.
+ * 
+ * Instances of this class should be threadsafe.
+ */
+public interface InvocationMetrics
+{
+    /**
+     * Called once for each frame method when its handler is resolved, not on every call.
+     * 
+     * @param method The annotated method.
+     * @return The metrics to record calls of the method in, or null if calls of the method should not be measured.
+     */
+    MethodMetrics forMethod(Method method);
+
+    /**
+     * @param kind The kind of frame requested.
+     * @param element The element that was framed.
+     */
+    void elementFramed(Class<?> kind, Element element);
+
+    /**
+     * @param kind The kind of frame requested.
+     * @param element The element that was added to the graph. It is also reported to {@link #elementFramed(Class, Element)} when it is framed.
+     */
+    void elementAdded(Class<?> kind, Element element);
+
+    /**
+     * @param hit true if a frame constructor was found in the cache, false if one had to be created.
+     */
+    void frameCacheLookup(boolean hit);
+}
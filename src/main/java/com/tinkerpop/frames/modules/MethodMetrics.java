@@ -0,0 +1,14 @@
+package com.tinkerpop.frames.modules;
+
+/**
+ * Records the calls of a single frame method. See {@link InvocationMetrics#forMethod(java.lang.reflect.Method)}.
+ * 
+ * Instances of this class should be threadsafe.
+ */
+public interface MethodMetrics
+{
+    /**
+     * @param elapsedNanos The time taken by the call, including the time taken by the handler to throw an exception.
+     */
+    void record(long elapsedNanos);
+}
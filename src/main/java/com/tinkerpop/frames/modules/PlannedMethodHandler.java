@@ -0,0 +1,42 @@
+package com.tinkerpop.frames.modules;
+
+import java.lang.annotation.Annotation;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.MethodPlan;
+
+/**
+ * A {@link MethodHandler} that is called with the {@link MethodPlan} of the method instead of the method and annotation, so that it does not have to
+ * inspect the method on every call. The framed graph only calls {@link #processElement(Object, MethodPlan, Object[], FramedGraph, Element)} on
+ * handlers implementing this interface.
+ * 
+ * @param <T> The type of annotation handled.
+ */
+public interface PlannedMethodHandler<T extends Annotation> extends MethodHandler<T>
+{
+    /**
+     * @param frame The frame upon which the method is being called.
+     * @param plan The plan of the method being called on the frame.
+     * @param arguments The arguments to the method.
+     * @param framedGraph The graph being called.
+     * @param element The underlying element.
+     * @return A return value for the method.
+     */
+    public Object processElement(final Object frame, final MethodPlan<T> plan, final Object[] arguments, final FramedGraph<?> framedGraph,
+                final Element element);
+
+    /**
+     * Prepare what the handler needs for every call of a method, such as a resolved invoker. The framed graph calls this once, when the method is
+     * resolved, and the result is returned by {@link MethodPlan#getHandlerState()} on every call. Plans compiled outside of a framed graph have no
+     * state.
+     * 
+     * @param plan The plan of the method.
+     * @return The state of the method, or null.
+     */
+    public default Object prepare(final MethodPlan<T> plan)
+    {
+        return null;
+    }
+}
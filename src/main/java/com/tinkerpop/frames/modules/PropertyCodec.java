@@ -0,0 +1,23 @@
+package com.tinkerpop.frames.modules;
+
+/**
+ * Converts the values of <code>@Property</code> methods of one type to the form they are stored in on the element, and back. Codecs are registered
+ * on the configuration by a {@link Module} and chosen for each method when it is resolved, from the return type of getters and the parameter type of
+ * setters. Enums are stored by name unless a codec is registered for the enum type. Instances of this class should be threadsafe.
+ * 
+ * @param <T> The type of the property values.
+ */
+public interface PropertyCodec<T>
+{
+    /**
+     * @param value The value passed to the frame, never null.
+     * @return The value to store on the element.
+     */
+    public Object encode(T value);
+
+    /**
+     * @param stored The value stored on the element, never null.
+     * @return The value to return from the frame.
+     */
+    public T decode(Object stored);
+}
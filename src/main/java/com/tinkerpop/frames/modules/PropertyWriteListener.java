@@ -0,0 +1,28 @@
+package com.tinkerpop.frames.modules;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.FramedGraph;
+
+/**
+ * Is told when a <code>@Property</code> setter or remover of a frame has written a property. Listeners are registered on the configuration by a
+ * {@link Module} and chosen for each method when it is resolved, from the property key, so methods writing other keys pay nothing and remain
+ * eligible for inlining by generated frames. Instances of this class should be threadsafe.
+ */
+public interface PropertyWriteListener
+{
+    /**
+     * The {@link FramedGraph} asks this once per <code>@Property</code> method. The answer must not change once the graph is in use.
+     * 
+     * @param key The property key of a setter or remover.
+     * @return true if this listener must be told about writes of the key.
+     */
+    public boolean listensTo(String key);
+
+    /**
+     * @param framedGraph The graph.
+     * @param element The element whose property was set or removed.
+     * @param key The property key.
+     */
+    public void propertyWritten(FramedGraph<?> framedGraph, Element element, String key);
+}
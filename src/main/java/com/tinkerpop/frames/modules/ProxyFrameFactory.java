@@ -0,0 +1,66 @@
+package com.tinkerpop.frames.modules;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.FramedElement;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.LazyFramedElement;
+import com.tinkerpop.frames.util.ExceptionUtils;
+
+/**
+ * Implements frames using {@link Proxy} classes with a {@link FramedElement} as the invocation handler.
+ */
+public class ProxyFrameFactory implements FrameFactory
+{
+    @Override
+    public FrameConstructor getConstructor(ClassLoader classLoader, Class<?>[] interfaces)
+    {
+        try
+        {
+            final Constructor<?> constructor = Proxy.getProxyClass(classLoader, interfaces).getConstructor(InvocationHandler.class);
+            // Proxy classes for non-public interfaces are not public themselves.
+            constructor.setAccessible(true);
+            return new FrameConstructor()
+            {
+                @Override
+                public Object newFrame(FramedGraph<?> framedGraph, Element element, Direction direction)
+                {
+                    return newInstance(new FramedElement(framedGraph, element, direction));
+                }
+
+                @Override
+                public Object newLazyFrame(FramedGraph<?> framedGraph, Object id, Class<? extends Element> elementType, Direction direction)
+                {
+                    return newInstance(new LazyFramedElement(framedGraph, id, elementType, direction));
+                }
+
+                private Object newInstance(FramedElement handler)
+                {
+                    try
+                    {
+                        return constructor.newInstance(handler);
+                    }
+                    catch (InvocationTargetException e)
+                    {
+                        ExceptionUtils.sneakyThrow(e.getTargetException());
+                        return null;
+                    }
+                    catch (InstantiationException | IllegalAccessException e)
+                    {
+                        throw new IllegalStateException("Cannot instantiate proxy for " + constructor.getDeclaringClass(), e);
+                    }
+                }
+            };
+        }
+        catch (NoSuchMethodException e)
+        {
+            throw new NoSuchMethodError(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.tinkerpop.frames.modules.codec;
+
+import java.util.Date;
+
+import com.tinkerpop.frames.modules.PropertyCodec;
+
+/**
+ * Stores dates as the number of milliseconds since the epoch, for graphs that cannot store or index {@link Date} objects. As dates are mutable,
+ * every read allocates a new {@link Date}. Dates that were stored as {@link Date} objects are still read.
+ */
+public final class DateCodec implements PropertyCodec<Date>
+{
+    @Override
+    public Object encode(Date value)
+    {
+        return value.getTime();
+    }
+
+    @Override
+    public Date decode(Object stored)
+    {
+        return stored instanceof Date ? (Date) stored : new Date(((Number) stored).longValue());
+    }
+}
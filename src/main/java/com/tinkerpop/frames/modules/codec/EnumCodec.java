@@ -0,0 +1,67 @@
+package com.tinkerpop.frames.modules.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tinkerpop.frames.modules.PropertyCodec;
+
+/**
+ * Stores enums by the name of the constant. Stored names are looked up in a table built once per enum type, so reading a property does not go
+ * through {@link Enum#valueOf(Class, String)}.
+ * 
+ * @param <E> The enum type.
+ */
+public final class EnumCodec<E extends Enum<E>> implements PropertyCodec<E>
+{
+    private static final ClassValue<EnumCodec<?>> CODECS = new ClassValue<EnumCodec<?>>()
+    {
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        @Override
+        protected EnumCodec<?> computeValue(Class<?> type)
+        {
+            return new EnumCodec(type);
+        }
+    };
+
+    private final Class<E> type;
+    private final Map<String, E> constants = new HashMap<String, E>();
+
+    private EnumCodec(Class<E> type)
+    {
+        this.type = type;
+        for (E constant : type.getEnumConstants())
+        {
+            constants.put(constant.name(), constant);
+        }
+    }
+
+    /**
+     * @param type An enum type.
+     * @return The codec for the enum type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumCodec<E> of(Class<E> type)
+    {
+        return (EnumCodec<E>) CODECS.get(type);
+    }
+
+    @Override
+    public Object encode(E value)
+    {
+        return value.name();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the enum has no constant with the stored name.
+     */
+    @Override
+    public E decode(Object stored)
+    {
+        E constant = constants.get(stored.toString());
+        if (constant == null)
+        {
+            throw new IllegalArgumentException("No enum constant " + type.getCanonicalName() + "." + stored);
+        }
+        return constant;
+    }
+}
@@ -0,0 +1,25 @@
+package com.tinkerpop.frames.modules.codec;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.tinkerpop.frames.modules.PropertyCodec;
+
+/**
+ * Stores lists as immutable copies, which are backed by an array without spare capacity and compare by value, so that lookups by a list property
+ * match. Reading returns the stored list itself, without copying it. Lists that were stored as other {@link List}s are still read.
+ */
+public final class ListCodec implements PropertyCodec<List<?>>
+{
+    @Override
+    public Object encode(List<?> value)
+    {
+        return ImmutableList.copyOf(value);
+    }
+
+    @Override
+    public List<?> decode(Object stored)
+    {
+        return (List<?>) stored;
+    }
+}
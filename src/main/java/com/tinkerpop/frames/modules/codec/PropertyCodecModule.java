@@ -0,0 +1,73 @@
+package com.tinkerpop.frames.modules.codec;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.tinkerpop.frames.FramedGraphConfiguration;
+import com.tinkerpop.frames.modules.AbstractModule;
+import com.tinkerpop.frames.modules.PropertyCodec;
+
+/**
+ * Registers {@link PropertyCodec}s for the <code>@Property</code> methods of the graphs created by a factory:
+ * 
+ * <pre>
+ * FramedGraphFactory factory = new FramedGraphFactory(new PropertyCodecModule().withCompactCodecs().withCodec(Money.class, new MoneyCodec()));
+ * </pre>
+ * 
+ * A codec is used for a method if it is registered for exactly the return type of the getter or the parameter type of the setter. Enums are stored
+ * by name with an {@link EnumCodec} unless another codec is registered for the enum type.
+ */
+public class PropertyCodecModule extends AbstractModule
+{
+    private final Map<Class<?>, PropertyCodec<?>> codecs = new LinkedHashMap<Class<?>, PropertyCodec<?>>();
+
+    /**
+     * @param type The declared type of the property values.
+     * @param codec The codec for values of the type.
+     * @return The module.
+     */
+    public <T> PropertyCodecModule withCodec(Class<T> type, PropertyCodec<? super T> codec)
+    {
+        codecs.put(type, codec);
+        return this;
+    }
+
+    /**
+     * Store {@link List}s and {@link Set}s as immutable copies, which are read without copying. Values that were stored before the codecs were
+     * registered are still read.
+     * 
+     * @return The module.
+     */
+    public PropertyCodecModule withCompactCodecs()
+    {
+        codecs.put(List.class, new ListCodec());
+        codecs.put(Set.class, new SetCodec());
+        return this;
+    }
+
+    /**
+     * Store {@link Date}s as epoch milliseconds and {@link UUID}s as strings, for graphs that can only store and index primitives and strings.
+     * Reading decodes a new value each time, see {@link DateCodec} and {@link UuidCodec}.
+     * 
+     * @return The module.
+     */
+    public PropertyCodecModule withPortableCodecs()
+    {
+        codecs.put(Date.class, new DateCodec());
+        codecs.put(UUID.class, new UuidCodec());
+        return this;
+    }
+
+    @Override
+    public void doConfigure(FramedGraphConfiguration config)
+    {
+        for (Map.Entry<Class<?>, PropertyCodec<?>> codec : codecs.entrySet())
+        {
+            config.addPropertyCodec(codec.getKey(), codec.getValue());
+        }
+    }
+}
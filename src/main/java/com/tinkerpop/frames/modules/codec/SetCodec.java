@@ -0,0 +1,25 @@
+package com.tinkerpop.frames.modules.codec;
+
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.tinkerpop.frames.modules.PropertyCodec;
+
+/**
+ * Stores sets as immutable copies in iteration order, which hold no entry object per element and compare by value, so that lookups by a set
+ * property match. Reading returns the stored set itself, without copying it. Sets that were stored as other {@link Set}s are still read.
+ */
+public final class SetCodec implements PropertyCodec<Set<?>>
+{
+    @Override
+    public Object encode(Set<?> value)
+    {
+        return ImmutableSet.copyOf(value);
+    }
+
+    @Override
+    public Set<?> decode(Object stored)
+    {
+        return (Set<?>) stored;
+    }
+}
@@ -0,0 +1,25 @@
+package com.tinkerpop.frames.modules.codec;
+
+import java.util.UUID;
+
+import com.tinkerpop.frames.modules.PropertyCodec;
+
+/**
+ * Stores UUIDs in their canonical string form, for graphs that cannot store or index {@link UUID} objects. The string takes more memory than the
+ * UUID and is parsed on every read, so register this codec only where the graph requires it. UUIDs that were stored as {@link UUID} objects are
+ * still read.
+ */
+public final class UuidCodec implements PropertyCodec<UUID>
+{
+    @Override
+    public Object encode(UUID value)
+    {
+        return value.toString();
+    }
+
+    @Override
+    public UUID decode(Object stored)
+    {
+        return stored instanceof UUID ? (UUID) stored : UUID.fromString(stored.toString());
+    }
+}
@@ -0,0 +1,202 @@
+package com.tinkerpop.frames.modules.edgeindex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import com.google.common.collect.AbstractIterator;
+
+/**
+ * The ids of the edges of one graph, keyed by (out-vertex id, label, in-vertex id). The incident edges of a vertex are read into the index the first
+ * time the vertex is queried for a label and direction. After that the index is maintained by the framing layer. Only ids are held, so the index
+ * does not keep the graph or its elements reachable.
+ */
+class EdgeIndex
+{
+    private final Map<EdgeKey, Set<Object>> edges = new ConcurrentHashMap<EdgeKey, Set<Object>>();
+    private final Set<LoadKey> loaded = Collections.newSetFromMap(new ConcurrentHashMap<LoadKey, Boolean>());
+
+    /**
+     * @return The edges with the label between the vertex and the other vertex. The edges are looked up by id as the result is iterated.
+     */
+    Iterator<Edge> get(Vertex vertex, Direction direction, String label, Vertex otherVertex)
+    {
+        load(vertex, direction, label);
+        List<Set<Object>> sets = new ArrayList<Set<Object>>(2);
+        if (direction != Direction.IN)
+        {
+            addIfPresent(new EdgeKey(vertex.id(), label, otherVertex.id()), sets);
+        }
+        if (direction != Direction.OUT && !(direction == Direction.BOTH && vertex.equals(otherVertex)))
+        {
+            addIfPresent(new EdgeKey(otherVertex.id(), label, vertex.id()), sets);
+        }
+        return new EdgeIterator(vertex.graph(), sets.iterator());
+    }
+
+    void add(Edge edge)
+    {
+        edges.computeIfAbsent(new EdgeKey(edge), k -> Collections.newSetFromMap(new ConcurrentHashMap<Object, Boolean>())).add(edge.id());
+    }
+
+    void remove(Edge edge)
+    {
+        Set<Object> set = edges.get(new EdgeKey(edge));
+        if (set != null)
+        {
+            set.remove(edge.id());
+        }
+    }
+
+    int size()
+    {
+        int size = 0;
+        for (Set<Object> set : edges.values())
+        {
+            size += set.size();
+        }
+        return size;
+    }
+
+    private void addIfPresent(EdgeKey key, List<Set<Object>> sets)
+    {
+        Set<Object> set = edges.get(key);
+        if (set != null)
+        {
+            sets.add(set);
+        }
+    }
+
+    private void load(Vertex vertex, Direction direction, String label)
+    {
+        LoadKey key = new LoadKey(vertex.id(), direction, label);
+        if (loaded.contains(key))
+        {
+            return;
+        }
+        synchronized (this)
+        {
+            if (!loaded.contains(key))
+            {
+                vertex.edges(direction, label).forEachRemaining(this::add);
+                loaded.add(key);
+            }
+        }
+    }
+
+    /**
+     * Looks up the edges of a list of id sets. Edges removed without going through the framing layer are dropped from their set here.
+     */
+    private static final class EdgeIterator extends AbstractIterator<Edge>
+    {
+        private final Graph graph;
+        private final Iterator<Set<Object>> sets;
+        private Iterator<Object> ids = Collections.emptyIterator();
+
+        EdgeIterator(Graph graph, Iterator<Set<Object>> sets)
+        {
+            this.graph = graph;
+            this.sets = sets;
+        }
+
+        @Override
+        protected Edge computeNext()
+        {
+            while (true)
+            {
+                while (!ids.hasNext())
+                {
+                    if (!sets.hasNext())
+                    {
+                        return endOfData();
+                    }
+                    ids = sets.next().iterator();
+                }
+                Iterator<Edge> edge = graph.edges(ids.next());
+                if (edge.hasNext())
+                {
+                    return edge.next();
+                }
+                ids.remove();
+            }
+        }
+    }
+
+    private static final class EdgeKey
+    {
+        private final Object outId;
+        private final String label;
+        private final Object inId;
+        private final int hashCode;
+
+        EdgeKey(Edge edge)
+        {
+            this(edge.outVertex().id(), edge.label(), edge.inVertex().id());
+        }
+
+        EdgeKey(Object outId, String label, Object inId)
+        {
+            this.outId = outId;
+            this.label = label;
+            this.inId = inId;
+            this.hashCode = 31 * (31 * outId.hashCode() + label.hashCode()) + inId.hashCode();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof EdgeKey)
+            {
+                EdgeKey other = (EdgeKey) obj;
+                return outId.equals(other.outId) && label.equals(other.label) && inId.equals(other.inId);
+            }
+            return false;
+        }
+    }
+
+    private static final class LoadKey
+    {
+        private final Object vertexId;
+        private final Direction direction;
+        private final String label;
+
+        LoadKey(Object vertexId, Direction direction, String label)
+        {
+            this.vertexId = vertexId;
+            this.direction = direction;
+            this.label = label;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * (31 * vertexId.hashCode() + direction.hashCode()) + label.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof LoadKey)
+            {
+                LoadKey other = (LoadKey) obj;
+                return vertexId.equals(other.vertexId) && direction == other.direction && label.equals(other.label);
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.tinkerpop.frames.modules.edgeindex;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.tinkerpop.frames.Adjacency;
+import com.tinkerpop.frames.FrameInitializer;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphConfiguration;
+import com.tinkerpop.frames.MethodPlan;
+import com.tinkerpop.frames.annotations.AdjacencyAnnotationHandler;
+import com.tinkerpop.frames.modules.AbstractModule;
+import com.tinkerpop.frames.modules.PlannedMethodHandler;
+
+/**
+ * Keeps an in-memory index of edges by (out-vertex, label, in-vertex), so that <code>@Adjacency</code> remove, has and add-if-absent methods
+ * don't walk every incident edge of a vertex.
+ * <p>
+ * The incident edges of a vertex are read into the index the first time it is queried, then the index is updated by <code>@Adjacency</code> methods
+ * and by {@link FramedGraph#addEdge(Vertex, Vertex, String, Class)}, which is also used by <code>@Incidence</code> add methods. Edges removed by other
+ * means are dropped from the index when they are next looked up, but edges added directly to the base graph after a vertex has been indexed are not
+ * seen. Call {@link #clear(FramedGraph)} after making such changes.
+ * <p>
+ * The index of a graph holds edge ids rather than edges and is weakly keyed by the base graph, so it is discarded once the graph is no longer used.
+ */
+public class EdgeIndexModule extends AbstractModule
+{
+    private final LoadingCache<Graph, EdgeIndex> indexes = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Graph, EdgeIndex>()
+    {
+        @Override
+        public EdgeIndex load(Graph graph)
+        {
+            return new EdgeIndex();
+        }
+    });
+
+    private final IndexedAdjacencyHandler handler = new IndexedAdjacencyHandler(); // Factory will share handler.
+
+    @Override
+    public void doConfigure(FramedGraphConfiguration config)
+    {
+        config.addMethodHandler(handler);
+        config.addFrameInitializer(handler);
+    }
+
+    /**
+     * Discard the index of a graph. It will be rebuilt as vertices are queried.
+     */
+    public void clear(FramedGraph<?> framedGraph)
+    {
+        indexes.invalidate(framedGraph.getBaseGraph());
+    }
+
+    /**
+     * @return The number of edges held in the index of a graph.
+     */
+    public int size(FramedGraph<?> framedGraph)
+    {
+        EdgeIndex index = indexes.getIfPresent(framedGraph.getBaseGraph());
+        return index == null ? 0 : index.size();
+    }
+
+    private EdgeIndex getIndex(Element element)
+    {
+        return indexes.getUnchecked(element.graph());
+    }
+
+    private class IndexedAdjacencyHandler extends AdjacencyAnnotationHandler implements PlannedMethodHandler<Adjacency>, FrameInitializer
+    {
+        @Override
+        public Object processElement(Object frame, Method method, Object[] arguments, Adjacency annotation, FramedGraph<?> framedGraph,
+                    Element element)
+        {
+            return processElement(annotation, method, arguments, framedGraph, element, Direction.OUT);
+        }
+
+        @Override
+        public Object processElement(Object frame, MethodPlan<Adjacency> plan, Object[] arguments, FramedGraph<?> framedGraph, Element element)
+        {
+            return processElement(plan, arguments, framedGraph, element, Direction.OUT);
+        }
+
+        @Override
+        protected Iterator<Edge> getEdges(Vertex vertex, Direction direction, String label, Vertex otherVertex)
+        {
+            return getIndex(vertex).get(vertex, direction, label, otherVertex);
+        }
+
+        @Override
+        protected Edge addEdge(Vertex outVertex, String label, Vertex inVertex)
+        {
+            Edge edge = super.addEdge(outVertex, label, inVertex);
+            getIndex(edge).add(edge);
+            return edge;
+        }
+
+        @Override
+        protected void removeEdge(Edge edge)
+        {
+            getIndex(edge).remove(edge);
+            super.removeEdge(edge);
+        }
+
+        @Override
+        public void initElement(Class<?> kind, FramedGraph<?> framedGraph, Element element)
+        {
+            if (element instanceof Edge)
+            {
+                getIndex(element).add((Edge) element);
+            }
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> kind, Class<? extends Element> elementType)
+        {
+            return Edge.class.isAssignableFrom(elementType);
+        }
+    }
+}
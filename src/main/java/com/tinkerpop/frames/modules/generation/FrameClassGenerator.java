@@ -0,0 +1,371 @@
+package com.tinkerpop.frames.modules.generation;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javassist.CannotCompileException;
+import javassist.ClassClassPath;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtMethod;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.EdgeFrame;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.MethodDispatch;
+import com.tinkerpop.frames.MethodPlan;
+import com.tinkerpop.frames.VertexFrame;
+import com.tinkerpop.frames.modules.PropertyCodec;
+
+/**
+ * Emits {@link GeneratedFrame} subclasses for a set of frame interfaces using javassist.
+ */
+class FrameClassGenerator
+{
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static final String GENERATED_FRAME = GeneratedFrame.class.getName();
+    private static final String DISPATCH_ARGS = "framedGraph, element, direction";
+
+    // Maps from primitive return type -> GeneratedFrame method that reads and unboxes a property.
+    private static final Map<Class<?>, String> PRIMITIVE_ACCESSORS = new HashMap<Class<?>, String>();
+
+    static
+    {
+        PRIMITIVE_ACCESSORS.put(Boolean.TYPE, "getBooleanProperty");
+        PRIMITIVE_ACCESSORS.put(Integer.TYPE, "getIntProperty");
+        PRIMITIVE_ACCESSORS.put(Long.TYPE, "getLongProperty");
+        PRIMITIVE_ACCESSORS.put(Float.TYPE, "getFloatProperty");
+        PRIMITIVE_ACCESSORS.put(Double.TYPE, "getDoubleProperty");
+    }
+
+    /**
+     * Collect the methods that a generated frame must implement, keyed by signature.
+     *
+     * @return The methods, or null if the interfaces declare methods that only differ by return type or that use types that are not public.
+     */
+    static Map<String, Method> collectMethods(Class<?>[] interfaces)
+    {
+        Map<String, Method> methods = new LinkedHashMap<String, Method>();
+        for (Class<?> type : interfaces)
+        {
+            for (Method method : type.getMethods())
+            {
+                if (Modifier.isStatic(method.getModifiers()) || (method.isDefault() && method.getAnnotations().length == 0)
+                            || isBuiltin(method))
+                {
+                    continue;
+                }
+                if (!isAccessible(method.getReturnType()))
+                {
+                    return null;
+                }
+                for (Class<?> parameterType : method.getParameterTypes())
+                {
+                    if (!isAccessible(parameterType))
+                    {
+                        return null;
+                    }
+                }
+                String signature = signature(method);
+                Method existing = methods.get(signature);
+                if (existing == null)
+                {
+                    methods.put(signature, method);
+                }
+                else if (existing.getReturnType() != method.getReturnType())
+                {
+                    return null;
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * The methods implemented by {@link GeneratedFrame} itself.
+     */
+    private static boolean isBuiltin(Method method)
+    {
+        String name = method.getName();
+        int parameters = method.getParameterTypes().length;
+        if (parameters == 0)
+        {
+            return name.equals("asVertex") || name.equals("asEdge") || name.equals("hashCode") || name.equals("toString");
+        }
+        return parameters == 1 && name.equals("equals") && method.getParameterTypes()[0] == Object.class;
+    }
+
+    static String signature(Method method)
+    {
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+
+    /**
+     * Create the body of a <code>@Property</code> method that accesses the element directly, mirroring
+     * {@link com.tinkerpop.frames.annotations.PropertyMethodHandler}. Values with a codec are converted by the codec of the method's plan, and
+     * primitive getters unbox the stored number directly.
+     *
+     * @param slot The index of the method in the dispatch table.
+     * @return The body, or null if the method must be dispatched to the handler.
+     */
+    static String propertyBody(MethodDispatch methodDispatch, Class<?>[] interfaces, int slot)
+    {
+        MethodPlan<?> plan = methodDispatch.getPlan();
+        Method method = plan.getMethod();
+        String key = literal(plan.getKey());
+        Class<?> returnType = method.getReturnType();
+        boolean coded = plan.getCodec() != null;
+        if (!plan.getWriteListeners().isEmpty())
+        {
+            // Writes that listeners are told about go through the handler.
+            return null;
+        }
+        switch (plan.getOperation())
+        {
+        case GET:
+            if (coded)
+            {
+                return "{ return ($r) getProperty(element, " + key + ", codec(" + slot + ")); }";
+            }
+            String accessor = PRIMITIVE_ACCESSORS.get(returnType);
+            if (accessor != null)
+            {
+                return "{ return " + accessor + "(element, " + key + "); }";
+            }
+            return "{ return ($r) getProperty(element, " + key + "); }";
+        case SET:
+            if (method.getParameterTypes().length == 0)
+            {
+                return null;
+            }
+            String result = result(returnType, interfaces);
+            if (result == null)
+            {
+                return null;
+            }
+            return coded ? "{ setProperty(element, " + key + ", ($w) $1, codec(" + slot + ")); " + result + " }"
+                        : "{ setProperty(element, " + key + ", ($w) $1); " + result + " }";
+        case REMOVE:
+            if (plan.getReturnShape() == MethodPlan.ReturnShape.PRIMITIVE)
+            {
+                return null;
+            }
+            return "{ removeProperty(element, " + key + "); " + (returnType == Void.TYPE ? "" : "return null;") + " }";
+        default:
+            return null;
+        }
+    }
+
+    private static String result(Class<?> returnType, Class<?>[] interfaces)
+    {
+        if (returnType == Void.TYPE)
+        {
+            return "";
+        }
+        if (returnType.isPrimitive())
+        {
+            return null;
+        }
+        if (returnType.isAssignableFrom(GeneratedFrame.class))
+        {
+            return "return this;";
+        }
+        for (Class<?> type : interfaces)
+        {
+            if (returnType.isAssignableFrom(type))
+            {
+                return "return this;";
+            }
+        }
+        return "return null;";
+    }
+
+    private static String literal(String value)
+    {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray())
+        {
+            if (c == '"' || c == '\\')
+            {
+                literal.append('\\').append(c);
+            }
+            else if (c < 0x20 || c > 0x7e)
+            {
+                literal.append(String.format("\\u%04x", (int) c));
+            }
+            else
+            {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * @param classLoader The class loader for the frame interfaces.
+     * @param interfaces The frame interfaces.
+     * @param methods The methods to implement. Method <code>i</code> dispatches to element <code>i</code> of the dispatch table.
+     * @param inlined The bodies of methods that access the element directly, keyed by signature.
+     * @return The generated class.
+     */
+    static Class<? extends GeneratedFrame> generate(ClassLoader classLoader, Class<?>[] interfaces, List<Method> methods,
+                Map<String, String> inlined) throws NotFoundException, CannotCompileException
+    {
+        ClassPool pool = new ClassPool(false);
+        pool.appendClassPath(new ClassClassPath(GeneratedFrame.class));
+        if (classLoader != null)
+        {
+            pool.insertClassPath(new LoaderClassPath(classLoader));
+        }
+
+        String name = className(interfaces);
+        CtClass frameClass = pool.makeClass(name, pool.get(GENERATED_FRAME));
+        frameClass.setModifiers(Modifier.PUBLIC | Modifier.FINAL);
+        for (Class<?> type : interfaces)
+        {
+            frameClass.addInterface(pool.get(type.getName()));
+        }
+
+        frameClass.addConstructor(CtNewConstructor.make(
+                    "public " + frameClass.getSimpleName() + "(" + FramedGraph.class.getName() + " framedGraph, " + Element.class.getName()
+                                + " element, " + Direction.class.getName() + " direction, " + MethodDispatch.class.getName()
+                                + "[] dispatch) { super($$); }", frameClass));
+        frameClass.addMethod(CtNewMethod.make(
+                    "protected " + GENERATED_FRAME + " newFrame(" + FramedGraph.class.getName() + " framedGraph, " + Element.class.getName()
+                                + " element, " + Direction.class.getName() + " direction) { return new " + name
+                                + "($1, $2, $3, dispatch); }", frameClass));
+
+        for (int i = 0; i < methods.size(); i++)
+        {
+            Method method = methods.get(i);
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            CtClass[] parameters = new CtClass[parameterTypes.length];
+            for (int p = 0; p < parameterTypes.length; p++)
+            {
+                parameters[p] = toCtClass(pool, parameterTypes[p]);
+            }
+            CtMethod ctMethod = new CtMethod(toCtClass(pool, method.getReturnType()), method.getName(), parameters, frameClass);
+            ctMethod.setModifiers(Modifier.PUBLIC);
+            String body = inlined.get(signature(method));
+            if (body == null)
+            {
+                body = "{ return ($r) dispatch[" + i + "].invoke(this, $args, " + DISPATCH_ARGS + "); }";
+            }
+            ctMethod.setBody(body);
+            frameClass.addMethod(ctMethod);
+        }
+
+        byte[] bytecode;
+        try
+        {
+            bytecode = frameClass.toBytecode();
+        }
+        catch (java.io.IOException e)
+        {
+            throw new CannotCompileException(e);
+        }
+        finally
+        {
+            frameClass.detach();
+        }
+        return new GeneratedClassLoader(classLoader).define(name, bytecode).asSubclass(GeneratedFrame.class);
+    }
+
+    private static String className(Class<?>[] interfaces)
+    {
+        String base = GeneratedFrame.class.getName();
+        for (Class<?> type : interfaces)
+        {
+            if (type != VertexFrame.class && type != EdgeFrame.class)
+            {
+                base = type.getName();
+                break;
+            }
+        }
+        return base + "$$Frame$" + COUNTER.incrementAndGet();
+    }
+
+    private static CtClass toCtClass(ClassPool pool, Class<?> type) throws NotFoundException
+    {
+        if (type.isArray())
+        {
+            return pool.get(toCtClass(pool, type.getComponentType()).getName() + "[]");
+        }
+        return pool.get(type.getName());
+    }
+
+    /**
+     * Each generated class gets its own loader so that it can be unloaded along with the frame factory that created it. The framework classes that
+     * generated code refers to are always taken from the loader that loaded frames, so that the generated class extends the same
+     * {@link GeneratedFrame} as the factory. Every other class, including frame interfaces in the <code>com.tinkerpop.frames</code> packages, is
+     * loaded by the frame's own loader.
+     */
+    private static class GeneratedClassLoader extends ClassLoader
+    {
+        private static final ClassLoader FRAMES_LOADER = GeneratedFrame.class.getClassLoader();
+
+        private static final Map<String, Class<?>> FRAMEWORK_CLASSES = new HashMap<String, Class<?>>();
+
+        static
+        {
+            for (Class<?> type : new Class<?>[] { GeneratedFrame.class, MethodDispatch.class, MethodPlan.class, FramedGraph.class, PropertyCodec.class,
+                        VertexFrame.class, EdgeFrame.class, Element.class, Direction.class })
+            {
+                FRAMEWORK_CLASSES.put(type.getName(), type);
+            }
+        }
+
+        GeneratedClassLoader(ClassLoader parent)
+        {
+            super(parent == null ? FRAMES_LOADER : parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+        {
+            Class<?> type = FRAMEWORK_CLASSES.get(name);
+            if (type != null)
+            {
+                return type;
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        Class<?> define(String name, byte[] bytecode)
+        {
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+    }
+
+    /**
+     * Generated classes live in their own class loader, so every type they reference must be public.
+     */
+    static boolean isAccessible(Class<?> type)
+    {
+        while (type.isArray())
+        {
+            type = type.getComponentType();
+        }
+        for (Class<?> c = type; c != null; c = c.getDeclaringClass())
+        {
+            if (!c.isPrimitive() && !Modifier.isPublic(c.getModifiers()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,157 @@
+package com.tinkerpop.frames.modules.generation;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+
+import com.tinkerpop.frames.EdgeFrame;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.MethodDispatch;
+import com.tinkerpop.frames.VertexFrame;
+import com.tinkerpop.frames.modules.PropertyCodec;
+
+/**
+ * Base class of the frame classes emitted by {@link GeneratedFrameFactory}. Generated subclasses implement the frame interfaces, calling the
+ * resolved {@link MethodDispatch} for each method directly, or reading and writing the element for <code>@Property</code> methods.
+ */
+public abstract class GeneratedFrame
+{
+    protected final FramedGraph<?> framedGraph;
+    protected final Element element;
+    protected final Direction direction;
+    protected final MethodDispatch[] dispatch;
+
+    protected GeneratedFrame(final FramedGraph<?> framedGraph, final Element element, final Direction direction, final MethodDispatch[] dispatch)
+    {
+        this.framedGraph = framedGraph;
+        this.element = element;
+        this.direction = direction;
+        this.dispatch = dispatch;
+    }
+
+    /**
+     * Create another frame of the same generated class.
+     */
+    protected abstract GeneratedFrame newFrame(FramedGraph<?> framedGraph, Element element, Direction direction);
+
+    public Vertex asVertex()
+    {
+        return (Vertex) this.element;
+    }
+
+    public Edge asEdge()
+    {
+        return (Edge) this.element;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.element.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other instanceof VertexFrame)
+        {
+            return this.element.equals(((VertexFrame) other).asVertex());
+        }
+        if (other instanceof EdgeFrame)
+        {
+            return this.element.equals(((EdgeFrame) other).asEdge());
+        }
+        else if (other instanceof Element)
+        {
+            return ElementHelper.areEqual(this.element, other);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.element.toString();
+    }
+
+    protected static Object getProperty(final Element element, final String key)
+    {
+        org.apache.tinkerpop.gremlin.structure.Property<?> property = element.property(key);
+        return property.isPresent() ? property.value() : null;
+    }
+
+    protected static Object getProperty(final Element element, final String key, final PropertyCodec<Object> codec)
+    {
+        Object value = getProperty(element, key);
+        return value == null ? null : codec.decode(value);
+    }
+
+    protected static boolean getBooleanProperty(final Element element, final String key)
+    {
+        return ((Boolean) getProperty(element, key)).booleanValue();
+    }
+
+    protected static int getIntProperty(final Element element, final String key)
+    {
+        return ((Number) getProperty(element, key)).intValue();
+    }
+
+    protected static long getLongProperty(final Element element, final String key)
+    {
+        return ((Number) getProperty(element, key)).longValue();
+    }
+
+    protected static float getFloatProperty(final Element element, final String key)
+    {
+        return ((Number) getProperty(element, key)).floatValue();
+    }
+
+    protected static double getDoubleProperty(final Element element, final String key)
+    {
+        return ((Number) getProperty(element, key)).doubleValue();
+    }
+
+    /**
+     * @param slot The index of a <code>@Property</code> method in the dispatch table.
+     * @return The codec of the method.
+     */
+    protected final PropertyCodec<Object> codec(final int slot)
+    {
+        return dispatch[slot].getPlan().getCodec();
+    }
+
+    protected static void setProperty(final Element element, final String key, final Object value)
+    {
+        if (null == value)
+        {
+            element.property(key).remove();
+        }
+        else if (value.getClass().isEnum())
+        {
+            element.property(key, ((Enum<?>) value).name());
+        }
+        else
+        {
+            element.property(key, value);
+        }
+    }
+
+    protected static void setProperty(final Element element, final String key, final Object value, final PropertyCodec<Object> codec)
+    {
+        if (null == value)
+        {
+            element.property(key).remove();
+        }
+        else
+        {
+            element.property(key, codec.encode(value));
+        }
+    }
+
+    protected static void removeProperty(final Element element, final String key)
+    {
+        element.property(key).remove();
+    }
+}
@@ -0,0 +1,158 @@
+package com.tinkerpop.frames.modules.generation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphConfiguration;
+import com.tinkerpop.frames.MethodDispatch;
+import com.tinkerpop.frames.annotations.PropertyMethodHandler;
+import com.tinkerpop.frames.modules.FrameConstructor;
+import com.tinkerpop.frames.modules.FrameFactory;
+import com.tinkerpop.frames.modules.ProxyFrameFactory;
+
+/**
+ * A {@link FrameFactory} that emits a concrete class for each set of frame interfaces. Each method of the class calls its resolved handler
+ * directly, and <code>@Property</code> methods handled by the standard {@link PropertyMethodHandler} read and write the element without going through
+ * a handler at all.
+ *
+ * Frames whose interfaces (or the types used by their methods) are not public are implemented with {@link ProxyFrameFactory} instead.
+ *
+ * @see GeneratedFramesModule
+ */
+public class GeneratedFrameFactory implements FrameFactory
+{
+    private static final Logger LOGGER = Logger.getLogger(GeneratedFrameFactory.class.getName());
+
+    private final GeneratedFramesModule module;
+    private final FramedGraphConfiguration config;
+    private final FrameFactory fallback = new ProxyFrameFactory();
+    // Maps from class loader -> interfaces -> constructor.
+    private final LoaderScopedMap<Set<Class<?>>, FrameConstructor> constructors = new LoaderScopedMap<Set<Class<?>>, FrameConstructor>();
+
+    GeneratedFrameFactory(GeneratedFramesModule module, FramedGraphConfiguration config)
+    {
+        this.module = module;
+        this.config = config;
+    }
+
+    @Override
+    public FrameConstructor getConstructor(final ClassLoader classLoader, final Class<?>[] interfaces)
+    {
+        Map<Set<Class<?>>, FrameConstructor> loaderConstructors = constructors.get(classLoader, interfaces);
+        if (loaderConstructors == null)
+        {
+            return createConstructor(classLoader, interfaces);
+        }
+        return loaderConstructors.computeIfAbsent(new HashSet<Class<?>>(Arrays.asList(interfaces)), key -> createConstructor(classLoader, interfaces));
+    }
+
+    private FrameConstructor createConstructor(final ClassLoader classLoader, final Class<?>[] interfaces)
+    {
+        for (Class<?> type : interfaces)
+        {
+            if (!FrameClassGenerator.isAccessible(type))
+            {
+                return fallback.getConstructor(classLoader, interfaces);
+            }
+        }
+        Map<String, Method> methods = FrameClassGenerator.collectMethods(interfaces);
+        if (methods == null)
+        {
+            return fallback.getConstructor(classLoader, interfaces);
+        }
+
+        Map<String, MethodDispatch> dispatches = new HashMap<String, MethodDispatch>();
+        Map<String, String> inlined = new HashMap<String, String>();
+        int slot = 0;
+        for (Map.Entry<String, Method> entry : methods.entrySet())
+        {
+            MethodDispatch methodDispatch = MethodDispatch.resolve(config, interfaces, entry.getValue());
+            dispatches.put(entry.getKey(), methodDispatch);
+            if (methodDispatch.getMethodHandler() != null && methodDispatch.getMethodHandler().getClass() == PropertyMethodHandler.class
+                        && methodDispatch.getMethodMetrics() == null)
+            {
+                String body = FrameClassGenerator.propertyBody(methodDispatch, interfaces, slot);
+                if (body != null)
+                {
+                    inlined.put(entry.getKey(), body);
+                }
+            }
+            slot++;
+        }
+
+        try
+        {
+            GeneratedFramesModule.GeneratedClass generated = module.getFrameClass(classLoader, interfaces, methods.values(), inlined);
+            List<Method> order = generated.getMethods();
+            MethodDispatch[] dispatch = new MethodDispatch[order.size()];
+            for (int i = 0; i < dispatch.length; i++)
+            {
+                dispatch[i] = dispatches.get(FrameClassGenerator.signature(order.get(i)));
+            }
+            final GeneratedFrame prototype = generated.getType()
+                        .getConstructor(FramedGraph.class, Element.class, Direction.class, MethodDispatch[].class)
+                        .newInstance(null, null, null, dispatch);
+            return new GeneratedConstructor(prototype, fallback, classLoader, interfaces);
+        }
+        catch (InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException | RuntimeException
+                    | LinkageError e)
+        {
+            LOGGER.log(Level.WARNING, "Cannot generate frame class for " + Arrays.toString(interfaces) + ", falling back to proxies", e);
+            return fallback.getConstructor(classLoader, interfaces);
+        }
+    }
+
+    /**
+     * Creates frames by copying a prototype. It is held by class values of the frame interfaces, so it must not reference the factory or its
+     * configuration, which would keep the graph the configuration was made for reachable.
+     */
+    private static final class GeneratedConstructor implements FrameConstructor
+    {
+        private final GeneratedFrame prototype;
+        private final FrameFactory fallback;
+        private final ClassLoader classLoader;
+        private final Class<?>[] interfaces;
+        private volatile FrameConstructor lazyConstructor;
+
+        GeneratedConstructor(GeneratedFrame prototype, FrameFactory fallback, ClassLoader classLoader, Class<?>[] interfaces)
+        {
+            this.prototype = prototype;
+            this.fallback = fallback;
+            this.classLoader = classLoader;
+            this.interfaces = interfaces;
+        }
+
+        @Override
+        public Object newFrame(FramedGraph<?> framedGraph, Element element, Direction direction)
+        {
+            return prototype.newFrame(framedGraph, element, direction);
+        }
+
+        /**
+         * Generated classes read the element field directly, so lazy frames are implemented with proxies.
+         */
+        @Override
+        public Object newLazyFrame(FramedGraph<?> framedGraph, Object id, Class<? extends Element> elementType, Direction direction)
+        {
+            FrameConstructor constructor = lazyConstructor;
+            if (constructor == null)
+            {
+                constructor = fallback.getConstructor(classLoader, interfaces);
+                lazyConstructor = constructor;
+            }
+            return constructor.newLazyFrame(framedGraph, id, elementType, direction);
+        }
+    }
+}
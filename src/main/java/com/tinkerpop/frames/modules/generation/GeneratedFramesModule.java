@@ -0,0 +1,95 @@
+package com.tinkerpop.frames.modules.generation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javassist.CannotCompileException;
+import javassist.NotFoundException;
+
+import com.tinkerpop.frames.FramedGraphConfiguration;
+import com.tinkerpop.frames.modules.AbstractModule;
+
+/**
+ * <p>
+ * Replaces {@link java.lang.reflect.Proxy} based frames with classes generated by javassist. For example:
+ * </p>
+ *
+ * <pre>
+ * FramedGraphFactory factory = new FramedGraphFactory(new GeneratedFramesModule());
+ * </pre>
+ * <p>
+ * Generated classes are shared between all graphs created by the same factory. Each graph binds the classes to its own handlers, so graphs with
+ * different modules never share handler instances.
+ * </p>
+ *
+ * @see GeneratedFrameFactory
+ */
+public class GeneratedFramesModule extends AbstractModule
+{
+    // Maps from class loader -> (interfaces, inlined method bodies) -> generated class.
+    private final LoaderScopedMap<List<Object>, GeneratedClass> classCache = new LoaderScopedMap<List<Object>, GeneratedClass>();
+
+    @Override
+    protected void doConfigure(FramedGraphConfiguration config)
+    {
+        config.setFrameFactory(new GeneratedFrameFactory(this, config));
+    }
+
+    GeneratedClass getFrameClass(final ClassLoader classLoader, final Class<?>[] interfaces, final Collection<Method> methods,
+                final Map<String, String> inlined)
+    {
+        Set<Class<?>> interfaceSet = new HashSet<Class<?>>(Arrays.asList(interfaces));
+        Map<List<Object>, GeneratedClass> classes = classCache.get(classLoader, interfaces);
+        if (classes == null)
+        {
+            // None of the interfaces belongs to the loader, so there is nothing to hold the class without keeping the loader reachable.
+            return generate(classLoader, interfaces, methods, inlined);
+        }
+        return classes.computeIfAbsent(Arrays.<Object> asList(interfaceSet, inlined), key -> generate(classLoader, interfaces, methods, inlined));
+    }
+
+    private static GeneratedClass generate(ClassLoader classLoader, Class<?>[] interfaces, Collection<Method> methods, Map<String, String> inlined)
+    {
+        try
+        {
+            List<Method> order = new ArrayList<Method>(methods);
+            return new GeneratedClass(FrameClassGenerator.generate(classLoader, interfaces, order, inlined), order);
+        }
+        catch (NotFoundException | CannotCompileException e)
+        {
+            throw new IllegalStateException("Cannot generate frame class for " + Arrays.toString(interfaces), e);
+        }
+    }
+
+    static final class GeneratedClass
+    {
+        private final Class<? extends GeneratedFrame> type;
+        private final List<Method> methods;
+
+        GeneratedClass(Class<? extends GeneratedFrame> type, List<Method> methods)
+        {
+            this.type = type;
+            this.methods = Collections.unmodifiableList(methods);
+        }
+
+        Class<? extends GeneratedFrame> getType()
+        {
+            return type;
+        }
+
+        /**
+         * @return The methods of the class, in the order of its dispatch table.
+         */
+        List<Method> getMethods()
+        {
+            return methods;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.tinkerpop.frames.modules.generation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps that belong to a class loader. Each map is held in a {@link ClassValue} of a class defined by the loader, rather than in a map keyed by the
+ * loader, so that the generated classes in the map do not keep the loader reachable once it has been discarded.
+ */
+final class LoaderScopedMap<K, V>
+{
+    private final ClassValue<ConcurrentMap<K, V>> maps = new ClassValue<ConcurrentMap<K, V>>()
+    {
+        @Override
+        protected ConcurrentMap<K, V> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<K, V>();
+        }
+    };
+
+    /**
+     * @param classLoader The class loader.
+     * @param types Classes, some of which may be defined by the loader.
+     * @return The map of the loader, held by the first of the types defined by the loader in name order, or null if none of them is.
+     */
+    ConcurrentMap<K, V> get(ClassLoader classLoader, Class<?>[] types)
+    {
+        Class<?> anchor = null;
+        for (Class<?> type : types)
+        {
+            if (type.getClassLoader() == classLoader && (anchor == null || type.getName().compareTo(anchor.getName()) < 0))
+            {
+                anchor = type;
+            }
+        }
+        return anchor == null ? null : maps.get(anchor);
+    }
+}
@@ -6,11 +6,59 @@ import com.tinkerpop.frames.modules.AbstractModule;
 
 /**
  * Adds <code>@GremlinGroovy</code> support to the framed graph.
+ * <p>
+ * Scripts are compiled once per method and cached. The size and eviction policy of the cache may be given as a
+ * {@link com.google.common.cache.CacheBuilderSpec}, and frame interfaces may be precompiled when the module is created:
+ * 
+ * <pre>
+ * new GremlinGroovyModule(&quot;maximumSize=200&quot;).precompile(Person.class, Project.class);
+ * </pre>
+ * 
  * @author Bryn Cooke
  *
  */
 public class GremlinGroovyModule extends AbstractModule {
-	private GremlinGroovyAnnotationHandler handler = new GremlinGroovyAnnotationHandler(); //Factory will share handler.
+	private final GremlinGroovyAnnotationHandler handler; //Factory will share handler.
+
+	public GremlinGroovyModule() {
+		this(GremlinGroovyAnnotationHandler.DEFAULT_SCRIPT_CACHE_SPEC);
+	}
+
+	/**
+	 * @param scriptCacheSpec The size and eviction policy of the compiled script cache.
+	 */
+	public GremlinGroovyModule(String scriptCacheSpec) {
+		handler = new GremlinGroovyAnnotationHandler(scriptCacheSpec);
+	}
+
+	/**
+	 * Compile the scripts of the given frame interfaces eagerly.
+	 * 
+	 * @param frameTypes The frame interfaces.
+	 * @return The module.
+	 */
+	public GremlinGroovyModule precompile(Class<?>... frameTypes) {
+		for (Class<?> frameType : frameTypes) {
+			handler.precompile(frameType);
+		}
+		return this;
+	}
+
+	/**
+	 * Run scripts as native traversals where they can be translated, falling back to the script engine for the rest.
+	 * Which methods were translated is reported by {@link GremlinGroovyAnnotationHandler#getTranslatedMethods()} and
+	 * {@link GremlinGroovyAnnotationHandler#getUntranslatedMethods()}.
+	 * 
+	 * @return The module.
+	 */
+	public GremlinGroovyModule withTraversalTranslation() {
+		handler.setTranslateTraversals(true);
+		return this;
+	}
+
+	public GremlinGroovyAnnotationHandler getHandler() {
+		return handler;
+	}
 
 	@Override
 	public void doConfigure(FramedGraphConfiguration config) {
@@ -1,6 +1,5 @@
 package com.tinkerpop.frames.modules.javahandler;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -15,9 +14,8 @@ import com.google.common.collect.Lists;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import com.tinkerpop.frames.FrameInitializer;
+import com.tinkerpop.frames.FramedElementInitializer;
 import com.tinkerpop.frames.FramedGraph;
-import com.tinkerpop.frames.util.ExceptionUtils;
 
 /**
  * Calls the methods annotated with {@link Initializer} on frame
@@ -26,7 +24,7 @@ import com.tinkerpop.frames.util.ExceptionUtils;
  * @author Bryn Cooke
  * 
  */
-class JavaFrameInitializer implements FrameInitializer {
+class JavaFrameInitializer implements FramedElementInitializer {
 
 	private JavaHandlerModule module;
 
@@ -52,16 +50,16 @@ class JavaFrameInitializer implements FrameInitializer {
     private class InitializerMethod {
         private final Class<?> h;
         private final Method method;
+        private final JavaHandlerInvoker invoker;
 
         private InitializerMethod(Class<?> h, Method method) {
             this.h = h;
             this.method = method;
+            this.invoker = JavaHandlerInvokers.get(method);
         }
 
-        void execute(Object framedElement, FramedGraph<?> framedGraph, Element element)
-                throws InvocationTargetException, IllegalAccessException {
-            Object handler = module.createHandler(framedElement, framedGraph, element, h, method);
-            method.invoke(handler);
+        void execute(Object framedElement, FramedGraph<?> framedGraph, Element element) {
+            module.invoke(framedElement, framedGraph, element, h, method, invoker, null);
         }
     }
 
@@ -74,23 +72,30 @@ class JavaFrameInitializer implements FrameInitializer {
 		} else {
 			framedElement = framedGraph.frame((Edge) element, kind);
 		}
+		initFrame(kind, framedGraph, element, framedElement);
+	}
 
+	@Override
+	public void initFrame(Class<?> kind, FramedGraph<?> framedGraph, Element element, Object frame) {
+        for (InitializerMethod method : getInitializers(kind)) {
+            method.execute(frame, framedGraph, element);
+        }
+    }
+
+    /**
+     * Only kinds with @Initializer methods need to be framed when they are created.
+     */
+    @Override
+    public boolean appliesTo(Class<?> kind, Class<? extends Element> elementType) {
+        return !getInitializers(kind).isEmpty();
+    }
+
+    private List<InitializerMethod> getInitializers(Class<?> kind) {
         try {
-            for (InitializerMethod method : initializerCache.get(kind)) {
-                try {
-                    method.execute(framedElement, framedGraph, element);
-                } catch (IllegalArgumentException e) {
-                    throw new JavaHandlerException("Problem calling Java handler", e);
-                } catch (IllegalAccessException e) {
-                    throw new JavaHandlerException("Problem calling Java handler", e);
-                } catch (InvocationTargetException e) {
-                    ExceptionUtils.sneakyThrow(e.getTargetException());
-                }
-            }
+            return initializerCache.get(kind);
         } catch (ExecutionException e) {
             throw new JavaHandlerException("Problem calling Java handler", e);
         }
-
     }
 
     /**
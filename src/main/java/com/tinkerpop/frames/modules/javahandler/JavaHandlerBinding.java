@@ -0,0 +1,52 @@
+package com.tinkerpop.frames.modules.javahandler;
+
+import java.lang.reflect.Method;
+
+import javassist.util.proxy.MethodHandler;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.FramedGraph;
+
+/**
+ * Implements the abstract methods of a handler for the call it is bound to, concrete methods of the handler are not intercepted. Methods of
+ * {@link JavaHandlerContext} are answered by the context of the call and the other abstract methods are forwarded to the frame.
+ * 
+ * @author Bryn Cooke
+ */
+class JavaHandlerBinding implements MethodHandler
+{
+    private Object framedElement;
+    private final JavaHandlerContextImpl<Element> context = new JavaHandlerContextImpl<Element>(null, null, null);
+
+    void bind(Object framedElement, FramedGraph<?> graph, Element element, Method method)
+    {
+        this.framedElement = framedElement;
+        this.context.bind(graph, method, element);
+    }
+
+    Object getFramedElement()
+    {
+        return framedElement;
+    }
+
+    JavaHandlerContextImpl<Element> getContext()
+    {
+        return context;
+    }
+
+    @Override
+    public Object invoke(Object o, Method m, Method proceed, Object[] args) throws Throwable
+    {
+        if (m.getAnnotation(JavaHandler.class) != null)
+        {
+            throw new JavaHandlerException("Method " + m + " is marked with @JavaHandler but is not implemented");
+        }
+        if (m.getDeclaringClass() == JavaHandlerContext.class)
+        {
+            return JavaHandlerInvokers.invoke(m, context, args);
+        }
+
+        return JavaHandlerInvokers.invoke(m, framedElement, args);
+    }
+}
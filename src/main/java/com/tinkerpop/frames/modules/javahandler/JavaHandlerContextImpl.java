@@ -21,9 +21,9 @@ import com.tinkerpop.frames.FramedGraph;
 class JavaHandlerContextImpl<C extends Element> implements JavaHandlerContext<C>
 {
 
-    private final FramedGraph<?> graph;
-    private final Method method;
-    private final C context;
+    private FramedGraph<?> graph;
+    private Method method;
+    private C context;
 
     JavaHandlerContextImpl(FramedGraph<?> graph, Method method, C context)
     {
@@ -33,6 +33,21 @@ class JavaHandlerContextImpl<C extends Element> implements JavaHandlerContext<C>
         this.context = context;
     }
 
+    /**
+     * Rebind a context that is reused by a handler to another call.
+     */
+    void bind(FramedGraph<?> graph, Method method, C context)
+    {
+        this.graph = graph;
+        this.method = method;
+        this.context = context;
+    }
+
+    Method getMethod()
+    {
+        return method;
+    }
+
     /**
      * @return The framed graph
      */
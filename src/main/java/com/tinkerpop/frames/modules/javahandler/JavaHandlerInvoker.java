@@ -0,0 +1,24 @@
+package com.tinkerpop.frames.modules.javahandler;
+
+/**
+ * Calls one Java handler method. Invokers are created once per method by {@link JavaHandlerInvokers}, usually as a generated class that calls the
+ * method directly, so that a handled call costs about the same as an interface call. This class is public only so that generated invokers, which
+ * live in their own class loader, can extend it.
+ *
+ * @author Bryn Cooke
+ */
+public abstract class JavaHandlerInvoker
+{
+    public JavaHandlerInvoker()
+    {
+    }
+
+    /**
+     * Call the method. Exceptions thrown by the method are rethrown unchanged.
+     *
+     * @param target The object to call the method on.
+     * @param arguments The arguments, or null if the method has no parameters.
+     * @return The result of the method, boxed, or null if the method is void.
+     */
+    public abstract Object invoke(Object target, Object[] arguments);
+}
@@ -0,0 +1,275 @@
+package com.tinkerpop.frames.modules.javahandler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javassist.CannotCompileException;
+import javassist.ClassClassPath;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+
+import com.google.common.primitives.Primitives;
+import com.tinkerpop.frames.util.ExceptionUtils;
+
+/**
+ * Creates the {@link JavaHandlerInvoker}s of handler methods. An invoker is generated with javassist so that it calls its method directly, with no
+ * access checks, argument copies or wrapped exceptions. Methods whose signatures are not public are called through a {@link MethodHandle} instead.
+ * Invokers are cached with the declaring class of their method, so that the cache does not keep classes from being unloaded.
+ * <p>
+ * Handled frame methods and initializers resolve their invoker once and keep it, the cache is only looked up for calls that the frame forwards to a
+ * handler, see {@link #invoke(Method, Object, Object[])}.
+ * </p>
+ *
+ * @author Bryn Cooke
+ */
+final class JavaHandlerInvokers
+{
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static final ClassValue<ConcurrentMap<Method, JavaHandlerInvoker>> INVOKERS = new ClassValue<ConcurrentMap<Method, JavaHandlerInvoker>>()
+    {
+        @Override
+        protected ConcurrentMap<Method, JavaHandlerInvoker> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<Method, JavaHandlerInvoker>();
+        }
+    };
+
+    private JavaHandlerInvokers()
+    {
+    }
+
+    /**
+     * Call a method through its cached invoker. Exceptions thrown by the method are rethrown unchanged.
+     *
+     * @param method The method.
+     * @param target The object to call the method on.
+     * @param arguments The arguments, or null if the method has no parameters.
+     * @return The result of the method, boxed, or null if the method is void.
+     */
+    static Object invoke(Method method, Object target, Object[] arguments)
+    {
+        return get(method).invoke(target, arguments);
+    }
+
+    /**
+     * @param method The method.
+     * @return The invoker of the method, created the first time it is asked for.
+     */
+    static JavaHandlerInvoker get(Method method)
+    {
+        ConcurrentMap<Method, JavaHandlerInvoker> invokers = INVOKERS.get(method.getDeclaringClass());
+        JavaHandlerInvoker invoker = invokers.get(method);
+        if (invoker == null)
+        {
+            invoker = create(method);
+            JavaHandlerInvoker existing = invokers.putIfAbsent(method, invoker);
+            if (existing != null)
+            {
+                invoker = existing;
+            }
+        }
+        return invoker;
+    }
+
+    private static JavaHandlerInvoker create(Method method)
+    {
+        if (isAccessible(method))
+        {
+            try
+            {
+                return generate(method);
+            }
+            catch (NotFoundException | CannotCompileException | ReflectiveOperationException e)
+            {
+                // Fall back to a method handle.
+            }
+        }
+        return new HandleInvoker(method);
+    }
+
+    private static JavaHandlerInvoker generate(Method method) throws NotFoundException, CannotCompileException, ReflectiveOperationException
+    {
+        ClassLoader classLoader = method.getDeclaringClass().getClassLoader();
+        ClassPool pool = new ClassPool(false);
+        pool.appendClassPath(new ClassClassPath(JavaHandlerInvoker.class));
+        if (classLoader != null)
+        {
+            pool.insertClassPath(new LoaderClassPath(classLoader));
+        }
+
+        String name = JavaHandlerInvoker.class.getName() + "$" + method.getName() + "$" + COUNTER.incrementAndGet();
+        CtClass invokerClass = pool.makeClass(name, pool.get(JavaHandlerInvoker.class.getName()));
+        invokerClass.setModifiers(javassist.Modifier.PUBLIC | javassist.Modifier.FINAL);
+        invokerClass.addMethod(CtNewMethod.make("public Object invoke(Object target, Object[] arguments) { " + body(method) + " }", invokerClass));
+
+        byte[] bytecode;
+        try
+        {
+            bytecode = invokerClass.toBytecode();
+        }
+        catch (java.io.IOException e)
+        {
+            throw new CannotCompileException(e);
+        }
+        finally
+        {
+            invokerClass.detach();
+        }
+        return new InvokerClassLoader(classLoader).define(name, bytecode).asSubclass(JavaHandlerInvoker.class).newInstance();
+    }
+
+    /**
+     * Casts the target and each argument to the declared types and boxes the result.
+     */
+    private static String body(Method method)
+    {
+        StringBuilder call = new StringBuilder("((").append(typeName(method.getDeclaringClass())).append(") $1).").append(method.getName())
+                    .append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++)
+        {
+            if (i > 0)
+            {
+                call.append(", ");
+            }
+            Class<?> type = parameterTypes[i];
+            if (type.isPrimitive())
+            {
+                call.append("((").append(Primitives.wrap(type).getName()).append(") $2[").append(i).append("]).").append(type.getName())
+                            .append("Value()");
+            }
+            else
+            {
+                call.append('(').append(typeName(type)).append(") $2[").append(i).append(']');
+            }
+        }
+        call.append(')');
+        if (method.getReturnType() == void.class)
+        {
+            return call + "; return null;";
+        }
+        return "return ($w) " + call + ";";
+    }
+
+    private static String typeName(Class<?> type)
+    {
+        if (type.isArray())
+        {
+            return typeName(type.getComponentType()) + "[]";
+        }
+        return type.getName();
+    }
+
+    /**
+     * Generated invokers live in their own class loader, so the method and every type in its signature must be public.
+     */
+    private static boolean isAccessible(Method method)
+    {
+        if (!Modifier.isPublic(method.getModifiers()) || !isAccessible(method.getDeclaringClass()) || !isAccessible(method.getReturnType()))
+        {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes())
+        {
+            if (!isAccessible(parameterType))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAccessible(Class<?> type)
+    {
+        while (type.isArray())
+        {
+            type = type.getComponentType();
+        }
+        for (Class<?> c = type; c != null; c = c.getDeclaringClass())
+        {
+            if (!c.isPrimitive() && !Modifier.isPublic(c.getModifiers()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Each generated invoker gets its own loader, a child of the loader of the method's class, so that it can be unloaded along with that class.
+     * {@link JavaHandlerInvoker} is always taken from the loader that loaded frames.
+     */
+    private static class InvokerClassLoader extends ClassLoader
+    {
+        InvokerClassLoader(ClassLoader parent)
+        {
+            super(parent == null ? JavaHandlerInvoker.class.getClassLoader() : parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+        {
+            if (name.equals(JavaHandlerInvoker.class.getName()))
+            {
+                return JavaHandlerInvoker.class;
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        Class<?> define(String name, byte[] bytecode)
+        {
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+    }
+
+    /**
+     * Calls a method that generated code cannot reach.
+     */
+    private static final class HandleInvoker extends JavaHandlerInvoker
+    {
+        private final MethodHandle handle;
+
+        HandleInvoker(Method method)
+        {
+            try
+            {
+                if (!method.isAccessible())
+                {
+                    method.setAccessible(true);
+                }
+                handle = MethodHandles.lookup().unreflect(method).asSpreader(Object[].class, method.getParameterTypes().length).asType(INVOKER_TYPE);
+            }
+            catch (IllegalAccessException | SecurityException e)
+            {
+                throw new JavaHandlerException("Problem calling Java handler " + method, e);
+            }
+        }
+
+        @Override
+        public Object invoke(Object target, Object[] arguments)
+        {
+            try
+            {
+                Object[] spread = arguments == null ? NO_ARGUMENTS : arguments;
+                return (Object) handle.invokeExact(target, spread);
+            }
+            catch (Throwable t)
+            {
+                ExceptionUtils.sneakyThrow(t); // Preserve original exception functionality.
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.tinkerpop.frames.modules.javahandler;
+
+/**
+ * When the {@link JavaHandlerModule} creates the objects that handle {@link JavaHandler} and {@link Initializer} methods. Handlers that are reused
+ * are bound to the frame, element and method of each call before it is made, and the previous binding is restored afterwards so that handlers may
+ * call other handled methods.
+ * 
+ * @author Bryn Cooke
+ */
+public enum JavaHandlerLifecycle
+{
+    /**
+     * A new handler is created for every call. Handlers may keep state in fields for the duration of a call. This is the default.
+     */
+    PER_CALL,
+
+    /**
+     * A handler is created the first time a method is called on a frame and reused for later calls on the same frame object, until the frame is
+     * garbage collected. Handlers may keep state about their element in fields. As with the fields of a handler, a frame must not be used by
+     * several threads at the same time.
+     */
+    PER_FRAME,
+
+    /**
+     * Each thread reuses one handler per handler class, bound to the frame of each call. Handlers must not keep state in fields between calls.
+     */
+    PER_THREAD,
+
+    /**
+     * A single handler per handler class is shared by all threads. The frame, element and method of the call are bound to the calling thread, so
+     * handlers must not keep state in fields at all.
+     */
+    SINGLETON
+}
@@ -4,6 +4,10 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 
 import javassist.util.proxy.MethodHandler;
@@ -13,11 +17,13 @@ import javassist.util.proxy.ProxyFactory;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.tinkerpop.frames.FramedGraph;
 import com.tinkerpop.frames.FramedGraphConfiguration;
+import com.tinkerpop.frames.jfr.FramesEvents;
 import com.tinkerpop.frames.modules.Module;
 
 /**
@@ -50,6 +56,10 @@ import com.tinkerpop.frames.modules.Module;
  * <p>
  * The implementation class can be overridden by using the {@link JavaHandlerClass} annotation.
  * </p>
+ * <p>
+ * By default a new handler is created for every call. Handlers can instead be reused per frame, per thread or shared by all threads, see
+ * {@link #withLifecycle(JavaHandlerLifecycle)}.
+ * </p>
  *
  *
  * @author Bryn Cooke
@@ -78,6 +88,8 @@ public class JavaHandlerModule implements Module
                         };
                         proxyFactory.setUseCache(false);
                         proxyFactory.setSuperclass(handlerClass);
+                        // Only abstract methods need the frame, concrete methods of the handler are called directly.
+                        proxyFactory.setFilter(method -> Modifier.isAbstract(method.getModifiers()));
                         return proxyFactory.createClass();
                     }
                 });
@@ -94,6 +106,15 @@ public class JavaHandlerModule implements Module
 
     };
 
+    private JavaHandlerLifecycle lifecycle = JavaHandlerLifecycle.PER_CALL;
+
+    // Reused handlers, see JavaHandlerLifecycle.
+    private final Cache<Object, Map<Class<?>, HandlerInstance>> frameHandlers = CacheBuilder.newBuilder().weakKeys().build();
+    private final ThreadLocal<Map<Class<?>, HandlerInstance>> threadHandlers = ThreadLocal.withInitial(HashMap::new);
+    private final ConcurrentMap<Class<?>, Object> singletonHandlers = new ConcurrentHashMap<Class<?>, Object>();
+    private final ThreadLocal<JavaHandlerBinding> threadBindings = ThreadLocal.withInitial(JavaHandlerBinding::new);
+    private final MethodHandler singletonMethodHandler = (o, m, proceed, args) -> threadBindings.get().invoke(o, m, proceed, args);
+
     /**
      * Provide an alternative factory for creating objects that handle frames calls.
      *
@@ -106,6 +127,18 @@ public class JavaHandlerModule implements Module
         return this;
     }
 
+    /**
+     * Choose when handlers are created. By default a new handler is created for every call.
+     *
+     * @param lifecycle The lifecycle of handlers.
+     * @return The module.
+     */
+    public JavaHandlerModule withLifecycle(JavaHandlerLifecycle lifecycle)
+    {
+        this.lifecycle = lifecycle;
+        return this;
+    }
+
     @Override
     public Graph configure(Graph baseGraph, FramedGraphConfiguration config)
     {
@@ -133,43 +166,133 @@ public class JavaHandlerModule implements Module
                     frameClass.getName() + "$Impl");
     }
 
-    <T> T createHandler(final Object framedElement, final FramedGraph<?> graph, final Element element, Class<?> frameClass,
-                final Method method)
+    /**
+     * Call a method of the handler of a frame class, creating or reusing the handler according to the lifecycle of the module.
+     *
+     * @param framedElement The frame the method was called on.
+     * @param graph The framed graph.
+     * @param element The framed element.
+     * @param frameClass The frame class whose handler implements the method.
+     * @param method The method, which is called on the handler.
+     * @param invoker The invoker of the method, resolved once for the method by the caller.
+     * @param arguments The arguments of the call.
+     * @return The result of the method. Exceptions thrown by the method are rethrown unchanged.
+     */
+    Object invoke(final Object framedElement, final FramedGraph<?> graph, final Element element, final Class<?> frameClass, final Method method,
+                final JavaHandlerInvoker invoker, final Object[] arguments)
     {
+        if (lifecycle == JavaHandlerLifecycle.PER_CALL)
+        {
+            JavaHandlerBinding binding = new JavaHandlerBinding();
+            binding.bind(framedElement, graph, element, method);
+            return invoker.invoke(createHandler(frameClass, binding, method, element), arguments);
+        }
 
+        Object handler;
+        JavaHandlerBinding binding;
+        switch (lifecycle)
+        {
+        case PER_FRAME:
+            HandlerInstance frameInstance = getFrameHandler(framedElement, frameClass, method, element);
+            handler = frameInstance.handler;
+            binding = frameInstance.binding;
+            break;
+        case PER_THREAD:
+            Map<Class<?>, HandlerInstance> handlers = threadHandlers.get();
+            HandlerInstance threadInstance = handlers.get(frameClass);
+            if (threadInstance == null)
+            {
+                threadInstance = newHandlerInstance(frameClass, method, element);
+                handlers.put(frameClass, threadInstance);
+            }
+            handler = threadInstance.handler;
+            binding = threadInstance.binding;
+            break;
+        default:
+            handler = getSingletonHandler(frameClass, method, element);
+            binding = threadBindings.get();
+            break;
+        }
+
+        // Handlers may call handled methods of other frames, so restore the outer call afterwards.
+        Object previousFramedElement = binding.getFramedElement();
+        JavaHandlerContextImpl<Element> context = binding.getContext();
+        FramedGraph<?> previousGraph = context.g();
+        Method previousMethod = context.getMethod();
+        Element previousElement = context.it();
+        binding.bind(framedElement, graph, element, method);
         try
         {
-            Class<T> implClass = (Class<T>) classCache.get(frameClass);
-            T handler = factory.create(implClass);
-            ((Proxy) handler).setHandler(new MethodHandler()
+            return invoker.invoke(handler, arguments);
+        }
+        finally
+        {
+            binding.bind(previousFramedElement, previousGraph, previousElement, previousMethod);
+        }
+    }
+
+    private HandlerInstance getFrameHandler(Object framedElement, Class<?> frameClass, Method method, Element element)
+    {
+        Map<Class<?>, HandlerInstance> handlers = frameHandlers.getIfPresent(framedElement);
+        if (handlers == null)
+        {
+            handlers = new ConcurrentHashMap<Class<?>, HandlerInstance>();
+            Map<Class<?>, HandlerInstance> existing = frameHandlers.asMap().putIfAbsent(framedElement, handlers);
+            if (existing != null)
+            {
+                handlers = existing;
+            }
+        }
+        HandlerInstance instance = handlers.get(frameClass);
+        if (instance == null)
+        {
+            instance = newHandlerInstance(frameClass, method, element);
+            handlers.put(frameClass, instance);
+        }
+        return instance;
+    }
+
+    private Object getSingletonHandler(Class<?> frameClass, Method method, Element element)
+    {
+        Object handler = singletonHandlers.get(frameClass);
+        if (handler == null)
+        {
+            handler = createHandler(frameClass, singletonMethodHandler, method, element);
+            Object existing = singletonHandlers.putIfAbsent(frameClass, handler);
+            if (existing != null)
             {
-                private JavaHandlerContextImpl<Element> defaultJavahandlerImpl = new JavaHandlerContextImpl<Element>(
-                            graph, method, element);
+                handler = existing;
+            }
+        }
+        return handler;
+    }
 
-                @Override
-                public Object invoke(Object o, Method m, Method proceed,
-                            Object[] args) throws Throwable
-                {
-                    if (!Modifier.isAbstract(m.getModifiers()))
-                    {
-                        return proceed.invoke(o, args);
-                    }
-                    else
-                    {
-                        if (m.getAnnotation(JavaHandler.class) != null)
-                        {
-                            throw new JavaHandlerException("Method " + m + " is marked with @JavaHandler but is not implemented");
-                        }
-                        if (m.getDeclaringClass() == JavaHandlerContext.class)
-                        {
-                            return m.invoke(defaultJavahandlerImpl, args);
-                        }
+    private HandlerInstance newHandlerInstance(Class<?> frameClass, Method method, Element element)
+    {
+        JavaHandlerBinding binding = new JavaHandlerBinding();
+        return new HandlerInstance(createHandler(frameClass, binding, method, element), binding);
+    }
 
-                        return m.invoke(framedElement, args);
-                    }
-                }
+    private Object createHandler(Class<?> frameClass, MethodHandler methodHandler, Method method, Element element)
+    {
+        Object event = FramesEvents.begin(FramesEvents.Kind.JAVA_HANDLER_CREATION);
+        try
+        {
+            return instantiateHandler(frameClass, methodHandler);
+        }
+        finally
+        {
+            FramesEvents.commit(event, frameClass, method, element.id());
+        }
+    }
 
-            });
+    private Object instantiateHandler(Class<?> frameClass, MethodHandler methodHandler)
+    {
+        try
+        {
+            Class<?> implClass = classCache.get(frameClass);
+            Object handler = factory.create(implClass);
+            ((Proxy) handler).setHandler(methodHandler);
             return handler;
         }
         catch (ExecutionException e)
@@ -198,4 +321,16 @@ public class JavaHandlerModule implements Module
 
     }
 
+    private static final class HandlerInstance
+    {
+        private final Object handler;
+        private final JavaHandlerBinding binding;
+
+        private HandlerInstance(Object handler, JavaHandlerBinding binding)
+        {
+            this.handler = handler;
+            this.binding = binding;
+        }
+    }
+
 }
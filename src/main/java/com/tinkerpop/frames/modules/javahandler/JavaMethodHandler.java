@@ -1,14 +1,17 @@
 package com.tinkerpop.frames.modules.javahandler;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import org.apache.tinkerpop.gremlin.structure.Element;
 import com.tinkerpop.frames.FramedGraph;
-import com.tinkerpop.frames.util.ExceptionUtils;
+import com.tinkerpop.frames.MethodPlan;
+import com.tinkerpop.frames.modules.PlannedMethodHandler;
 
-class JavaMethodHandler implements
-		com.tinkerpop.frames.modules.MethodHandler<JavaHandler> {
+/**
+ * Calls the handler of a {@link JavaHandler} method through the invoker that
+ * {@link #prepare(MethodPlan)} resolved when the method was resolved.
+ */
+class JavaMethodHandler implements PlannedMethodHandler<JavaHandler> {
 
 	private JavaHandlerModule module;
 
@@ -25,17 +28,24 @@ class JavaMethodHandler implements
 	public Object processElement(Object framedElement, Method method,
 			Object[] arguments, JavaHandler annotation,
 			FramedGraph<?> framedGraph, Element element) {
-		try {
-			Object handler = module.createHandler(framedElement, framedGraph, element, method.getDeclaringClass(), method);
-			return method.invoke(handler, arguments);
-		} catch (IllegalArgumentException e) {
-			throw new JavaHandlerException("Problem calling Java handler", e);
-		} catch (IllegalAccessException e) {
-			throw new JavaHandlerException("Problem calling Java handler", e);
-		} catch (InvocationTargetException e) {
-			ExceptionUtils.sneakyThrow(e.getTargetException());
-			return null;
+		return module.invoke(framedElement, framedGraph, element, method.getDeclaringClass(), method,
+				JavaHandlerInvokers.get(method), arguments);
+	}
+
+	@Override
+	public Object processElement(Object frame, MethodPlan<JavaHandler> plan,
+			Object[] arguments, FramedGraph<?> framedGraph, Element element) {
+		Method method = plan.getMethod();
+		JavaHandlerInvoker invoker = (JavaHandlerInvoker) plan.getHandlerState();
+		if (invoker == null) {
+			invoker = JavaHandlerInvokers.get(method);
 		}
+		return module.invoke(frame, framedGraph, element, method.getDeclaringClass(), method, invoker, arguments);
+	}
+
+	@Override
+	public Object prepare(MethodPlan<JavaHandler> plan) {
+		return JavaHandlerInvokers.get(plan.getMethod());
 	}
 
 }
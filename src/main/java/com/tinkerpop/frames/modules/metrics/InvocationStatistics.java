@@ -0,0 +1,146 @@
+package com.tinkerpop.frames.modules.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import com.tinkerpop.frames.modules.InvocationMetrics;
+
+/**
+ * Collects {@link InvocationMetrics} in {@link LongAdder}s, so that recording never blocks and threads framing concurrently contend as little as
+ * possible. The statistics may be read at any time, while they are being recorded.
+ */
+public class InvocationStatistics implements InvocationMetrics
+{
+    private final Map<Method, MethodStatistics> methods = new ConcurrentHashMap<Method, MethodStatistics>();
+    private final Map<Class<?>, LongAdder> framedByKind = new ConcurrentHashMap<Class<?>, LongAdder>();
+    private final LongAdder framedVertices = new LongAdder();
+    private final LongAdder framedEdges = new LongAdder();
+    private final LongAdder addedVertices = new LongAdder();
+    private final LongAdder addedEdges = new LongAdder();
+    private final LongAdder frameCacheHits = new LongAdder();
+    private final LongAdder frameCacheMisses = new LongAdder();
+
+    @Override
+    public MethodStatistics forMethod(Method method)
+    {
+        return methods.computeIfAbsent(method, MethodStatistics::new);
+    }
+
+    @Override
+    public void elementFramed(Class<?> kind, Element element)
+    {
+        (element instanceof Vertex ? framedVertices : framedEdges).increment();
+        LongAdder count = framedByKind.get(kind);
+        if (count == null)
+        {
+            count = framedByKind.computeIfAbsent(kind, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    @Override
+    public void elementAdded(Class<?> kind, Element element)
+    {
+        (element instanceof Vertex ? addedVertices : addedEdges).increment();
+    }
+
+    @Override
+    public void frameCacheLookup(boolean hit)
+    {
+        (hit ? frameCacheHits : frameCacheMisses).increment();
+    }
+
+    /**
+     * @return The statistics of every method whose handler has been resolved, including methods that have not been called yet.
+     */
+    public Map<Method, MethodStatistics> getMethodStatistics()
+    {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * @param method The annotated frame method.
+     * @return The statistics of the method, or null if its handler has not been resolved.
+     */
+    public MethodStatistics getMethodStatistics(Method method)
+    {
+        return methods.get(method);
+    }
+
+    /**
+     * @param kind The kind of frame requested.
+     * @return The number of elements framed as the kind.
+     */
+    public long getFramedCount(Class<?> kind)
+    {
+        LongAdder count = framedByKind.get(kind);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long getFramedVertices()
+    {
+        return framedVertices.sum();
+    }
+
+    public long getFramedEdges()
+    {
+        return framedEdges.sum();
+    }
+
+    public long getAddedVertices()
+    {
+        return addedVertices.sum();
+    }
+
+    public long getAddedEdges()
+    {
+        return addedEdges.sum();
+    }
+
+    public long getFrameCacheHits()
+    {
+        return frameCacheHits.sum();
+    }
+
+    public long getFrameCacheMisses()
+    {
+        return frameCacheMisses.sum();
+    }
+
+    /**
+     * @return The ratio of frame constructor cache lookups that were hits, or 1 if there have been no lookups.
+     */
+    public double getFrameCacheHitRatio()
+    {
+        long hits = frameCacheHits.sum();
+        long lookups = hits + frameCacheMisses.sum();
+        return lookups == 0 ? 1.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Set every statistic back to zero. Methods stay registered, so calls made after the reset are still recorded.
+     */
+    public void reset()
+    {
+        for (MethodStatistics statistics : methods.values())
+        {
+            statistics.reset();
+        }
+        for (LongAdder count : framedByKind.values())
+        {
+            count.reset();
+        }
+        framedVertices.reset();
+        framedEdges.reset();
+        addedVertices.reset();
+        addedEdges.reset();
+        frameCacheHits.reset();
+        frameCacheMisses.reset();
+    }
+}
@@ -0,0 +1,108 @@
+package com.tinkerpop.frames.modules.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies with one bucket per power of two nanoseconds, so that it takes a fixed 64 counters whatever the range of the
+ * recorded values. Bucket <code>i</code> counts the values in <code>[2<sup>i-1</sup>, 2<sup>i</sup>)</code>, bucket 0 counts zero. Each bucket is a
+ * striped {@link LongAdder}, as the calls of a method from many threads land in the same few buckets.
+ */
+public final class LatencyHistogram
+{
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    public LatencyHistogram()
+    {
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param nanos The latency to record. Negative values, which {@link System#nanoTime()} may produce, are counted as zero.
+     */
+    public void record(long nanos)
+    {
+        buckets[bucket(nanos)].increment();
+    }
+
+    /**
+     * @return The number of values recorded.
+     */
+    public long getCount()
+    {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            count += buckets[i].sum();
+        }
+        return count;
+    }
+
+    /**
+     * @param quantile A quantile between 0 and 1, for instance 0.99.
+     * @return An upper bound of the latency at the quantile, accurate to a factor of two, or 0 if nothing has been recorded.
+     */
+    public long getQuantile(double quantile)
+    {
+        if (quantile < 0 || quantile > 1)
+        {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long count : counts)
+        {
+            total += count;
+        }
+        if (total == 0)
+        {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            seen += counts[i];
+            if (seen >= rank)
+            {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * @return A copy of the bucket counts. The copy is not atomic, so it may include some of the values recorded while it is taken.
+     */
+    public long[] getBucketCounts()
+    {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    void reset()
+    {
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            buckets[i].reset();
+        }
+    }
+
+    static int bucket(long nanos)
+    {
+        return nanos <= 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(nanos);
+    }
+
+    static long upperBound(int bucket)
+    {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,87 @@
+package com.tinkerpop.frames.modules.metrics;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tinkerpop.frames.modules.MethodMetrics;
+
+/**
+ * The calls of a single frame method: the total and maximum time taken and a {@link LatencyHistogram}, which also counts the calls. Recording a call
+ * adds to two striped counters; the maximum is only written when it grows, so threads otherwise just read it.
+ */
+public final class MethodStatistics implements MethodMetrics
+{
+    private final Method method;
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    MethodStatistics(Method method)
+    {
+        this.method = method;
+    }
+
+    @Override
+    public void record(long elapsedNanos)
+    {
+        histogram.record(elapsedNanos);
+        totalNanos.add(elapsedNanos);
+        long max = maxNanos.get();
+        while (elapsedNanos > max && !maxNanos.compareAndSet(max, elapsedNanos))
+        {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * @return The annotated method.
+     */
+    public Method getMethod()
+    {
+        return method;
+    }
+
+    public long getCount()
+    {
+        return histogram.getCount();
+    }
+
+    public long getTotalNanos()
+    {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos()
+    {
+        return maxNanos.get();
+    }
+
+    /**
+     * @return The mean time taken by a call, or 0 if the method has not been called.
+     */
+    public double getMeanNanos()
+    {
+        long calls = histogram.getCount();
+        return calls == 0 ? 0 : (double) totalNanos.sum() / calls;
+    }
+
+    public LatencyHistogram getHistogram()
+    {
+        return histogram;
+    }
+
+    void reset()
+    {
+        totalNanos.reset();
+        maxNanos.set(0);
+        histogram.reset();
+    }
+
+    @Override
+    public String toString()
+    {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName() + ": count=" + getCount() + ", mean=" + (long) getMeanNanos()
+                    + "ns, p99=" + histogram.getQuantile(0.99) + "ns, max=" + getMaxNanos() + "ns";
+    }
+}
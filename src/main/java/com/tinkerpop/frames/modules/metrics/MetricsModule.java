@@ -0,0 +1,61 @@
+package com.tinkerpop.frames.modules.metrics;
+
+import com.tinkerpop.frames.FramedGraphConfiguration;
+import com.tinkerpop.frames.modules.AbstractModule;
+import com.tinkerpop.frames.modules.InvocationMetrics;
+
+/**
+ * Measures the frame method calls, framed and added elements and frame cache lookups of the graphs created by a factory:
+ * 
+ * <pre>
+ * MetricsModule metrics = new MetricsModule();
+ * FramedGraph&lt;TinkerGraph&gt; framedGraph = new FramedGraphFactory(metrics).create(graph);
+ * ...
+ * for (MethodStatistics method : metrics.getStatistics().getMethodStatistics().values())
+ * {
+ *     System.out.println(method);
+ * }
+ * </pre>
+ * 
+ * The statistics are shared by all graphs created by the factory. A different {@link InvocationMetrics} implementation may be passed to report to an
+ * existing metrics library instead. Graphs created without a metrics module take no measurements at all.
+ * <p>
+ * <code>@Property</code> methods of frames generated by the {@link com.tinkerpop.frames.modules.generation.GeneratedFramesModule} are dispatched to
+ * their handler rather than inlined while metrics are registered, so that they are measured too.
+ */
+public class MetricsModule extends AbstractModule
+{
+    private final InvocationMetrics metrics; // Factory will share metrics.
+
+    public MetricsModule()
+    {
+        this(new InvocationStatistics());
+    }
+
+    /**
+     * @param metrics The metrics to report to.
+     */
+    public MetricsModule(InvocationMetrics metrics)
+    {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return The statistics collected by the module.
+     * @throws IllegalStateException if the module was created with another {@link InvocationMetrics} implementation.
+     */
+    public InvocationStatistics getStatistics()
+    {
+        if (!(metrics instanceof InvocationStatistics))
+        {
+            throw new IllegalStateException("Metrics are reported to " + metrics.getClass().getName());
+        }
+        return (InvocationStatistics) metrics;
+    }
+
+    @Override
+    public void doConfigure(FramedGraphConfiguration config)
+    {
+        config.setInvocationMetrics(metrics);
+    }
+}
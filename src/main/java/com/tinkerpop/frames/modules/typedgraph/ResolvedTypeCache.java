@@ -0,0 +1,102 @@
+package com.tinkerpop.frames.modules.typedgraph;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Remembers the stored type value of recently framed elements, per graph, so that framing them again does not read the type field. Entries are
+ * only evicted when the {@link TypeManager} is told about a write or a removal, so writes that it is not told about leave stale entries.
+ */
+class ResolvedTypeCache
+{
+    private final LoadingCache<Graph, GraphTypes> graphs;
+
+    ResolvedTypeCache(final long maximumSize)
+    {
+        graphs = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Graph, GraphTypes>()
+        {
+            @Override
+            public GraphTypes load(Graph graph)
+            {
+                return new GraphTypes(maximumSize);
+            }
+        });
+    }
+
+    /**
+     * @return The value of the type field of the element, or null if it has none.
+     */
+    String getTypeValue(Element element, String typeField)
+    {
+        Cache<Object, StoredType> cache = getCache(element);
+        StoredType stored = cache.getIfPresent(element.id());
+        if (stored != null && stored.typeField.equals(typeField))
+        {
+            return stored.value;
+        }
+        String value = TypeManager.readTypeValue(element, typeField);
+        cache.put(element.id(), new StoredType(typeField, value));
+        return value;
+    }
+
+    void invalidate(Element element)
+    {
+        getCache(element).invalidate(element.id());
+    }
+
+    /**
+     * Forget the cached type of an element of a graph, identified by id, for elements reported by a graph that may have been detached from it.
+     */
+    void invalidate(Graph graph, Object id, boolean vertex)
+    {
+        GraphTypes types = graphs.getIfPresent(graph);
+        if (types != null)
+        {
+            (vertex ? types.vertices : types.edges).invalidate(id);
+        }
+    }
+
+    CacheStats stats(Graph graph)
+    {
+        GraphTypes types = graphs.getIfPresent(graph);
+        return types == null ? new CacheStats(0, 0, 0, 0, 0, 0) : types.vertices.stats().plus(types.edges.stats());
+    }
+
+    private Cache<Object, StoredType> getCache(Element element)
+    {
+        GraphTypes types = graphs.getUnchecked(element.graph());
+        return element instanceof Vertex ? types.vertices : types.edges;
+    }
+
+    private static final class GraphTypes
+    {
+        // Vertices and edges may share ids.
+        private final Cache<Object, StoredType> vertices;
+        private final Cache<Object, StoredType> edges;
+
+        GraphTypes(long maximumSize)
+        {
+            vertices = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+            edges = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        }
+    }
+
+    private static final class StoredType
+    {
+        private final String typeField;
+        private final String value;
+
+        StoredType(String typeField, String value)
+        {
+            this.typeField = typeField;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.tinkerpop.frames.modules.typedgraph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.MutationListener;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+
+/**
+ * Evicts elements from the type cache of a {@link TypeManager} when a traversal removes them or writes their type field. Events carry detached
+ * elements, so elements are evicted by id from the cache of the graph the listener was created for.
+ */
+class TypeCacheListener implements MutationListener
+{
+    private final TypeManager manager;
+    private final Graph graph;
+
+    TypeCacheListener(TypeManager manager, Graph graph)
+    {
+        this.manager = manager;
+        this.graph = graph;
+    }
+
+    @Override
+    public void vertexAdded(Vertex vertex)
+    {
+    }
+
+    @Override
+    public void vertexRemoved(Vertex vertex)
+    {
+        manager.invalidate(graph, vertex.id(), true);
+    }
+
+    @Override
+    public void vertexPropertyChanged(Vertex vertex, Property oldValue, Object setValue, Object... vertexPropertyKeyValues)
+    {
+        if (isTypeField(oldValue))
+        {
+            manager.invalidate(graph, vertex.id(), true);
+        }
+    }
+
+    @Override
+    public void vertexPropertyRemoved(VertexProperty vertexProperty)
+    {
+        if (isTypeField(vertexProperty))
+        {
+            manager.invalidate(graph, vertexProperty.element().id(), true);
+        }
+    }
+
+    @Override
+    public void edgeAdded(Edge edge)
+    {
+    }
+
+    @Override
+    public void edgeRemoved(Edge edge)
+    {
+        manager.invalidate(graph, edge.id(), false);
+    }
+
+    @Override
+    public void edgePropertyChanged(Edge edge, Property oldValue, Object setValue)
+    {
+        if (isTypeField(oldValue))
+        {
+            manager.invalidate(graph, edge.id(), false);
+        }
+    }
+
+    @Override
+    public void edgePropertyRemoved(Edge edge, Property property)
+    {
+        if (isTypeField(property))
+        {
+            manager.invalidate(graph, edge.id(), false);
+        }
+    }
+
+    @Override
+    public void vertexPropertyPropertyChanged(VertexProperty element, Property oldValue, Object setValue)
+    {
+    }
+
+    @Override
+    public void vertexPropertyPropertyRemoved(VertexProperty element, Property property)
+    {
+    }
+
+    /**
+     * @return true unless the property is known not to be a type field. The previous value of a property that did not exist may have no key.
+     */
+    private boolean isTypeField(Property<?> property)
+    {
+        return !property.isPresent() || manager.isTypeField(property.key());
+    }
+}
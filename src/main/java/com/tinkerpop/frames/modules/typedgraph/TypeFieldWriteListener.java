@@ -0,0 +1,31 @@
+package com.tinkerpop.frames.modules.typedgraph;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.modules.PropertyWriteListener;
+
+/**
+ * Evicts the cached type of an element once its type field has been written through a frame.
+ */
+class TypeFieldWriteListener implements PropertyWriteListener
+{
+    private final TypeManager manager;
+
+    TypeFieldWriteListener(TypeManager manager)
+    {
+        this.manager = manager;
+    }
+
+    @Override
+    public boolean listensTo(String key)
+    {
+        return manager.isTypeField(key);
+    }
+
+    @Override
+    public void propertyWritten(FramedGraph<?> framedGraph, Element element, String key)
+    {
+        manager.invalidate(element);
+    }
+}
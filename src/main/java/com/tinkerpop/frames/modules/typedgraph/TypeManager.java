@@ -2,22 +2,42 @@ package com.tinkerpop.frames.modules.typedgraph;
 
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import com.google.common.cache.CacheStats;
 import com.tinkerpop.frames.EdgeFrame;
 import com.tinkerpop.frames.FrameInitializer;
 import com.tinkerpop.frames.FramedGraph;
 import com.tinkerpop.frames.VertexFrame;
+import com.tinkerpop.frames.jfr.FramesEvents;
 import com.tinkerpop.frames.modules.TypeResolver;
 
 public class TypeManager implements TypeResolver, FrameInitializer
 {
 
     private TypeRegistry typeRegistry;
+    private final ResolvedTypeCache typeCache;
 
     public TypeManager(TypeRegistry typeRegistry)
+    {
+        this(typeRegistry, 0);
+    }
+
+    /**
+     * @param typeRegistry The registered types.
+     * @param typeCacheSize The number of elements per graph whose type value is cached, or zero to read the type field every time an element is
+     *            framed.
+     */
+    public TypeManager(TypeRegistry typeRegistry, long typeCacheSize)
     {
         this.typeRegistry = typeRegistry;
+        this.typeCache = typeCacheSize > 0 ? new ResolvedTypeCache(typeCacheSize) : null;
+    }
+
+    TypeRegistry getTypeRegistry()
+    {
+        return typeRegistry;
     }
 
     @Override
@@ -37,28 +57,80 @@ public class TypeManager implements TypeResolver, FrameInitializer
         Class<?> typeHoldingTypeField = typeRegistry.getTypeHoldingTypeField(defaultType);
         if (typeHoldingTypeField != null)
         {
-            String value = (String) e.property(typeHoldingTypeField.getAnnotation(TypeField.class).value()).value();
-            Class<?> type = value == null ? null : typeRegistry.getType(typeHoldingTypeField, value);
-            if (type != null)
+            Object event = FramesEvents.begin(FramesEvents.Kind.TYPE_RESOLUTION);
+            try
+            {
+                String typeField = typeHoldingTypeField.getAnnotation(TypeField.class).value();
+                String value = typeCache == null ? readTypeValue(e, typeField) : typeCache.getTypeValue(e, typeField);
+                Class<?> type = value == null ? null : typeRegistry.getType(typeHoldingTypeField, value);
+                if (type != null)
+                {
+                    return type;
+                }
+            }
+            finally
             {
-                return type;
+                FramesEvents.commit(event, defaultType, null, e.id());
             }
         }
         return defaultType;
     }
 
+    static String readTypeValue(Element e, String typeField)
+    {
+        org.apache.tinkerpop.gremlin.structure.Property<?> property = e.property(typeField);
+        return property.isPresent() ? (String) property.value() : null;
+    }
+
+    boolean isCaching()
+    {
+        return typeCache != null;
+    }
+
+    boolean isTypeField(String key)
+    {
+        return typeRegistry.isTypeField(key);
+    }
+
+    /**
+     * Forget the cached type of an element, after its type field has been written or it has been removed.
+     */
+    void invalidate(Element element)
+    {
+        if (typeCache != null)
+        {
+            typeCache.invalidate(element);
+        }
+    }
+
+    void invalidate(Graph graph, Object id, boolean vertex)
+    {
+        if (typeCache != null)
+        {
+            typeCache.invalidate(graph, id, vertex);
+        }
+    }
+
+    CacheStats getTypeCacheStats(Graph graph)
+    {
+        return typeCache == null ? new CacheStats(0, 0, 0, 0, 0, 0) : typeCache.stats(graph);
+    }
+
     @Override
     public void initElement(Class<?> kind, FramedGraph<?> framedGraph, Element element)
     {
-        Class<?> typeHoldingTypeField = typeRegistry.getTypeHoldingTypeField(kind);
-        if (typeHoldingTypeField != null)
+        TypeRegistry.TypeTag tag = typeRegistry.getTypeTag(kind);
+        if (tag != TypeRegistry.TypeTag.NONE)
         {
-            TypeValue typeValue = kind.getAnnotation(TypeValue.class);
-            if (typeValue != null)
-            {
-                element.property(typeHoldingTypeField.getAnnotation(TypeField.class).value(), typeValue.value());
-            }
+            element.property(tag.field, tag.value);
+            invalidate(element);
         }
     }
 
+    @Override
+    public boolean appliesTo(Class<?> kind, Class<? extends Element> elementType)
+    {
+        return typeRegistry.getTypeTag(kind) != TypeRegistry.TypeTag.NONE;
+    }
+
 }
@@ -1,7 +1,11 @@
 package com.tinkerpop.frames.modules.typedgraph;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.tinkerpop.gremlin.structure.Element;
 
@@ -20,6 +24,10 @@ public class TypeRegistry
 {
     Map<Class<?>, Class<?>> typeFields = new HashMap<Class<?>, Class<?>>();
     Map<TypeDiscriminator, Class<?>> typeDiscriminators = new HashMap<TypeDiscriminator, Class<?>>();
+    // Maps from type holding type field -> type value -> type, so that lookups don't allocate a discriminator.
+    private final Map<Class<?>, Map<String, Class<?>>> typeTable = new HashMap<Class<?>, Map<String, Class<?>>>();
+    private final Map<Class<?>, Set<String>> typeValues = new ConcurrentHashMap<Class<?>, Set<String>>();
+    private final Map<Class<?>, TypeTag> typeTags = new ConcurrentHashMap<Class<?>, TypeTag>();
 
     /**
      * @return The interface that has the {@link TypeField} annotation for this class. (Either the class itself, or a base class if the class was
@@ -32,6 +40,21 @@ public class TypeRegistry
         return typeFields.get(type);
     }
 
+    /**
+     * @return true if a registered type stores its type value under the key.
+     */
+    boolean isTypeField(String key)
+    {
+        for (Class<?> typeHoldingTypeField : typeTable.keySet())
+        {
+            if (typeHoldingTypeField.getAnnotation(TypeField.class).value().equals(key))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * @param typeHoldingTypeField The type that has the {@link TypeField} annotation for the Proxy class to be constructed.
      * @param typeValue The actual persisted value for a type field on an {@link Element} in the graph
@@ -39,8 +62,34 @@ public class TypeRegistry
      */
     public Class<?> getType(Class<?> typeHoldingTypeField, String typeValue)
     {
-        Class<?> result = typeDiscriminators.get(new TypeDiscriminator(typeHoldingTypeField, typeValue));
-        return result;
+        Map<String, Class<?>> types = typeTable.get(typeHoldingTypeField);
+        return types == null ? null : types.get(typeValue);
+    }
+
+    /**
+     * @param type A registered type, or the type holding the {@link TypeField}.
+     * @return The persisted type values of the type and of all registered types that extend it. The values are computed once per type.
+     */
+    public Set<String> getTypeValues(Class<?> type)
+    {
+        Set<String> values = typeValues.get(type);
+        if (values == null)
+        {
+            Class<?> typeHoldingTypeField = getTypeHoldingTypeField(type);
+            Validate.assertArgument(typeHoldingTypeField != null, "The type is not registered and does not have a @TypeField annotation: %s",
+                        type.getName());
+            values = new HashSet<String>();
+            for (Map.Entry<TypeDiscriminator, Class<?>> entry : typeDiscriminators.entrySet())
+            {
+                if (entry.getKey().typeHoldingTypeField == typeHoldingTypeField && type.isAssignableFrom(entry.getValue()))
+                {
+                    values.add(entry.getKey().value);
+                }
+            }
+            values = Collections.unmodifiableSet(values);
+            typeValues.put(type, values);
+        }
+        return values;
     }
 
     static final class TypeDiscriminator
@@ -74,6 +123,38 @@ public class TypeRegistry
         }
     }
 
+    /**
+     * @return The type field and value that new elements of the type are tagged with, or {@link TypeTag#NONE} if the type has no
+     *         {@link TypeValue} or no {@link TypeField} was found for it.
+     */
+    TypeTag getTypeTag(Class<?> type)
+    {
+        TypeTag tag = typeTags.get(type);
+        if (tag == null)
+        {
+            Class<?> typeHoldingTypeField = getTypeHoldingTypeField(type);
+            TypeValue typeValue = type.getAnnotation(TypeValue.class);
+            tag = typeHoldingTypeField == null || typeValue == null ? TypeTag.NONE
+                        : new TypeTag(typeHoldingTypeField.getAnnotation(TypeField.class).value(), typeValue.value());
+            typeTags.put(type, tag);
+        }
+        return tag;
+    }
+
+    static final class TypeTag
+    {
+        static final TypeTag NONE = new TypeTag(null, null);
+
+        final String field;
+        final String value;
+
+        private TypeTag(String field, String value)
+        {
+            this.field = field;
+            this.value = value;
+        }
+    }
+
     /**
      * @param type Add the interface to the registry. The interface should have a {@link TypeValue} annotation, and there should be a
      *            {@link TypeField} annotation on the interface or its parents.
@@ -88,6 +169,8 @@ public class TypeRegistry
                         type.getName());
             typeFields.put(type, typeHoldingTypeField);
             registerTypeValue(type, typeHoldingTypeField);
+            typeValues.clear();
+            typeTags.clear();
         }
         return this;
     }
@@ -112,5 +195,12 @@ public class TypeRegistry
         TypeValue typeValue = type.getAnnotation(TypeValue.class);
         Validate.assertArgument(typeValue != null, "The type does not have a @TypeValue annotation: %s", type.getName());
         typeDiscriminators.put(new TypeRegistry.TypeDiscriminator(typeHoldingTypeField, typeValue.value()), type);
+        Map<String, Class<?>> types = typeTable.get(typeHoldingTypeField);
+        if (types == null)
+        {
+            types = new HashMap<String, Class<?>>();
+            typeTable.put(typeHoldingTypeField, types);
+        }
+        types.put(typeValue.value(), type);
     }
 }
@@ -0,0 +1,158 @@
+package com.tinkerpop.frames.modules.typedgraph;
+
+import java.util.Iterator;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.MutationListener;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Iterators;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphConfiguration;
+import com.tinkerpop.frames.modules.AbstractModule;
+import com.tinkerpop.frames.structures.FramedEdgeIterable;
+import com.tinkerpop.frames.structures.FramedVertexIterable;
+
+/**
+ * Stores and resolves the type of elements using a {@link TypeRegistry}, and finds the elements of a type by their {@link TypeField} value.
+ * 
+ * @see TypedGraphModuleBuilder
+ */
+public class TypedGraphModule extends AbstractModule
+{
+    private final TypeManager manager;
+    private final boolean indexTypeField;
+
+    TypedGraphModule(TypeManager manager, boolean indexTypeField)
+    {
+        this.manager = manager;
+        this.indexTypeField = indexTypeField;
+    }
+
+    @Override
+    public void doConfigure(FramedGraphConfiguration config)
+    {
+        config.addTypeResolver(manager);
+        config.addFrameInitializer(manager);
+        if (manager.isCaching())
+        {
+            config.addPropertyWriteListener(new TypeFieldWriteListener(manager));
+        }
+    }
+
+    /**
+     * @param framedGraph A graph configured with this module.
+     * @return Hit and miss counts of the cache of element types for the graph.
+     * @see TypedGraphModuleBuilder#withTypeCache(long)
+     */
+    public CacheStats getTypeCacheStats(FramedGraph<?> framedGraph)
+    {
+        return manager.getTypeCacheStats(framedGraph.getBaseGraph());
+    }
+
+    /**
+     * Forget the cached type of an element, after its type field has been written or it has been removed without going through a frame.
+     *
+     * @param element An element of a graph configured with this module.
+     * @see TypedGraphModuleBuilder#withTypeCache(long)
+     */
+    public void invalidateType(Element element)
+    {
+        manager.invalidate(element);
+    }
+
+    /**
+     * A listener that keeps the type cache up to date with the changes made by traversals of the base graph that use an {@link EventStrategy}:
+     *
+     * <pre>
+     * EventStrategy events = EventStrategy.build().addListener(module.getTypeCacheListener(framedGraph)).create();
+     * GraphTraversalSource g = graph.traversal(GraphTraversalSource.build().with(events));
+     * g.V(id).drop().iterate();
+     * </pre>
+     *
+     * The listener evicts elements that are removed and elements whose type field is written.
+     *
+     * @param framedGraph A graph configured with this module.
+     * @return The listener.
+     * @see TypedGraphModuleBuilder#withTypeCache(long)
+     */
+    public MutationListener getTypeCacheListener(FramedGraph<?> framedGraph)
+    {
+        return new TypeCacheListener(manager, framedGraph.getBaseGraph());
+    }
+
+    /**
+     * Find the vertices whose stored type is the given type or one of its registered subtypes.
+     * 
+     * @param framedGraph The graph to search.
+     * @param kind A registered type, or the type holding the {@link TypeField}.
+     * @return The vertices, each framed as its stored type.
+     */
+    public <F> Iterable<F> vertices(final FramedGraph<?> framedGraph, final Class<F> kind)
+    {
+        final String key = prepare(framedGraph, kind, Vertex.class);
+        final Set<String> values = manager.getTypeRegistry().getTypeValues(kind);
+        return new FramedVertexIterable<F>(framedGraph, () -> find(framedGraph.getBaseGraph(), Vertex.class, key, values), kind);
+    }
+
+    /**
+     * Find the edges whose stored type is the given type or one of its registered subtypes.
+     * 
+     * @param framedGraph The graph to search.
+     * @param kind A registered type, or the type holding the {@link TypeField}.
+     * @return The edges, each framed as its stored type.
+     */
+    public <F> Iterable<F> edges(final FramedGraph<?> framedGraph, final Class<F> kind)
+    {
+        final String key = prepare(framedGraph, kind, Edge.class);
+        final Set<String> values = manager.getTypeRegistry().getTypeValues(kind);
+        return new FramedEdgeIterable<F>(framedGraph, () -> find(framedGraph.getBaseGraph(), Edge.class, key, values), kind);
+    }
+
+    private String prepare(FramedGraph<?> framedGraph, Class<?> kind, Class<? extends Element> elementClass)
+    {
+        String key = manager.getTypeRegistry().getTypeHoldingTypeField(kind).getAnnotation(TypeField.class).value();
+        if (indexTypeField)
+        {
+            if (elementClass == Vertex.class)
+            {
+                framedGraph.createVertexIndex(key);
+            }
+            else
+            {
+                framedGraph.createEdgeIndex(key);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * A single <code>within</code> lookup, or, if the key is indexed, an index probe per value. TinkerGraph only uses an index for equality, so
+     * an indexed key is probed with one equality per value even for a single value.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Element> Iterator<E> find(final TinkerGraph graph, final Class<E> elementClass, final String key,
+                final Set<String> values)
+    {
+        if (graph.getIndexedKeys(elementClass).contains(key))
+        {
+            return Iterators.concat(Iterators.transform(values.iterator(), value -> start(graph, elementClass).has(key, value)));
+        }
+        return (Iterator<E>) start(graph, elementClass).has(key, P.within(values));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Element> GraphTraversal<E, E> start(TinkerGraph graph, Class<E> elementClass)
+    {
+        GraphTraversalSource g = graph.traversal();
+        return (GraphTraversal<E, E>) (elementClass == Vertex.class ? g.V() : g.E());
+    }
+}
@@ -1,14 +1,12 @@
 package com.tinkerpop.frames.modules.typedgraph;
 
-import com.tinkerpop.frames.FramedGraphConfiguration;
-import com.tinkerpop.frames.modules.AbstractModule;
-import com.tinkerpop.frames.modules.Module;
-
 /**
- * TODO
+ * Builds a {@link TypedGraphModule} for a set of types with {@link TypeValue} annotations.
  */
 public class TypedGraphModuleBuilder {
 	private TypeRegistry typeRegistry = new TypeRegistry();
+	private boolean indexTypeField;
+	private long typeCacheSize;
 	
 	public TypedGraphModuleBuilder() {
 		
@@ -19,15 +17,29 @@ public class TypedGraphModuleBuilder {
 		return this;
 	}
 	
-	public Module build() {
-		final TypeManager manager = new TypeManager(typeRegistry);
-		return new AbstractModule() {
-			
-			@Override
-			public void doConfigure(FramedGraphConfiguration config) {
-				config.addTypeResolver(manager);
-				config.addFrameInitializer(manager);
-			}			
-		};
+	/**
+	 * Index the type field of the base graph the first time elements are looked up by type.
+	 */
+	public TypedGraphModuleBuilder withTypeFieldIndex() {
+		indexTypeField = true;
+		return this;
+	}
+	
+	/**
+	 * Cache the stored type of up to <code>maximumSize</code> elements per graph, so that framing an element again does not read its type field.
+	 * The cache is off by default, as it is only correct if the module is told about every change to the types of cached elements. Writes to
+	 * the type field through frames evict the element from the cache, and so do removals and type field writes made by traversals that report
+	 * them to {@link TypedGraphModule#getTypeCacheListener(com.tinkerpop.frames.FramedGraph)}. Other writes to the type field and removals of
+	 * elements, for instance <code>vertex.remove()</code> on the base graph, must be followed by
+	 * {@link TypedGraphModule#invalidateType(org.apache.tinkerpop.gremlin.structure.Element)}, or an element later created with the same id may be
+	 * framed with the removed element's type.
+	 */
+	public TypedGraphModuleBuilder withTypeCache(long maximumSize) {
+		typeCacheSize = maximumSize;
+		return this;
+	}
+	
+	public TypedGraphModule build() {
+		return new TypedGraphModule(new TypeManager(typeRegistry, typeCacheSize), indexTypeField);
 	}
 }
@@ -1,6 +1,13 @@
 package com.tinkerpop.frames.structures;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -62,4 +69,38 @@ public class FramedEdgeIterable<T> implements Iterable<T>
             }
         };
     }
+
+    /**
+     * Copy the remaining edges, so that they can be iterated any number of times.
+     *
+     * @return a re-iterable copy of the edges
+     */
+    public FramedEdgeIterable<T> snapshot()
+    {
+        List<Edge> edges = new ArrayList<Edge>();
+        iterable.forEach(edges::add);
+        return new FramedEdgeIterable<T>(framedGraph, edges, direction, kind);
+    }
+
+    /**
+     * The spliterator is ordered and non-null. It is sized if the edges are held in a collection, such as a {@link #snapshot()}.
+     */
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        if (iterable instanceof Collection)
+        {
+            return Spliterators.spliterator(iterator(), ((Collection<?>) iterable).size(), characteristics);
+        }
+        return Spliterators.spliteratorUnknownSize(iterator(), characteristics);
+    }
+
+    /**
+     * @return a sequential stream that frames each edge as it is consumed
+     */
+    public Stream<T> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
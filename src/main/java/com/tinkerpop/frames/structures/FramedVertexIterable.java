@@ -5,10 +5,18 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.frames.FramedGraph;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
+ * Frames vertices as they are iterated. An iterable created from an iterator can only be iterated once; use {@link #snapshot()} to iterate the
+ * results several times.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class FramedVertexIterable<T> implements Iterable<T> {
@@ -18,9 +26,7 @@ public class FramedVertexIterable<T> implements Iterable<T> {
 
     public FramedVertexIterable(final FramedGraph<? extends Graph> framedGraph, final Iterator<Vertex> iterator, final Class<T> kind) {
         this.framedGraph = framedGraph;
-        List<Vertex> vertices = new ArrayList<>();
-        iterator.forEachRemaining(vertices::add);
-        this.iterable = vertices;
+        this.iterable = new SinglePassIterable<>(iterator);
         this.kind = kind;
     }
 
@@ -47,4 +53,34 @@ public class FramedVertexIterable<T> implements Iterable<T> {
             }
         };
     }
+
+    /**
+     * Copy the remaining vertices, so that they can be iterated any number of times.
+     *
+     * @return a re-iterable copy of the vertices
+     */
+    public FramedVertexIterable<T> snapshot() {
+        List<Vertex> vertices = new ArrayList<>();
+        iterable.forEach(vertices::add);
+        return new FramedVertexIterable<>(framedGraph, vertices, kind);
+    }
+
+    /**
+     * The spliterator is ordered and non-null. It is sized if the vertices are held in a collection, such as a {@link #snapshot()}.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        if (iterable instanceof Collection) {
+            return Spliterators.spliterator(iterator(), ((Collection<?>) iterable).size(), characteristics);
+        }
+        return Spliterators.spliteratorUnknownSize(iterator(), characteristics);
+    }
+
+    /**
+     * @return a sequential stream that frames each vertex as it is consumed
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
@@ -0,0 +1,23 @@
+package com.tinkerpop.frames.structures;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out an iterator once. Framed iterables created from an iterator use this so that the underlying results are never copied.
+ */
+class SinglePassIterable<E> implements Iterable<E> {
+    private final AtomicReference<Iterator<E>> iterator;
+
+    SinglePassIterable(final Iterator<E> iterator) {
+        this.iterator = new AtomicReference<>(iterator);
+    }
+
+    public Iterator<E> iterator() {
+        Iterator<E> iterator = this.iterator.getAndSet(null);
+        if (iterator == null) {
+            throw new IllegalStateException("This iterable can only be iterated once, use snapshot() to iterate it again");
+        }
+        return iterator;
+    }
+}
@@ -1,14 +1,29 @@
 package com.tinkerpop.frames;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.tinkerpop.frames.domain.classes.Person;
 import com.tinkerpop.frames.domain.incidences.Knows;
 import com.tinkerpop.frames.modules.AbstractModule;
@@ -53,6 +68,130 @@ public class FrameInitializerTest
         assertEquals(Float.valueOf(1.0f), person1.getKnows().iterator().next().getWeight());
     }
 
+    @Test
+    public void testFramedElementInitialization()
+    {
+        final List<Object> frames = new ArrayList<Object>();
+        framedGraph = new FramedGraphFactory(new AbstractModule()
+        {
+            @Override
+            protected void doConfigure(FramedGraphConfiguration config)
+            {
+                config.addFrameInitializer(new FramedElementInitializer()
+                {
+                    @Override
+                    public void initElement(Class<?> kind, FramedGraph<?> framedGraph, Element element)
+                    {
+                        fail("The frame of the new element should be passed to initFrame");
+                    }
+
+                    @Override
+                    public void initFrame(Class<?> kind, FramedGraph<?> framedGraph, Element element, Object frame)
+                    {
+                        assertEquals("Defaulted", ((Person) frame).getName());
+                        frames.add(frame);
+                    }
+
+                    @Override
+                    public boolean appliesTo(Class<?> kind, Class<? extends Element> elementType)
+                    {
+                        return kind == Person.class;
+                    }
+                });
+                config.addFrameInitializer(nameDefaulter);
+            }
+        }).create(TinkerGraph.open());
+
+        Person person = framedGraph.addVertex(Person.class);
+        assertEquals(1, frames.size());
+        assertSame(person, frames.get(0));
+
+        Person person2 = framedGraph.addVertex(Person.class);
+        person.addKnows(person2);
+        assertEquals(2, frames.size());
+    }
+
+    @Test
+    public void testInitializersNotApplyingAreSkipped()
+    {
+        framedGraph = new FramedGraphFactory(new AbstractModule()
+        {
+            @Override
+            protected void doConfigure(FramedGraphConfiguration config)
+            {
+                config.addFrameInitializer(new FrameInitializer()
+                {
+                    @Override
+                    public void initElement(Class<?> kind, FramedGraph<?> framedGraph, Element element)
+                    {
+                        assertEquals(Knows.class, kind);
+                        element.property("weight", 2.0f);
+                    }
+
+                    @Override
+                    public boolean appliesTo(Class<?> kind, Class<? extends Element> elementType)
+                    {
+                        return elementType == Edge.class;
+                    }
+                });
+            }
+        }).create(TinkerGraph.open());
+
+        Person person1 = framedGraph.addVertex(Person.class);
+        Person person2 = framedGraph.addVertex(Person.class);
+        person1.addKnows(person2);
+        assertEquals(Float.valueOf(2.0f), person1.getKnows().iterator().next().getWeight());
+    }
+
+    @Test
+    public void testAddVertices()
+    {
+        List<Person> people = Lists.newArrayList(framedGraph.addVertices(Person.class, 3));
+        assertEquals(3, people.size());
+        for (Person person : people)
+        {
+            assertEquals("Defaulted", person.getName());
+        }
+        assertFalse(framedGraph.addVertices(Person.class, 0).iterator().hasNext());
+    }
+
+    @Test
+    public void testAddVerticesFromProperties()
+    {
+        Map<String, Object> named = new HashMap<String, Object>();
+        named.put("name", "Named");
+        Map<String, Object> aged = new HashMap<String, Object>();
+        aged.put("age", 30);
+
+        List<Person> people = Lists.newArrayList(framedGraph.addVertices(Person.class, Stream.of(named, aged)));
+        assertEquals(2, people.size());
+        // Initializers run after the properties are set.
+        assertEquals("Defaulted", people.get(0).getName());
+        assertEquals(Integer.valueOf(30), people.get(1).getAge());
+
+        List<Vertex> vertices = framedGraph.addBaseVertices(Person.class, Stream.of(aged));
+        assertEquals(1, vertices.size());
+        assertEquals("Defaulted", vertices.get(0).value("name"));
+        assertEquals(30, (int) vertices.get(0).value("age"));
+    }
+
+    @Test
+    public void testAddEdges()
+    {
+        Vertex out = framedGraph.addVertex();
+        List<Vertex> in = framedGraph.addBaseVertices(Person.class, 3);
+
+        List<Knows> knows = Lists.newArrayList(framedGraph.addEdges(out, in, "knows", Knows.class));
+        assertEquals(3, knows.size());
+        assertEquals(Float.valueOf(1.0f), knows.get(2).getWeight());
+        assertEquals(in.get(2), knows.get(2).getIn().asVertex());
+
+        List<Edge> edges = framedGraph.addBaseEdges(out, in, "knows", Knows.class);
+        assertEquals(3, edges.size());
+        assertEquals(1.0f, (float) edges.get(0).value("weight"), 0);
+        assertEquals(6, Iterators.size(out.edges(Direction.OUT, "knows")));
+    }
+
     public static FrameInitializer nameDefaulter = new FrameInitializer()
     {
         @Override
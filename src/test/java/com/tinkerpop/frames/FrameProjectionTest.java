@@ -0,0 +1,86 @@
+package com.tinkerpop.frames;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.domain.incidences.Knows;
+import com.tinkerpop.frames.modules.generation.GeneratedFramesModule;
+
+public class FrameProjectionTest
+{
+    private FramedGraph<TinkerGraph> framedGraph;
+
+    @Before
+    public void setup()
+    {
+        framedGraph = new FramedGraphFactory().create(TinkerFactory.createClassic());
+    }
+
+    @Test
+    public void testProjection()
+    {
+        FrameProjection<Person> projection = framedGraph.getProjection(Person.class);
+        assertSame(projection, framedGraph.getProjection(Person.class));
+        assertEquals(Arrays.asList("boolean", "age", "gender", "name"), projection.getPropertyNames());
+        assertEquals("name", projection.getKey(projection.indexOf("name")));
+        assertEquals(projection.indexOf("boolean"), projection.indexOf("booleanPrimitive"));
+        assertEquals(-1, projection.indexOf("knowsPeople"));
+
+        Person marko = framedGraph.getVertex(1, Person.class);
+        marko.setGender(Person.Gender.MALE);
+        PropertyRecord record = projection.project(marko);
+        assertEquals(1, record.getId());
+        assertEquals("marko", record.get("name"));
+        assertEquals(29, record.get("age"));
+        assertSame(Person.Gender.MALE, record.get("gender"));
+        assertNull(record.get("boolean"));
+        assertEquals(record, projection.project(marko.asVertex()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownProperty()
+    {
+        framedGraph.getProjection(Person.class).project(framedGraph.getVertex(1, Person.class)).get("unknown");
+    }
+
+    @Test
+    public void testProjectAll()
+    {
+        Iterable<Person> people = framedGraph.frameVertices(Lists.newArrayList(framedGraph.getBaseGraph().vertices(1, 2, 4)), Person.class);
+        List<PropertyRecord> records = Lists.newArrayList(framedGraph.project(people, Person.class));
+        assertEquals(3, records.size());
+        assertEquals("marko", records.get(0).get("name"));
+        assertEquals("vadas", records.get(1).get("name"));
+        assertEquals(32, records.get(2).get("age"));
+        assertEquals("josh", records.get(2).asMap().get("name"));
+    }
+
+    @Test
+    public void testEdgeProjection()
+    {
+        Knows knows = framedGraph.getEdge(7, Knows.class);
+        PropertyRecord record = framedGraph.getProjection(Knows.class).project(knows);
+        assertEquals(0.5f, record.get("weight"));
+    }
+
+    @Test
+    public void testGeneratedFrames()
+    {
+        FramedGraph<TinkerGraph> generated = new FramedGraphFactory(new GeneratedFramesModule()).create(TinkerFactory.createClassic());
+        PropertyRecord record = generated.getProjection(Person.class).project(generated.getVertex(1, Person.class));
+        assertEquals("marko", record.get("name"));
+        assertTrue(record.toString().startsWith("Person[1]"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.tinkerpop.frames;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.tinkerpop.frames.domain.classes.NamedObject;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.domain.incidences.Knows;
+import com.tinkerpop.frames.modules.generation.GeneratedFramesModule;
+
+public class FrameSessionTest
+{
+    private FramedGraph<TinkerGraph> framedGraph;
+
+    @Before
+    public void setup()
+    {
+        framedGraph = new FramedGraphFactory().create(TinkerFactory.createClassic());
+    }
+
+    @Test
+    public void testFramesAreNewWithoutSession()
+    {
+        assertNull(framedGraph.getSession());
+        assertNotSame(framedGraph.getVertex(1, Person.class), framedGraph.getVertex(1, Person.class));
+    }
+
+    @Test
+    public void testSessionReturnsSameFrame()
+    {
+        try (FrameSession session = framedGraph.openSession())
+        {
+            assertSame(session, framedGraph.getSession());
+            Person marko = framedGraph.getVertex(1, Person.class);
+            assertSame(marko, framedGraph.getVertex(1, Person.class));
+            Person josh = Iterables.get(marko.getKnowsPeople(), 1);
+            assertSame(josh, framedGraph.getVertex(4, Person.class));
+            Knows knows = framedGraph.getEdge(7, Knows.class);
+            assertSame(knows, framedGraph.getEdge(7, Knows.class));
+
+            // A different kind resolves to a different frame class.
+            assertNotSame(marko, framedGraph.getVertex(1, NamedObject.class));
+
+            assertTrue(session.getStats().hitCount() >= 3);
+        }
+        assertNull(framedGraph.getSession());
+        assertNotSame(framedGraph.getVertex(1, Person.class), framedGraph.getVertex(1, Person.class));
+    }
+
+    @Test
+    public void testNestedSessions()
+    {
+        FrameSession outer = framedGraph.openSession();
+        Person marko = framedGraph.getVertex(1, Person.class);
+        FrameSession inner = framedGraph.openSession();
+        assertNotSame(marko, framedGraph.getVertex(1, Person.class));
+        inner.close();
+        assertSame(outer, framedGraph.getSession());
+        assertSame(marko, framedGraph.getVertex(1, Person.class));
+        outer.close();
+        assertNull(framedGraph.getSession());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSessionsCloseInOrder()
+    {
+        FrameSession outer = framedGraph.openSession();
+        framedGraph.openSession();
+        outer.close();
+    }
+
+    @Test
+    public void testClearAndBound()
+    {
+        framedGraph.getConfig().setSessionCacheSize(1);
+        try (FrameSession session = framedGraph.openSession())
+        {
+            Person marko = framedGraph.getVertex(1, Person.class);
+            session.clear();
+            assertNotSame(marko, framedGraph.getVertex(1, Person.class));
+            framedGraph.getVertex(2, Person.class);
+            framedGraph.getVertex(4, Person.class);
+            assertEquals(1, session.size());
+        }
+    }
+
+    @Test
+    public void testGeneratedFrames()
+    {
+        FramedGraph<TinkerGraph> generated = new FramedGraphFactory(new GeneratedFramesModule()).create(TinkerFactory.createClassic());
+        try (FrameSession session = generated.openSession())
+        {
+            assertSame(generated.getVertex(1, Person.class), generated.getVertex(1, Person.class));
+        }
+    }
+}
@@ -2,16 +2,23 @@ package com.tinkerpop.frames;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Method;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
 
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Test;
 
+import com.tinkerpop.frames.annotations.PropertyMethodHandler;
 import com.tinkerpop.frames.domain.classes.Person;
 import com.tinkerpop.frames.domain.classes.Project;
 import com.tinkerpop.frames.domain.incidences.Created;
 import com.tinkerpop.frames.domain.incidences.CreatedBy;
 import com.tinkerpop.frames.domain.incidences.CreatedInfo;
+import com.tinkerpop.frames.modules.AbstractModule;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -141,6 +148,37 @@ public class FramedElementTest
 
     }
 
+    @Test
+    public void testHandlersAreScopedToGraph()
+    {
+        TinkerGraph graph = TinkerFactory.createClassic();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory().create(graph);
+        FramedGraph<TinkerGraph> upperCaseGraph = new FramedGraphFactory(new AbstractModule()
+        {
+            @Override
+            protected void doConfigure(FramedGraphConfiguration config)
+            {
+                config.addMethodHandler(new PropertyMethodHandler()
+                {
+                    @Override
+                    public Object processElement(Object frame, Method method, Object[] arguments, Property annotation,
+                                FramedGraph<?> framedGraph, Element element)
+                    {
+                        Object value = super.processElement(frame, method, arguments, annotation, framedGraph, element);
+                        return value instanceof String ? ((String) value).toUpperCase() : value;
+                    }
+                });
+            }
+        }).create(graph);
+
+        Person marko = framedGraph.getVertex(1, Person.class);
+        Person upperCaseMarko = upperCaseGraph.getVertex(1, Person.class);
+        assertSame(marko.getClass(), upperCaseMarko.getClass());
+        assertEquals("marko", marko.getName());
+        assertEquals("MARKO", upperCaseMarko.getName());
+        assertEquals("marko", marko.getName());
+    }
+
     @Test(expected = UnhandledMethodException.class)
     public void testUnhandledMethodNoAnnotation()
     {
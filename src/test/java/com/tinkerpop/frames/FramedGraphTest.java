@@ -1,16 +1,20 @@
 package com.tinkerpop.frames;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.function.Predicate;
 
 import junit.framework.Assert;
 
 import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -20,6 +24,7 @@ import org.junit.Test;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Collections2;
+import com.google.common.collect.Iterables;
 import com.tinkerpop.frames.annotations.AdjacencyAnnotationHandler;
 import com.tinkerpop.frames.annotations.AnnotationHandler;
 import com.tinkerpop.frames.annotations.InVertexAnnotationHandler;
@@ -30,7 +35,11 @@ import com.tinkerpop.frames.annotations.gremlin.GremlinGroovyAnnotationHandler;
 import com.tinkerpop.frames.domain.classes.Person;
 import com.tinkerpop.frames.domain.classes.Project;
 import com.tinkerpop.frames.domain.incidences.Knows;
+import com.tinkerpop.frames.modules.AbstractModule;
 import com.tinkerpop.frames.modules.MethodHandler;
+import com.tinkerpop.frames.modules.generation.GeneratedFramesModule;
+import com.tinkerpop.frames.util.IsolatedFrame;
+import com.tinkerpop.frames.util.IsolatingClassLoader;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -180,6 +189,131 @@ public class FramedGraphTest
 
     }
 
+    @Test
+    public void testFrameCache()
+    {
+        TinkerGraph graph = TinkerFactory.createClassic();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory().create(graph);
+
+        Person marko = framedGraph.getVertex(1, Person.class);
+        Person vadas = framedGraph.getVertex(2, Person.class);
+        Project lop = framedGraph.getVertex(3, Project.class);
+        framedGraph.getEdge(7, Knows.class);
+
+        assertEquals(marko.getClass(), vadas.getClass());
+        assertEquals(3, framedGraph.getFrameCacheStats().missCount());
+        assertEquals(1, framedGraph.getFrameCacheStats().hitCount());
+        assertEquals("lop", lop.getName());
+    }
+
+    @Test
+    public void testFrameCacheReleasesClassLoaders() throws Exception
+    {
+        TinkerGraph graph = TinkerFactory.createClassic();
+        for (FramedGraphFactory factory : new FramedGraphFactory[] { new FramedGraphFactory(), new FramedGraphFactory(new GeneratedFramesModule()) })
+        {
+            FramedGraph<TinkerGraph> framedGraph = factory.create(graph);
+            WeakReference<ClassLoader> loader = frameWithDiscardedLoader(framedGraph, graph.vertices(1).next());
+            for (int i = 0; i < 50 && loader.get() != null; i++)
+            {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertNull(loader.get());
+            assertEquals(1, framedGraph.getFrameCacheStats().missCount());
+        }
+    }
+
+    @Test
+    public void testFrameCacheReleasesGraphs() throws Exception
+    {
+        for (FramedGraphFactory factory : new FramedGraphFactory[] { new FramedGraphFactory(), new FramedGraphFactory(new GeneratedFramesModule()) })
+        {
+            WeakReference<TinkerGraph> graph = frameDiscardedGraph(factory);
+            for (int i = 0; i < 50 && graph.get() != null; i++)
+            {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertNull(graph.get());
+        }
+    }
+
+    private static WeakReference<TinkerGraph> frameDiscardedGraph(FramedGraphFactory factory)
+    {
+        TinkerGraph graph = TinkerFactory.createClassic();
+        assertEquals("marko", factory.create(graph).getVertex(1, Person.class).getName());
+        return new WeakReference<TinkerGraph>(graph);
+    }
+
+    private static WeakReference<ClassLoader> frameWithDiscardedLoader(FramedGraph<TinkerGraph> framedGraph, Vertex vertex) throws Exception
+    {
+        ClassLoader loader = new IsolatingClassLoader(IsolatedFrame.class.getName());
+        Class<?> kind = loader.loadClass(IsolatedFrame.class.getName());
+        assertEquals("marko", kind.getMethod("getName").invoke(framedGraph.frame(vertex, kind)));
+        return new WeakReference<ClassLoader>(loader);
+    }
+
+    @Test
+    public void testQuery()
+    {
+        TinkerGraph graph = TinkerFactory.createClassic();
+        graph.createIndex("name", Vertex.class);
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory().create(graph);
+
+        Iterable<Person> people = framedGraph.query().has("name", "josh").vertices(Person.class);
+        assertEquals("josh", people.iterator().next().getName());
+        assertEquals(1, Iterables.size(people));
+
+        assertEquals(2, Iterables.size(framedGraph.query().has("lang").vertices(Project.class)));
+        assertEquals(4, Iterables.size(framedGraph.query().hasNot("lang").vertices(Person.class)));
+        assertEquals(2, Iterables.size(framedGraph.query().hasNot("lang").limit(2).vertices(Person.class)));
+        assertEquals(2, Iterables.size(framedGraph.query().has("weight", (Predicate<Object>) w -> ((Float) w) > 0.5f).edges(Knows.class)));
+        assertEquals(2, Iterables.size(framedGraph.query().has("weight", P.gt(0.5f)).edges(Knows.class)));
+        assertEquals(0, Iterables.size(framedGraph.query().has("name", "nobody").vertices(Person.class)));
+    }
+
+    @Test
+    public void testFindVertices()
+    {
+        TinkerGraph graph = TinkerFactory.createClassic();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory().create(graph);
+
+        assertEquals("josh", Iterables.getOnlyElement(framedGraph.findVertices(Person.class, "name", "josh")).getName());
+        assertEquals("josh", Iterables.getOnlyElement(framedGraph.findVerticesByProperty(Person.class, "name", "josh")).getName());
+        assertEquals(2, Iterables.size(framedGraph.findVerticesByProperty(Project.class, "language", "java")));
+        assertEquals(2, Iterables.size(framedGraph.findEdgesByProperty(Knows.class, "weight", 1.0f)));
+        assertEquals(0, Iterables.size(framedGraph.findVertices(Person.class, "name", "nobody")));
+
+        Person marko = framedGraph.getVertex(1, Person.class);
+        marko.setGender(Person.Gender.FEMALE);
+        assertEquals(marko, Iterables.getOnlyElement(framedGraph.findVerticesByProperty(Person.class, "gender", Person.Gender.FEMALE)));
+        assertTrue(graph.getIndexedKeys(Vertex.class).isEmpty());
+    }
+
+    @Test
+    public void testFindVerticesAutoIndex()
+    {
+        TinkerGraph graph = TinkerFactory.createClassic();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new AbstractModule()
+        {
+            @Override
+            public void doConfigure(FramedGraphConfiguration config)
+            {
+                config.setAutoIndexThreshold(2);
+            }
+        }).create(graph);
+
+        framedGraph.findVertices(Person.class, "name", "josh");
+        assertTrue(graph.getIndexedKeys(Vertex.class).isEmpty());
+        framedGraph.findVertices(Person.class, "name", "josh");
+        assertEquals(new HashSet<String>(Arrays.asList("name")), graph.getIndexedKeys(Vertex.class));
+        assertEquals("josh", Iterables.getOnlyElement(framedGraph.findVertices(Person.class, "name", "josh")).getName());
+
+        framedGraph.createEdgeIndex("weight");
+        assertEquals(2, Iterables.size(framedGraph.findEdges(Knows.class, "weight", 1.0f)));
+    }
+
     public FramedGraph<TinkerGraph> generateGraph()
     {
         final Configuration conf = new BaseConfiguration();
@@ -7,8 +7,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -22,6 +25,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.tinkerpop.frames.domain.classes.NamedObject;
 import com.tinkerpop.frames.domain.classes.Person;
 import com.tinkerpop.frames.domain.classes.Project;
@@ -120,6 +124,56 @@ public class FramedVertexTest
         assertNull(josh.getLatestProject());
     }
 
+    @Test
+    public void testSingleValuedAdjacencyPolicy()
+    {
+        assertEquals("lop", marko.getOnlyCreatedProject().getName());
+        try
+        {
+            josh.getOnlyCreatedProject();
+            fail();
+        }
+        catch (IllegalStateException e)
+        {
+        }
+        assertNull(framedGraph.frame(graph.addVertex(), Person.class).getOnlyCreatedProject());
+    }
+
+    @Test
+    public void testSettingAdjacenciesByDiff()
+    {
+        marko.setKnowsPeopleByDiff(Arrays.asList(josh, peter));
+        assertEquals(newHashSet(josh, peter), newHashSet(marko.getKnowsPeople()));
+        // The edge to josh is kept, the edge to vadas is removed.
+        assertTrue(graph.edges(8).hasNext());
+        assertFalse(graph.edges(7).hasNext());
+
+        marko.setKnowsPeopleByDiff(Arrays.asList(josh, josh));
+        assertEquals(Arrays.asList(josh, josh), Lists.newArrayList(marko.getKnowsPeople()));
+        assertTrue(graph.edges(8).hasNext());
+
+        lop.setCreatedByPeople(Arrays.asList(marko, vadas));
+        assertEquals(newHashSet(marko, vadas), newHashSet(lop.getCreatedByPeople()));
+        assertTrue(graph.edges(9).hasNext());
+        assertFalse(graph.edges(11).hasNext());
+        assertFalse(graph.edges(12).hasNext());
+        assertEquals(newHashSet(ripple), newHashSet(josh.getCreatedProjects()));
+
+        lop.setCreatedByPeople(Collections.<Person> emptyList());
+        assertFalse(lop.getCreatedByPeople().iterator().hasNext());
+    }
+
+    @Test
+    public void testHasAndAddIfAbsentAdjacencies()
+    {
+        assertTrue(marko.hasKnowsPerson(josh));
+        assertFalse(marko.hasKnowsPerson(peter));
+        marko.addKnowsPersonIfAbsent(josh);
+        marko.addKnowsPersonIfAbsent(peter);
+        assertEquals(3, Iterables.size(marko.getKnowsPeople()));
+        assertTrue(marko.hasKnowsPerson(peter));
+    }
+
     @Test(expected = NullPointerException.class)
     public void testImproperSettingAdjacencies()
     {
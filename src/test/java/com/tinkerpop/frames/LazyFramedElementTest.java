@@ -0,0 +1,168 @@
+package com.tinkerpop.frames;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.domain.incidences.Knows;
+import com.tinkerpop.frames.modules.generation.GeneratedFramesModule;
+
+public class LazyFramedElementTest
+{
+    private TinkerGraph graph;
+    private FramedGraph<TinkerGraph> framedGraph;
+
+    @Before
+    public void setup()
+    {
+        graph = TinkerFactory.createClassic();
+        framedGraph = new FramedGraphFactory().create(graph);
+    }
+
+    @Test
+    public void testLazyVertex()
+    {
+        Vertex vertex = graph.vertices(1).next();
+        Person marko = framedGraph.frameLazily(vertex, Person.class);
+        LazyFramedElement handler = (LazyFramedElement) Proxy.getInvocationHandler(marko);
+        assertEquals(1, handler.getId());
+        assertEquals("marko", marko.getName());
+        assertEquals(2, Iterables.size(marko.getKnowsPeople()));
+        marko.setAge(30);
+        assertEquals(30, vertex.property("age").value());
+        assertEquals(vertex, marko.asVertex());
+        assertEquals(framedGraph.getVertex(1, Person.class), marko);
+        assertEquals(vertex.hashCode(), marko.hashCode());
+    }
+
+    @Test
+    public void testLazyEdge()
+    {
+        Knows knows = framedGraph.frameLazily(graph.edges(7).next(), Knows.class);
+        assertEquals(0.5f, knows.getWeight(), 0f);
+        assertEquals("vadas", knows.getIn().getName());
+    }
+
+    @Test
+    public void testLazyCollection()
+    {
+        List<Person> people = framedGraph.frameVerticesLazily(Lists.newArrayList(graph.vertices(1, 2, 4)), Person.class);
+        assertEquals(3, people.size());
+        assertEquals("josh", people.get(2).getName());
+    }
+
+    @Test
+    public void testResolutionCache()
+    {
+        framedGraph.getConfig().setLazyFrameCacheSize(10);
+        Person marko = framedGraph.frameLazily(graph.vertices(1).next(), Person.class);
+        assertSame(marko.asVertex(), marko.asVertex());
+        assertSame(graph.vertices(1).next(), marko.asVertex());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRemovedElement()
+    {
+        Vertex vertex = graph.vertices(1).next();
+        Person marko = framedGraph.frameLazily(vertex, Person.class);
+        vertex.remove();
+        marko.getName();
+    }
+
+    @Test
+    public void testResolutionCacheEviction()
+    {
+        framedGraph.getConfig().setLazyFrameCacheSize(10);
+        Vertex vertex = graph.vertices(1).next();
+        Person marko = framedGraph.frameLazily(vertex, Person.class);
+        Knows knows = framedGraph.frameLazily(graph.edges(7).next(), Knows.class);
+        Person peter = framedGraph.frameLazily(graph.vertices(6).next(), Person.class);
+        assertEquals("marko", marko.getName());
+        assertEquals(0.5f, knows.getWeight(), 0f);
+        assertEquals("peter", peter.getName());
+
+        vertex.remove();
+        framedGraph.invalidateLazyElement(vertex);
+        assertRemoved(marko);
+        assertRemoved(knows);
+
+        EventStrategy events = EventStrategy.build().addListener(framedGraph.getLazyFrameCacheListener()).create();
+        graph.traversal(GraphTraversalSource.build().with(events)).V(6).drop().iterate();
+        assertRemoved(peter);
+    }
+
+    @Test
+    public void testResolutionCacheEvictsEdgesRemovedByFrames()
+    {
+        framedGraph.getConfig().setLazyFrameCacheSize(10);
+        Knows knows = framedGraph.frameLazily(graph.edges(7).next(), Knows.class);
+        assertEquals(0.5f, knows.getWeight(), 0f);
+        Person marko = framedGraph.getVertex(1, Person.class);
+        marko.removeKnowsPerson(framedGraph.getVertex(2, Person.class));
+        assertRemoved(knows);
+    }
+
+    @Test
+    public void testObjectMethodsOfRemovedElement()
+    {
+        Vertex vertex = graph.vertices(1).next();
+        Person marko = framedGraph.frameLazily(vertex, Person.class);
+        Knows knows = framedGraph.frameLazily(graph.edges(7).next(), Knows.class);
+        Set<Object> frames = new HashSet<Object>(Arrays.asList(marko, knows));
+        assertEquals(vertex.hashCode(), marko.hashCode());
+        assertEquals(marko, framedGraph.getVertex(1, Person.class));
+        assertEquals(framedGraph.getVertex(1, Person.class), marko);
+        assertEquals(marko, framedGraph.frameLazily(vertex, Person.class));
+        assertFalse(marko.equals(knows));
+        assertFalse(knows.equals(vertex));
+
+        vertex.remove();
+        assertEquals("v[1]", marko.toString());
+        assertEquals("e[7]", knows.toString());
+        assertTrue(frames.remove(marko));
+        assertTrue(frames.remove(knows));
+        assertRemoved(marko);
+    }
+
+    private static void assertRemoved(Object lazyFrame)
+    {
+        try
+        {
+            ((LazyFramedElement) Proxy.getInvocationHandler(lazyFrame)).getElement();
+            fail("The element of the lazy frame was removed");
+        }
+        catch (IllegalStateException e)
+        {
+        }
+    }
+
+    @Test
+    public void testGeneratedFramesFallBackToProxies()
+    {
+        FramedGraph<TinkerGraph> generated = new FramedGraphFactory(new GeneratedFramesModule()).create(graph);
+        Person marko = generated.frameLazily(graph.vertices(1).next(), Person.class);
+        assertTrue(Proxy.isProxyClass(marko.getClass()));
+        assertEquals("marko", marko.getName());
+        assertNotSame(marko.getClass(), generated.getVertex(1, Person.class).getClass());
+    }
+}
@@ -0,0 +1,108 @@
+package com.tinkerpop.frames;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import com.tinkerpop.frames.MethodPlan.Operation;
+import com.tinkerpop.frames.MethodPlan.ReturnShape;
+import com.tinkerpop.frames.annotations.PropertyMethodHandler;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.domain.incidences.Knows;
+import com.tinkerpop.frames.modules.AbstractModule;
+
+public class MethodPlanTest
+{
+    @Test
+    public void testPropertyPlans() throws Exception
+    {
+        MethodPlan<Property> getGender = plan(Person.class.getMethod("getGender"));
+        assertEquals(Operation.GET, getGender.getOperation());
+        assertEquals(ReturnShape.ENUM, getGender.getReturnShape());
+        assertEquals("gender", getGender.getKey());
+        assertNull(getGender.getDirection());
+        assertSame(Person.Gender.MALE, getGender.getCodec().decode("MALE"));
+        assertEquals("MALE", getGender.getCodec().encode(Person.Gender.MALE));
+
+        MethodPlan<Property> setAge = plan(Person.class.getMethod("setAge", Integer.class));
+        assertEquals(Operation.SET, setAge.getOperation());
+        assertEquals(ReturnShape.VOID, setAge.getReturnShape());
+        assertNull(setAge.getCodec());
+
+        assertEquals(Operation.REMOVE, plan(Person.class.getMethod("removeAge")).getOperation());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownEnumConstant() throws Exception
+    {
+        plan(Person.class.getMethod("getGender")).getCodec().decode("UNKNOWN");
+    }
+
+    @Test
+    public void testAdjacencyAndIncidencePlans() throws Exception
+    {
+        MethodPlan<Adjacency> getKnowsPeople = plan(Person.class.getMethod("getKnowsPeople"));
+        assertEquals(Operation.GET, getKnowsPeople.getOperation());
+        assertEquals(ReturnShape.ITERABLE, getKnowsPeople.getReturnShape());
+        assertEquals(Person.class, getKnowsPeople.getFrameKind());
+        assertEquals("knows", getKnowsPeople.getKey());
+        assertEquals(Direction.OUT, getKnowsPeople.getDirection());
+
+        assertEquals(Operation.HAS, plan(Person.class.getMethod("hasKnowsPerson", Person.class)).getOperation());
+        assertTrue(plan(Person.class.getMethod("setKnowsPeople", Iterable.class)).acceptsIterable());
+
+        MethodPlan<Adjacency> getLatestProject = plan(Person.class.getMethod("getLatestProject"));
+        assertEquals(ReturnShape.OBJECT, getLatestProject.getReturnShape());
+        assertEquals(getLatestProject.getMethod().getReturnType(), getLatestProject.getFrameKind());
+
+        MethodPlan<Incidence> addKnows = plan(Person.class.getMethod("addKnows", Person.class));
+        assertEquals(Operation.ADD, addKnows.getOperation());
+        assertEquals(Knows.class, addKnows.getFrameKind());
+    }
+
+    @Test
+    public void testPlansAreCompiledOnce()
+    {
+        final List<MethodPlan<Property>> plans = new ArrayList<MethodPlan<Property>>();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new AbstractModule()
+        {
+            @Override
+            protected void doConfigure(FramedGraphConfiguration config)
+            {
+                config.addMethodHandler(new PropertyMethodHandler()
+                {
+                    @Override
+                    public Object processElement(Object frame, MethodPlan<Property> plan, Object[] arguments, FramedGraph<?> framedGraph,
+                                Element element)
+                    {
+                        plans.add(plan);
+                        return super.processElement(frame, plan, arguments, framedGraph, element);
+                    }
+                });
+            }
+        }).create(TinkerFactory.createClassic());
+
+        assertEquals("marko", framedGraph.getVertex(1, Person.class).getName());
+        assertEquals("vadas", framedGraph.getVertex(2, Person.class).getName());
+        assertEquals(2, plans.size());
+        assertSame(plans.get(0), plans.get(1));
+        assertEquals("name", plans.get(0).getKey());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends java.lang.annotation.Annotation> MethodPlan<T> plan(Method method)
+    {
+        return MethodPlan.compile(method, (T) method.getAnnotations()[0]);
+    }
+}
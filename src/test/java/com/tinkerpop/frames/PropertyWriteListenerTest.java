@@ -0,0 +1,80 @@
+package com.tinkerpop.frames;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import com.tinkerpop.frames.annotations.PropertyMethodHandler;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.modules.AbstractModule;
+import com.tinkerpop.frames.modules.Module;
+import com.tinkerpop.frames.modules.PropertyWriteListener;
+import com.tinkerpop.frames.modules.generation.GeneratedFramesModule;
+import com.tinkerpop.frames.modules.typedgraph.TypedGraphModuleBuilder;
+import com.tinkerpop.frames.modules.typedgraph.TypedGraphModuleTest;
+
+public class PropertyWriteListenerTest
+{
+    @Test
+    public void testProxyFrames()
+    {
+        RecordingModule recording = new RecordingModule();
+        assertListenerIsTold(recording, recording);
+    }
+
+    @Test
+    public void testGeneratedFrames()
+    {
+        RecordingModule recording = new RecordingModule();
+        assertListenerIsTold(recording, new GeneratedFramesModule(), recording);
+    }
+
+    @Test
+    public void testTypeCacheKeepsThePropertyHandler()
+    {
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new TypedGraphModuleBuilder().withClass(TypedGraphModuleTest.A.class)
+                    .withTypeCache(100).build()).create(TinkerGraph.open());
+        assertSame(PropertyMethodHandler.class, framedGraph.getConfig().getMethodHandlers().get(Property.class).getClass());
+    }
+
+    private static void assertListenerIsTold(RecordingModule recording, Module... modules)
+    {
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(modules).create(TinkerFactory.createClassic());
+        Person marko = framedGraph.getVertex(1, Person.class);
+        marko.setAge(30);
+        marko.setName("mark");
+        marko.setName(null);
+        // The listener sees each write after it has been made.
+        assertEquals("[mark, null]", recording.written.toString());
+    }
+
+    private static class RecordingModule extends AbstractModule implements PropertyWriteListener
+    {
+        private final List<Object> written = new ArrayList<Object>();
+
+        @Override
+        public void doConfigure(FramedGraphConfiguration config)
+        {
+            config.addPropertyWriteListener(this);
+        }
+
+        @Override
+        public boolean listensTo(String key)
+        {
+            return key.equals("name");
+        }
+
+        @Override
+        public void propertyWritten(FramedGraph<?> framedGraph, Element element, String key)
+        {
+            written.add(element.property(key).isPresent() ? element.value(key) : null);
+        }
+    }
+}
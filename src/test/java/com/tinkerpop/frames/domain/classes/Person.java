@@ -53,6 +53,9 @@ public interface Person extends NamedObject
     @Adjacency(label = "knows")
     void setKnowsPeople(final Iterable<Person> knows);
 
+    @Adjacency(label = "knows", setMode = Adjacency.SetMode.DIFF)
+    void setKnowsPeopleByDiff(final Iterable<Person> knows);
+
     @Incidence(label = "created")
     Iterable<Created> getCreated();
 
@@ -83,12 +86,21 @@ public interface Person extends NamedObject
     @Adjacency(label = "knows")
     void removeKnowsPerson(final Person person);
 
+    @Adjacency(label = "knows")
+    boolean hasKnowsPerson(final Person person);
+
+    @Adjacency(label = "knows", addIfAbsent = true)
+    void addKnowsPersonIfAbsent(final Person person);
+
     @Incidence(label = "knows")
     void removeKnows(final Knows knows);
 
     @Adjacency(label = "latestProject")
     Project getLatestProject();
 
+    @Adjacency(label = "created", multiple = Adjacency.Multiple.FAIL)
+    Project getOnlyCreatedProject();
+
     @Adjacency(label = "latestProject")
     void setLatestProject(final Project latestProject);
 
@@ -47,6 +47,9 @@ public interface Project extends NamedObject {
 
     @Adjacency(label = "created", direction = Direction.IN)
     public void addCreatedByPersonAdjacency(Person person);
+
+    @Adjacency(label = "created", direction = Direction.IN, setMode = Adjacency.SetMode.DIFF)
+    public void setCreatedByPeople(Iterable<Person> people);
     
     @JavaHandler
     public String getLanguageUsingMixin();
@@ -0,0 +1,108 @@
+package com.tinkerpop.frames.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.domain.classes.NamedObject;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.modules.gremlingroovy.GremlinGroovyModule;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerModule;
+import com.tinkerpop.frames.modules.typedgraph.TypedGraphModuleBuilder;
+import com.tinkerpop.frames.modules.typedgraph.TypedGraphModuleTest;
+
+public class FramesEventsTest
+{
+    @Test
+    public void testEvents() throws Exception
+    {
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new GremlinGroovyModule(), new JavaHandlerModule(),
+                    new TypedGraphModuleBuilder().withClass(TypedGraphModuleTest.A.class).build()).create(TinkerFactory.createClassic());
+        framedGraph.getBaseGraph().vertices(2).next().property("type", "A");
+
+        File file = File.createTempFile("frames", ".jfr");
+        try
+        {
+            try (Recording recording = new Recording())
+            {
+                recording.enable("com.tinkerpop.frames.Frame");
+                recording.enable("com.tinkerpop.frames.Dispatch");
+                recording.enable("com.tinkerpop.frames.ScriptCompilation");
+                recording.enable("com.tinkerpop.frames.ScriptEvaluation");
+                recording.enable("com.tinkerpop.frames.JavaHandlerCreation");
+                recording.enable("com.tinkerpop.frames.TypeResolution");
+                recording.start();
+
+                Person marko = framedGraph.getVertex(1, Person.class);
+                assertEquals("marko", marko.getName());
+                assertEquals("marko (29)", marko.getNameAndAge());
+                assertEquals("aStringProperty", marko.getAStringProperty());
+                assertTrue(framedGraph.getVertex(2, TypedGraphModuleTest.Base.class) instanceof TypedGraphModuleTest.A);
+
+                recording.stop();
+                recording.dump(file.toPath());
+            }
+
+            Map<String, RecordedEvent> events = new HashMap<String, RecordedEvent>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file.toPath()))
+            {
+                String name = event.getEventType().getName();
+                if (name.equals("com.tinkerpop.frames.Dispatch") && !"getName".equals(event.getString("method")))
+                {
+                    continue;
+                }
+                events.putIfAbsent(name, event);
+            }
+
+            assertEquals(Person.class.getName(), events.get("com.tinkerpop.frames.Frame").getClass("frameInterface").getName());
+            RecordedEvent dispatch = events.get("com.tinkerpop.frames.Dispatch");
+            assertEquals(NamedObject.class.getName(), dispatch.getClass("frameInterface").getName());
+            assertEquals("1", dispatch.getString("elementId"));
+            assertEquals("getAStringProperty", events.get("com.tinkerpop.frames.ScriptCompilation").getString("method"));
+            assertEquals("getAStringProperty", events.get("com.tinkerpop.frames.ScriptEvaluation").getString("method"));
+            assertEquals("getNameAndAge", events.get("com.tinkerpop.frames.JavaHandlerCreation").getString("method"));
+            RecordedEvent typeResolution = events.get("com.tinkerpop.frames.TypeResolution");
+            assertEquals(TypedGraphModuleTest.Base.class.getName(), typeResolution.getClass("frameInterface").getName());
+            assertEquals("2", typeResolution.getString("elementId"));
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testDisabledEventsAllocateNothing()
+    {
+        Object event = FramesEvents.begin(FramesEvents.Kind.DISPATCH);
+        assertSame(FramesEvents.NOT_RECORDED, event);
+        assertFalse(FramesEvents.isRecording(event));
+        FramesEvents.commit(event, Person.class, null, 1);
+
+        try (Recording recording = new Recording())
+        {
+            recording.enable("com.tinkerpop.frames.Dispatch");
+            recording.start();
+            event = FramesEvents.begin(FramesEvents.Kind.DISPATCH);
+            assertTrue(FramesEvents.isRecording(event));
+            assertNotSame(event, FramesEvents.begin(FramesEvents.Kind.DISPATCH));
+        }
+        assertSame(FramesEvents.NOT_RECORDED, FramesEvents.begin(FramesEvents.Kind.DISPATCH));
+    }
+}
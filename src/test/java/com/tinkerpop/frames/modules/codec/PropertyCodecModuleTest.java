@@ -0,0 +1,160 @@
+package com.tinkerpop.frames.modules.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.Property;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.modules.PropertyCodec;
+import com.tinkerpop.frames.modules.generation.GeneratedFrame;
+import com.tinkerpop.frames.modules.generation.GeneratedFramesModule;
+
+public class PropertyCodecModuleTest
+{
+    @Test
+    public void testCompactCodecs()
+    {
+        assertCompactCodecs(new FramedGraphFactory(new PropertyCodecModule().withCompactCodecs().withPortableCodecs()).create(TinkerGraph.open()));
+    }
+
+    @Test
+    public void testCompactCodecsOnGeneratedFrames()
+    {
+        PropertyCodecModule codecs = new PropertyCodecModule().withCompactCodecs().withPortableCodecs();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new GeneratedFramesModule(), codecs).create(TinkerGraph.open());
+        assertTrue(framedGraph.addVertex(Event.class) instanceof GeneratedFrame);
+        assertCompactCodecs(framedGraph);
+    }
+
+    private void assertCompactCodecs(FramedGraph<TinkerGraph> framedGraph)
+    {
+        Event event = framedGraph.addVertex(Event.class);
+        Vertex vertex = event.asVertex();
+
+        Date when = new Date(1234567890L);
+        event.setWhen(when);
+        assertEquals(1234567890L, vertex.property("when").value());
+        assertEquals(when, event.getWhen());
+
+        UUID id = UUID.randomUUID();
+        event.setUuid(id);
+        assertEquals(id.toString(), vertex.property("uuid").value());
+        assertEquals(id, event.getUuid());
+
+        event.setTags(new ArrayList<String>(Arrays.asList("a", "b")));
+        assertTrue(vertex.property("tags").value() instanceof ImmutableList);
+        assertEquals(Arrays.asList("a", "b"), event.getTags());
+        assertSame(event.getTags(), event.getTags());
+
+        event.setLabels(new LinkedHashSet<String>(Arrays.asList("x", "y")));
+        assertTrue(vertex.property("labels").value() instanceof ImmutableSet);
+        assertEquals(Arrays.asList("x", "y"), new ArrayList<String>(event.getLabels()));
+        assertSame(event.getLabels(), event.getLabels());
+
+        event.setWhen(null);
+        assertNull(event.getWhen());
+        assertTrue(!vertex.property("when").isPresent());
+
+        assertSame(event.asVertex(), Iterables.getOnlyElement(framedGraph.findVerticesByProperty(Event.class, "uuid", id)).asVertex());
+        assertSame(vertex, Iterables.getOnlyElement(framedGraph.findVerticesByProperty(Event.class, "tags", Arrays.asList("a", "b"))).asVertex());
+        assertSame(vertex, Iterables.getOnlyElement(framedGraph.findVerticesByProperty(Event.class, "labels",
+                    new LinkedHashSet<String>(Arrays.asList("x", "y")))).asVertex());
+    }
+
+    @Test
+    public void testValuesStoredBeforeCodecsAreRead()
+    {
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new PropertyCodecModule().withCompactCodecs().withPortableCodecs()).create(TinkerGraph.open());
+        Date when = new Date();
+        UUID id = UUID.randomUUID();
+        Vertex vertex = framedGraph.getBaseGraph().addVertex("when", when, "uuid", id, "tags", Arrays.asList("a"));
+        Event event = framedGraph.frame(vertex, Event.class);
+        assertEquals(when, event.getWhen());
+        assertEquals(id, event.getUuid());
+        assertEquals(Arrays.asList("a"), event.getTags());
+    }
+
+    @Test
+    public void testCustomCodec()
+    {
+        PropertyCodec<Person.Gender> lowerCase = new PropertyCodec<Person.Gender>()
+        {
+            @Override
+            public Object encode(Person.Gender value)
+            {
+                return value.name().toLowerCase();
+            }
+
+            @Override
+            public Person.Gender decode(Object stored)
+            {
+                return Person.Gender.valueOf(stored.toString().toUpperCase());
+            }
+        };
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new PropertyCodecModule().withCodec(Person.Gender.class, lowerCase))
+                    .create(TinkerGraph.open());
+        Person person = framedGraph.addVertex(Person.class);
+        person.setGender(Person.Gender.FEMALE);
+        assertEquals("female", person.asVertex().property("gender").value());
+        assertEquals(Person.Gender.FEMALE, person.getGender());
+        assertEquals(1, Iterables.size(framedGraph.findVerticesByProperty(Person.class, "gender", Person.Gender.FEMALE)));
+    }
+
+    @Test
+    public void testEnumsWithoutModule()
+    {
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new GeneratedFramesModule()).create(TinkerGraph.open());
+        Person person = framedGraph.addVertex(Person.class);
+        person.setGender(Person.Gender.MALE);
+        assertEquals("MALE", person.asVertex().property("gender").value());
+        assertSame(Person.Gender.MALE, person.getGender());
+        assertSame(Person.Gender.MALE, EnumCodec.of(Person.Gender.class).decode("MALE"));
+        assertSame(EnumCodec.of(Person.Gender.class), EnumCodec.of(Person.Gender.class));
+    }
+
+    public interface Event extends com.tinkerpop.frames.VertexFrame
+    {
+        @Property("when")
+        Date getWhen();
+
+        @Property("when")
+        void setWhen(Date when);
+
+        @Property("uuid")
+        UUID getUuid();
+
+        @Property("uuid")
+        void setUuid(UUID uuid);
+
+        @Property("tags")
+        List<String> getTags();
+
+        @Property("tags")
+        void setTags(List<String> tags);
+
+        @Property("labels")
+        Set<String> getLabels();
+
+        @Property("labels")
+        void setLabels(Set<String> labels);
+    }
+}
@@ -0,0 +1,117 @@
+package com.tinkerpop.frames.modules.edgeindex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.tinkerpop.frames.EdgeFrame;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.domain.classes.Project;
+import com.tinkerpop.frames.domain.incidences.Knows;
+
+public class EdgeIndexModuleTest
+{
+    private TinkerGraph graph;
+    private EdgeIndexModule module;
+    private FramedGraph<TinkerGraph> framedGraph;
+    private Person marko;
+    private Person josh;
+    private Person peter;
+
+    @Before
+    public void setup()
+    {
+        graph = TinkerFactory.createClassic();
+        module = new EdgeIndexModule();
+        framedGraph = new FramedGraphFactory(module).create(graph);
+        marko = framedGraph.getVertex(1, Person.class);
+        josh = framedGraph.getVertex(4, Person.class);
+        peter = framedGraph.getVertex(6, Person.class);
+    }
+
+    @Test
+    public void testHas()
+    {
+        assertTrue(marko.hasKnowsPerson(josh));
+        assertFalse(marko.hasKnowsPerson(peter));
+        assertEquals(2, module.size(framedGraph));
+    }
+
+    @Test
+    public void testAddAndRemove()
+    {
+        marko.addKnowsPersonIfAbsent(josh);
+        marko.addKnowsPersonIfAbsent(peter);
+        marko.addKnowsPersonIfAbsent(peter);
+        assertEquals(3, Iterables.size(marko.getKnowsPeople()));
+        assertTrue(marko.hasKnowsPerson(peter));
+
+        marko.removeKnowsPerson(josh);
+        assertFalse(marko.hasKnowsPerson(josh));
+        assertFalse(graph.edges(8).hasNext());
+        assertEquals(2, Iterables.size(marko.getKnowsPeople()));
+    }
+
+    @Test
+    public void testIncidencesAndDirectRemoval()
+    {
+        assertFalse(marko.hasKnowsPerson(peter));
+        Knows knows = marko.addKnows(peter);
+        assertTrue(marko.hasKnowsPerson(peter));
+
+        ((EdgeFrame) knows).asEdge().remove();
+        assertFalse(marko.hasKnowsPerson(peter));
+    }
+
+    @Test
+    public void testInDirection()
+    {
+        Project lop = framedGraph.getVertex(3, Project.class);
+        lop.removeCreatedByPerson(josh);
+        assertFalse(graph.edges(11).hasNext());
+        assertEquals(2, Iterables.size(lop.getCreatedByPeople()));
+        assertTrue(graph.edges(9).hasNext());
+    }
+
+    @Test
+    public void testClear()
+    {
+        assertFalse(marko.hasKnowsPerson(peter));
+        graph.vertices(1).next().addEdge("knows", graph.vertices(6).next());
+        assertFalse(marko.hasKnowsPerson(peter));
+        module.clear(framedGraph);
+        assertTrue(marko.hasKnowsPerson(peter));
+    }
+
+    @Test
+    public void testIndexReleasesGraph() throws Exception
+    {
+        WeakReference<TinkerGraph> released = indexDiscardedGraph();
+        for (int i = 0; i < 50 && released.get() != null; i++)
+        {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(released.get());
+    }
+
+    private WeakReference<TinkerGraph> indexDiscardedGraph()
+    {
+        TinkerGraph discarded = TinkerFactory.createClassic();
+        FramedGraph<TinkerGraph> framed = new FramedGraphFactory(module).create(discarded);
+        assertTrue(framed.getVertex(1, Person.class).hasKnowsPerson(framed.getVertex(4, Person.class)));
+        assertEquals(2, module.size(framed));
+        return new WeakReference<TinkerGraph>(discarded);
+    }
+}
@@ -0,0 +1,147 @@
+package com.tinkerpop.frames.modules.generation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.Property;
+import com.tinkerpop.frames.UnhandledMethodException;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.domain.classes.Project;
+import com.tinkerpop.frames.domain.incidences.Knows;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerModule;
+import com.tinkerpop.frames.modules.typedgraph.TypedGraphModuleTest;
+import com.tinkerpop.frames.modules.typedgraph.TypedGraphModuleBuilder;
+import com.tinkerpop.frames.util.IsolatedFrame;
+import com.tinkerpop.frames.util.IsolatingClassLoader;
+
+public class GeneratedFramesModuleTest
+{
+    private TinkerGraph graph;
+    private FramedGraph<TinkerGraph> framedGraph;
+
+    @Before
+    public void setup()
+    {
+        graph = TinkerFactory.createClassic();
+        framedGraph = new FramedGraphFactory(new GeneratedFramesModule(), new JavaHandlerModule()).create(graph);
+    }
+
+    @Test
+    public void testGeneratedClass()
+    {
+        Person marko = framedGraph.getVertex(1, Person.class);
+        assertTrue(marko instanceof GeneratedFrame);
+        assertFalse(Proxy.isProxyClass(marko.getClass()));
+        assertSame(marko.getClass(), framedGraph.getVertex(2, Person.class).getClass());
+    }
+
+    @Test
+    public void testProperties()
+    {
+        Person marko = framedGraph.getVertex(1, Person.class);
+        assertEquals("marko", marko.getName());
+        assertEquals(Integer.valueOf(29), marko.getAge());
+        marko.setAge(31);
+        assertEquals(31, graph.vertices(1).next().property("age").value());
+        marko.setAge(null);
+        assertNull(marko.getAge());
+
+        marko.setGender(Person.Gender.FEMALE);
+        assertEquals("FEMALE", graph.vertices(1).next().property("gender").value());
+        assertEquals(Person.Gender.FEMALE, marko.getGender());
+        marko.removeGender();
+        assertNull(marko.getGender());
+
+        marko.setBoolean(true);
+        assertTrue(marko.isBooleanPrimitive());
+        assertTrue(marko.canBoolean());
+
+        Knows knows = framedGraph.getEdge(7, Knows.class);
+        assertNull(knows.setWeight(2.0f));
+        assertEquals(Float.valueOf(2.0f), knows.getWeight());
+    }
+
+    @Test
+    public void testHandlers()
+    {
+        Person marko = framedGraph.getVertex(1, Person.class);
+        assertEquals(3, Iterables.size(marko.getKnows()) + Iterables.size(marko.getCreated()));
+        assertEquals(2, Iterables.size(marko.getKnowsPeople()));
+        assertEquals("marko", framedGraph.getEdge(7, Knows.class).getOut().getName());
+        assertEquals("marko (29)", marko.getNameAndAge());
+        assertEquals("java", framedGraph.getVertex(5, Project.class).getLanguageUsingMixin());
+    }
+
+    @Test
+    public void testObjectMethods()
+    {
+        Person marko = framedGraph.getVertex(1, Person.class);
+        Person proxy = new FramedGraphFactory().create(graph).getVertex(1, Person.class);
+        assertEquals(marko, proxy);
+        assertEquals(proxy, marko);
+        assertEquals(proxy.hashCode(), marko.hashCode());
+        assertEquals("v[1]", marko.toString());
+        assertSame(graph.vertices(1).next(), marko.asVertex());
+    }
+
+    @Test(expected = UnhandledMethodException.class)
+    public void testUnhandledMethod()
+    {
+        framedGraph.getVertex(1, Person.class).unhandledNoAnnotation();
+    }
+
+    @Test
+    public void testTypeResolution()
+    {
+        FramedGraph<TinkerGraph> typedGraph = new FramedGraphFactory(new GeneratedFramesModule(), new TypedGraphModuleBuilder()
+                    .withClass(TypedGraphModuleTest.A.class).withClass(TypedGraphModuleTest.C.class).build()).create(TinkerGraph.open());
+        Vertex v = typedGraph.getBaseGraph().addVertex();
+        v.property("type", "C");
+        TypedGraphModuleTest.Base base = typedGraph.frame(v, TypedGraphModuleTest.Base.class);
+        assertTrue(base instanceof TypedGraphModuleTest.C);
+        ((TypedGraphModuleTest.C) base).setLabel("generated");
+        assertEquals("generated", base.getLabel());
+    }
+
+    @Test
+    public void testNonPublicInterface()
+    {
+        Hidden hidden = framedGraph.getVertex(1, Hidden.class);
+        assertTrue(Proxy.isProxyClass(hidden.getClass()));
+        assertEquals("marko", hidden.getName());
+    }
+
+    interface Hidden
+    {
+        @Property("name")
+        String getName();
+    }
+
+    @Test
+    public void testInterfaceFromChildClassLoader() throws Exception
+    {
+        Class<?> kind = new IsolatingClassLoader(IsolatedFrame.class.getName()).loadClass(IsolatedFrame.class.getName());
+        assertNotSame(IsolatedFrame.class, kind);
+
+        Object marko = framedGraph.frame(graph.vertices(1).next(), kind);
+        assertTrue(marko instanceof GeneratedFrame);
+        assertTrue(kind.isInstance(marko));
+        assertFalse(marko instanceof IsolatedFrame);
+        assertEquals("marko", kind.getMethod("getName").invoke(marko));
+    }
+}
@@ -0,0 +1,156 @@
+package com.tinkerpop.frames.modules.gremlingroovy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Iterables;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.Property;
+import com.tinkerpop.frames.annotations.gremlin.GremlinGroovy;
+import com.tinkerpop.frames.annotations.gremlin.GremlinGroovyAnnotationHandler;
+import com.tinkerpop.frames.annotations.gremlin.GremlinParam;
+import com.tinkerpop.frames.domain.classes.Person;
+
+public class GremlinGroovyModuleTest
+{
+    @Test
+    public void testScriptsCompiledOnce()
+    {
+        GremlinGroovyModule module = new GremlinGroovyModule();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(TinkerFactory.createClassic());
+        Calculator marko = framedGraph.getVertex(1, Calculator.class);
+
+        assertEquals(5, marko.add(2, 3));
+        assertEquals(9, marko.add(4, 5));
+        assertEquals("marko", marko.getName());
+        assertEquals(Arrays.asList("vadas", "josh"), framedGraph.getVertex(1, Calculator.class).getKnowsNames());
+
+        assertEquals(3, module.getHandler().getScriptCacheStats().missCount());
+        assertEquals(1, module.getHandler().getScriptCacheStats().hitCount());
+    }
+
+    @Test
+    public void testPrecompile()
+    {
+        GremlinGroovyModule module = new GremlinGroovyModule().precompile(Calculator.class);
+        assertEquals(3, module.getHandler().getScriptCacheStats().missCount());
+
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(TinkerFactory.createClassic());
+        assertEquals(5, framedGraph.getVertex(1, Calculator.class).add(2, 3));
+        assertEquals(3, module.getHandler().getScriptCacheStats().missCount());
+    }
+
+    @Test
+    public void testPrecompileExistingFrames()
+    {
+        GremlinGroovyModule module = new GremlinGroovyModule().precompile(Person.class);
+        assertEquals(0, module.getHandler().getScriptCacheStats().hitCount());
+    }
+
+    @Test
+    public void testCacheSpec()
+    {
+        GremlinGroovyModule module = new GremlinGroovyModule("maximumSize=1").precompile(Calculator.class);
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(TinkerFactory.createClassic());
+        assertEquals(5, framedGraph.getVertex(1, Calculator.class).add(2, 3));
+        CacheStats stats = module.getHandler().getScriptCacheStats();
+        assertEquals(stats.missCount() - 1, stats.evictionCount());
+    }
+
+    @Test
+    public void testTraversalTranslation() throws Exception
+    {
+        GremlinGroovyModule module = new GremlinGroovyModule().withTraversalTranslation();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(TinkerFactory.createClassic());
+        Traversals marko = framedGraph.getVertex(1, Traversals.class);
+
+        assertEquals(Arrays.asList("vadas", "josh"), marko.getKnowsNames());
+        assertEquals(Arrays.asList("josh"), marko.getKnowsNamesNamed("josh"));
+        assertEquals("josh", marko.getSecondKnown().getName());
+        assertEquals(3, Iterables.size(marko.getCoCreators()));
+        assertEquals(3L, marko.countOut());
+        assertEquals(3, marko.add(1, 2));
+
+        GremlinGroovyAnnotationHandler handler = module.getHandler();
+        assertEquals(5, handler.getTranslatedMethods().size());
+        assertEquals(1, handler.getUntranslatedMethods().size());
+        assertTrue(handler.getUntranslatedMethods().containsKey(Traversals.class.getMethod("add", int.class, int.class)));
+    }
+
+    @Test
+    public void testTraversalTranslationPrecompile()
+    {
+        GremlinGroovyModule module = new GremlinGroovyModule().withTraversalTranslation().precompile(Person.class);
+        assertTrue(module.getHandler().getUntranslatedMethods().size() > 0);
+        for (Method method : module.getHandler().getTranslatedMethods())
+        {
+            assertEquals(Person.class, method.getDeclaringClass());
+        }
+    }
+
+    @Test
+    public void testPrecompileBeforeTraversalTranslation() throws Exception
+    {
+        GremlinGroovyModule module = new GremlinGroovyModule().precompile(Calculator.class).withTraversalTranslation();
+        GremlinGroovyAnnotationHandler handler = module.getHandler();
+        assertEquals(3, handler.getScriptCacheStats().missCount());
+
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(TinkerFactory.createClassic());
+        Calculator marko = framedGraph.getVertex(1, Calculator.class);
+        assertEquals(5, marko.add(2, 3));
+        assertEquals("marko", marko.getName());
+        assertEquals(3, handler.getScriptCacheStats().missCount());
+        assertTrue(handler.getUntranslatedMethods().containsKey(Calculator.class.getMethod("add", int.class, int.class)));
+
+        handler.setTranslateTraversals(false);
+        assertEquals(9, marko.add(4, 5));
+        assertEquals(3, handler.getScriptCacheStats().missCount());
+    }
+
+    public interface Traversals
+    {
+        @Property("name")
+        String getName();
+
+        @GremlinGroovy(value = "g.getBaseGraph().traversal().V(it.id()).out('knows').values('name').toList()", frame = false)
+        List<String> getKnowsNames();
+
+        @GremlinGroovy(value = "g.getBaseGraph().traversal().V(it.id()).out(\"knows\").has('name', name).values('name').toList()", frame = false)
+        List<String> getKnowsNamesNamed(@GremlinParam("name") String name);
+
+        @GremlinGroovy("g.getBaseGraph().traversal().V(it.id()).out('knows').hasNot('lang').range(1, 2).next()")
+        Traversals getSecondKnown();
+
+        @GremlinGroovy("g.baseGraph.traversal().V(it).out('created').in('created').dedup().toList()")
+        Iterable<Traversals> getCoCreators();
+
+        @GremlinGroovy(value = "g.getBaseGraph().traversal().V(it.id()).outE().count().next()", frame = false)
+        long countOut();
+
+        @GremlinGroovy(value = "a + b", frame = false)
+        int add(@GremlinParam("a") int a, @GremlinParam("b") int b);
+    }
+
+    public interface Calculator
+    {
+        @GremlinGroovy(value = "a + b", frame = false)
+        int add(@GremlinParam("a") int a, @GremlinParam("b") int b);
+
+        @GremlinGroovy(value = "it.value('name')", frame = false)
+        String getName();
+
+        @GremlinGroovy(value = "g.getBaseGraph().traversal().V(it.id()).out('knows').values('name').toList()", frame = false)
+        Iterable<String> getKnowsNames();
+    }
+}
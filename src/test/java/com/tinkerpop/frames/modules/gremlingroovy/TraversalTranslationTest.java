@@ -0,0 +1,230 @@
+package com.tinkerpop.frames.modules.gremlingroovy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.VertexFrame;
+import com.tinkerpop.frames.annotations.gremlin.GremlinGroovy;
+import com.tinkerpop.frames.annotations.gremlin.GremlinGroovyAnnotationHandler;
+import com.tinkerpop.frames.annotations.gremlin.GremlinParam;
+
+/**
+ * Checks that each translated step returns the same result as the script engine.
+ */
+public class TraversalTranslationTest
+{
+    @Test
+    public void testTranslatedResultsMatchScripts() throws Exception
+    {
+        TinkerGraph graph = TinkerFactory.createClassic();
+        GremlinGroovyModule translating = new GremlinGroovyModule().withTraversalTranslation();
+        Steps translated = new FramedGraphFactory(translating).create(graph).getVertex(1, Steps.class);
+        Steps scripted = new FramedGraphFactory(new GremlinGroovyModule()).create(graph).getVertex(1, Steps.class);
+
+        for (Method method : Steps.class.getDeclaredMethods())
+        {
+            Object[] arguments = new Object[method.getParameterTypes().length];
+            for (int i = 0; i < arguments.length; i++)
+            {
+                arguments[i] = method.getParameterTypes()[i] == String.class ? "josh" : 2;
+            }
+            Object expected = invoke(method, scripted, arguments);
+            Object actual = invoke(method, translated, arguments);
+            assertEquals(method.getName(), expected, actual);
+        }
+
+        GremlinGroovyAnnotationHandler handler = translating.getHandler();
+        assertEquals(handler.getUntranslatedMethods().toString(), 0, handler.getUntranslatedMethods().size());
+        assertEquals(Steps.class.getDeclaredMethods().length, handler.getTranslatedMethods().size());
+    }
+
+    @Test
+    public void testUntranslatableScripts() throws Exception
+    {
+        GremlinGroovyModule module = new GremlinGroovyModule().withTraversalTranslation().precompile(Untranslatable.class);
+        GremlinGroovyAnnotationHandler handler = module.getHandler();
+        assertEquals(0, handler.getTranslatedMethods().size());
+        assertEquals(Untranslatable.class.getDeclaredMethods().length, handler.getUntranslatedMethods().size());
+        assertTrue(handler.getUntranslatedMethods().get(Untranslatable.class.getMethod("getKnows")).startsWith("expression must start with"));
+    }
+
+    /**
+     * Invoke a method and describe its result so that results of both frames can be compared: the class of the result, with traversals and frames
+     * replaced by the elements they emit, or the classes of the exception thrown and its causes.
+     */
+    private static Object invoke(Method method, Steps frame, Object[] arguments) throws IllegalAccessException
+    {
+        try
+        {
+            Object result = method.invoke(frame, arguments);
+            List<Object> description = new ArrayList<Object>();
+            description.add(result == null ? null : result.getClass());
+            if (result instanceof Iterator)
+            {
+                Iterator<?> iterator = (Iterator<?>) result;
+                while (iterator.hasNext())
+                {
+                    description.add(iterator.next());
+                }
+            }
+            else if (result instanceof Iterable && !(result instanceof List) && !(result instanceof Set))
+            {
+                for (Object framed : (Iterable<?>) result)
+                {
+                    description.add(((VertexFrame) framed).asVertex());
+                }
+            }
+            else if (result instanceof VertexFrame)
+            {
+                description.add(((VertexFrame) result).asVertex());
+            }
+            else
+            {
+                description.add(result);
+            }
+            return description;
+        }
+        catch (InvocationTargetException e)
+        {
+            List<Class<?>> causes = new ArrayList<Class<?>>();
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause())
+            {
+                causes.add(cause.getClass());
+            }
+            return causes;
+        }
+    }
+
+    public interface Steps extends VertexFrame
+    {
+        String V = "g.getBaseGraph().traversal().V(it.id())";
+
+        @GremlinGroovy(value = V + ".out('knows').toList()", frame = false)
+        List<Vertex> out();
+
+        @GremlinGroovy(value = V + ".out('created').in('created').toList()", frame = false)
+        List<Vertex> in();
+
+        @GremlinGroovy(value = V + ".both().toList()", frame = false)
+        List<Vertex> both();
+
+        @GremlinGroovy(value = V + ".outE('knows').toList()", frame = false)
+        List<Object> outE();
+
+        @GremlinGroovy(value = V + ".out('created').inE().toList()", frame = false)
+        List<Object> inE();
+
+        @GremlinGroovy(value = V + ".bothE().toSet()", frame = false)
+        Set<Object> bothE();
+
+        @GremlinGroovy(value = V + ".outE().outV().toList()", frame = false)
+        List<Vertex> outV();
+
+        @GremlinGroovy(value = V + ".outE().inV().toList()", frame = false)
+        List<Vertex> inV();
+
+        @GremlinGroovy(value = V + ".outE('created').bothV().toList()", frame = false)
+        List<Vertex> bothV();
+
+        @GremlinGroovy(value = V + ".outE().otherV().toList()", frame = false)
+        List<Vertex> otherV();
+
+        @GremlinGroovy(value = V + ".out().has('age').toList()", frame = false)
+        List<Vertex> hasKey();
+
+        @GremlinGroovy(value = V + ".out().has('name', name).toList()", frame = false)
+        List<Vertex> hasValue(@GremlinParam("name") String name);
+
+        @GremlinGroovy(value = V + ".out().hasNot('age').toList()", frame = false)
+        List<Vertex> hasNot();
+
+        @GremlinGroovy(value = V + ".both().hasLabel('software', 'person').toList()", frame = false)
+        List<Vertex> hasLabel();
+
+        @GremlinGroovy(value = V + ".out().hasId(2, 4).toList()", frame = false)
+        List<Vertex> hasId();
+
+        @GremlinGroovy(value = V + ".out().values('name', 'age').toList()", frame = false)
+        List<Object> values();
+
+        @GremlinGroovy(value = V + ".out().id().toList()", frame = false)
+        List<Object> id();
+
+        @GremlinGroovy(value = V + ".outE().label().toSet()", frame = false)
+        Set<String> label();
+
+        @GremlinGroovy(value = V + ".out().limit(n).toList()", frame = false)
+        List<Vertex> limit(@GremlinParam("n") int n);
+
+        @GremlinGroovy(value = V + ".both().range(1, 3).toList()", frame = false)
+        List<Vertex> range();
+
+        @GremlinGroovy(value = V + ".out('created').in('created').dedup().toList()", frame = false)
+        List<Vertex> dedup();
+
+        @GremlinGroovy(value = V + ".out('created').in('created').simplePath().toList()", frame = false)
+        List<Vertex> simplePath();
+
+        @GremlinGroovy(value = V + ".out().count().next()", frame = false)
+        long count();
+
+        @GremlinGroovy(value = V + ".out('knows')", frame = false)
+        Iterator<Vertex> traversal();
+
+        @GremlinGroovy(value = V + ".out('knows').values('name').next()", frame = false)
+        String next();
+
+        @GremlinGroovy(value = V + ".out('nothing').next()", frame = false)
+        Vertex nextOfNothing();
+
+        @GremlinGroovy(value = V + ".out().next(2)", frame = false)
+        List<Vertex> nextTwo();
+
+        @GremlinGroovy(value = V + ".out('knows').values('name').tryNext()", frame = false)
+        Optional<Object> tryNext();
+
+        @GremlinGroovy(value = V + ".out('nothing').hasNext()", frame = false)
+        boolean hasNext();
+
+        @GremlinGroovy(V + ".out('knows').toList()")
+        Iterable<Steps> frames();
+
+        @GremlinGroovy(V + ".out('knows').next()")
+        Steps frame();
+
+        @GremlinGroovy(V + ".out('knows')")
+        Iterable<Steps> unframeable();
+
+        @GremlinGroovy(value = "g.baseGraph.traversal().V(it).out('knows').toList();", frame = false)
+        List<Vertex> fromVertex();
+    }
+
+    public interface Untranslatable
+    {
+        @GremlinGroovy("it.out('knows')")
+        Iterable<Untranslatable> getKnows();
+
+        @GremlinGroovy(value = "g.getBaseGraph().traversal().V(it.id()).outE.count().next()", frame = false)
+        long countOut();
+
+        @GremlinGroovy(value = "g.getBaseGraph().traversal().V(it.id()).out('knows').toList().size()", frame = false)
+        int countKnows();
+
+        @GremlinGroovy(value = "g.getBaseGraph().traversal().V(it.id()).out(label).toList()", frame = false)
+        List<Vertex> getAdjacent(String label);
+    }
+}
@@ -1,5 +1,8 @@
 package com.tinkerpop.frames.modules.javahandler;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import junit.framework.Assert;
 
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -8,11 +11,14 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.tinkerpop.frames.Adjacency;
 import com.tinkerpop.frames.FramedGraph;
 import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.MethodDispatch;
 import com.tinkerpop.frames.Property;
 import com.tinkerpop.frames.domain.classes.Person;
 import com.tinkerpop.frames.domain.classes.Project;
+import com.tinkerpop.frames.modules.metrics.MetricsModule;
 
 /**
  * @author Bryn Cooke
@@ -73,6 +79,231 @@ public class JavaHandlerTest
         Assert.assertTrue(c.getProperty().equals("ABCC2") || c.getProperty().equals("ABC2C"));
     }
 
+    @Test
+    public void testElementsFramedOnceOnCreation()
+    {
+        MetricsModule metrics = new MetricsModule();
+        g = new FramedGraphFactory(new JavaHandlerModule(), metrics).create(TinkerGraph.open());
+        Vertex v = g.addVertex();
+
+        Assert.assertEquals("AB", g.addVertex(B.class).getProperty());
+        Assert.assertEquals("AB", g.addEdge(v, v, "test", B.class).getProperty());
+        Assert.assertEquals(2, metrics.getStatistics().getFramedCount(B.class));
+
+        g.addVertex(Person.class);
+        Assert.assertEquals(1, metrics.getStatistics().getFramedCount(Person.class));
+
+        for (B b : g.addVertices(B.class, 2))
+        {
+            Assert.assertEquals("AB", b.getProperty());
+        }
+        Assert.assertEquals(4, metrics.getStatistics().getFramedCount(B.class));
+
+        g.addBaseVertices(Person.class, 2);
+        Assert.assertEquals(1, metrics.getStatistics().getFramedCount(Person.class));
+    }
+
+    @Test
+    public void testLifecycles()
+    {
+        Assert.assertEquals(6, countHandlers(JavaHandlerLifecycle.PER_CALL));
+        Assert.assertEquals(5, countHandlers(JavaHandlerLifecycle.PER_FRAME));
+        Assert.assertEquals(1, countHandlers(JavaHandlerLifecycle.PER_THREAD));
+        Assert.assertEquals(1, countHandlers(JavaHandlerLifecycle.SINGLETON));
+    }
+
+    @Test
+    public void testLifecycleInitializers()
+    {
+        for (JavaHandlerLifecycle lifecycle : JavaHandlerLifecycle.values())
+        {
+            g = new FramedGraphFactory(new JavaHandlerModule().withLifecycle(lifecycle)).create(TinkerGraph.open());
+            Assert.assertEquals("AB", g.addVertex(B.class).getProperty());
+            Assert.assertEquals("A", g.addVertex(A.class).getProperty());
+        }
+    }
+
+    @Test
+    public void testSingletonThreads() throws Exception
+    {
+        g = new FramedGraphFactory(new JavaHandlerModule().withLifecycle(JavaHandlerLifecycle.SINGLETON)).create(TinkerFactory.createClassic());
+        final Counted marko = g.getVertex(1, Counted.class);
+        final Counted josh = g.getVertex(4, Counted.class);
+        final AtomicInteger failures = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++)
+        {
+            final Counted counted = i % 2 == 0 ? marko : josh;
+            final String expected = i % 2 == 0 ? "marko vadas josh 1" : "josh ripple lop 4";
+            threads[i] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        for (int j = 0; j < 200; j++)
+                        {
+                            if (!expected.equals(counted.describe()))
+                            {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    }
+                    catch (RuntimeException e)
+                    {
+                        failures.incrementAndGet();
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        Assert.assertEquals(0, failures.get());
+    }
+
+    @Test
+    public void testHandlerExceptionsAreNotWrapped()
+    {
+        Counted marko = g.getVertex(1, Counted.class);
+        try
+        {
+            marko.fail("marko");
+            Assert.fail();
+        }
+        catch (IllegalStateException e)
+        {
+            Assert.assertEquals("marko", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvokersResolvedOnce() throws Exception
+    {
+        Method method = Person.class.getMethod("getNameAndAge");
+        JavaHandlerInvoker invoker = JavaHandlerInvokers.get(method);
+        Assert.assertSame(invoker, JavaHandlerInvokers.get(method));
+        // Public methods are called by generated code rather than a method handle.
+        Assert.assertNotSame(JavaHandlerInvoker.class.getClassLoader(), invoker.getClass().getClassLoader());
+
+        MethodDispatch dispatch = MethodDispatch.resolve(g.getConfig(), new Class<?>[] { Person.class }, method);
+        Assert.assertSame(invoker, dispatch.getPlan().getHandlerState());
+    }
+
+    @Test
+    public void testGeneratedInvokerSignatures() throws Exception
+    {
+        Signatures marko = g.getVertex(1, Signatures.class);
+        Assert.assertEquals(6L, marko.add(1, 2L, new int[] { 3 }));
+        marko.clear('x');
+        Assert.assertEquals("x", marko.getNote());
+        Assert.assertNotSame(JavaHandlerInvoker.class.getClassLoader(),
+                    JavaHandlerInvokers.get(Signatures.class.getMethod("add", int.class, long.class, int[].class)).getClass().getClassLoader());
+    }
+
+    private int countHandlers(JavaHandlerLifecycle lifecycle)
+    {
+        g = new FramedGraphFactory(new JavaHandlerModule().withLifecycle(lifecycle)).create(TinkerFactory.createClassic());
+        Counted.Impl.created.set(0);
+        Counted marko = g.getVertex(1, Counted.class);
+        Assert.assertEquals("marko vadas josh 1", marko.describe());
+        Assert.assertEquals("marko vadas josh 1", marko.describe());
+        return Counted.Impl.created.get();
+    }
+
+    interface Counted
+    {
+        @Property("name")
+        String getName();
+
+        @Adjacency(label = "knows")
+        Iterable<Counted> getKnows();
+
+        @Adjacency(label = "created")
+        Iterable<Counted> getCreated();
+
+        @JavaHandler
+        String describe();
+
+        @JavaHandler
+        String describeShallow();
+
+        @JavaHandler
+        void fail(String message);
+
+        abstract class Impl implements Counted, JavaHandlerContext<Vertex>
+        {
+            static final AtomicInteger created = new AtomicInteger();
+
+            public Impl()
+            {
+                created.incrementAndGet();
+            }
+
+            @Override
+            public String describe()
+            {
+                StringBuilder description = new StringBuilder(getName());
+                for (Counted known : getName().equals("josh") ? getCreated() : getKnows())
+                {
+                    description.append(' ').append(known.describeShallow());
+                }
+                // The outer call is restored after the nested calls.
+                return description.append(' ').append(it().id()).toString();
+            }
+
+            @Override
+            public String describeShallow()
+            {
+                return getName();
+            }
+
+            @Override
+            public void fail(String message)
+            {
+                throw new IllegalStateException(message);
+            }
+        }
+    }
+
+    public interface Signatures
+    {
+        @Property("note")
+        String getNote();
+
+        @Property("note")
+        void setNote(String note);
+
+        @JavaHandler
+        long add(int a, long b, int[] rest);
+
+        @JavaHandler
+        void clear(char note);
+
+        abstract class Impl implements Signatures
+        {
+            @Override
+            public long add(int a, long b, int[] rest)
+            {
+                long sum = a + b;
+                for (int r : rest)
+                {
+                    sum += r;
+                }
+                return sum;
+            }
+
+            @Override
+            public void clear(char note)
+            {
+                setNote(String.valueOf(note));
+            }
+        }
+    }
+
     interface A
     {
 
@@ -0,0 +1,132 @@
+package com.tinkerpop.frames.modules.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.domain.classes.NamedObject;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.domain.incidences.Knows;
+import com.tinkerpop.frames.modules.generation.GeneratedFramesModule;
+import com.tinkerpop.frames.modules.javahandler.JavaHandlerModule;
+
+public class MetricsModuleTest
+{
+    @Test
+    public void testMethodStatistics() throws Exception
+    {
+        MetricsModule metrics = new MetricsModule();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(metrics, new JavaHandlerModule()).create(TinkerFactory.createClassic());
+        assertMethodStatistics(metrics.getStatistics(), framedGraph);
+    }
+
+    @Test
+    public void testGeneratedFrames() throws Exception
+    {
+        MetricsModule metrics = new MetricsModule();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new GeneratedFramesModule(), metrics, new JavaHandlerModule())
+                    .create(TinkerFactory.createClassic());
+        assertMethodStatistics(metrics.getStatistics(), framedGraph);
+    }
+
+    private void assertMethodStatistics(InvocationStatistics statistics, FramedGraph<TinkerGraph> framedGraph) throws Exception
+    {
+        Person marko = framedGraph.getVertex(1, Person.class);
+        assertEquals("marko", marko.getName());
+        assertEquals("marko", marko.getName());
+        assertEquals(2, Iterables.size(marko.getKnowsPeople()));
+        marko.toString();
+
+        MethodStatistics getName = statistics.getMethodStatistics(NamedObject.class.getMethod("getName"));
+        assertNotNull(getName);
+        assertEquals(2, getName.getCount());
+        assertEquals(2, getName.getHistogram().getCount());
+        assertTrue(getName.getMaxNanos() <= getName.getHistogram().getQuantile(1.0));
+        assertTrue(getName.getTotalNanos() >= getName.getMaxNanos());
+        assertEquals(1, statistics.getMethodStatistics(Person.class.getMethod("getKnowsPeople")).getCount());
+        assertEquals(0, statistics.getMethodStatistics(Person.class.getMethod("getAge")).getCount());
+        assertNull(statistics.getMethodStatistics(Object.class.getMethod("toString")));
+
+        assertEquals(3, statistics.getFramedVertices());
+        assertEquals(3, statistics.getFramedCount(Person.class));
+        assertEquals(0, statistics.getFramedEdges());
+        assertEquals(1, statistics.getFrameCacheMisses());
+        assertEquals(2, statistics.getFrameCacheHits());
+
+        statistics.reset();
+        assertEquals(0, getName.getCount());
+        marko.getName();
+        assertEquals(1, getName.getCount());
+    }
+
+    @Test
+    public void testAddedElements()
+    {
+        MetricsModule metrics = new MetricsModule();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(metrics).create(TinkerGraph.open());
+        Person a = framedGraph.addVertex(Person.class);
+        Person b = framedGraph.addVertex(Person.class);
+        framedGraph.addEdge(a.asVertex(), b.asVertex(), "knows", Knows.class);
+
+        InvocationStatistics statistics = metrics.getStatistics();
+        assertEquals(2, statistics.getAddedVertices());
+        assertEquals(1, statistics.getAddedEdges());
+        assertEquals(2, statistics.getFramedVertices());
+        assertEquals(1, statistics.getFramedEdges());
+        assertEquals(1, statistics.getFramedCount(Knows.class));
+        assertEquals(1.0 / 3, statistics.getFrameCacheHitRatio(), 0.0001);
+    }
+
+    @Test
+    public void testLatencyHistogram()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getQuantile(0.5));
+        for (int i = 0; i < 99; i++)
+        {
+            histogram.record(100);
+        }
+        histogram.record(10000);
+        histogram.record(-1);
+        assertEquals(101, histogram.getCount());
+        assertEquals(127, histogram.getQuantile(0.5));
+        assertEquals(16383, histogram.getQuantile(1.0));
+        assertEquals(0, histogram.getQuantile(0.0));
+        assertEquals(1, histogram.getBucketCounts()[0]);
+        assertEquals(99, histogram.getBucketCounts()[LatencyHistogram.bucket(100)]);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception
+    {
+        final MethodStatistics statistics = new MethodStatistics(Person.class.getMethod("getName"));
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++)
+        {
+            final long nanos = 100 * (t + 1);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++)
+                {
+                    statistics.record(nanos);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        assertEquals(40000, statistics.getCount());
+        assertEquals(10000 * (100 + 200 + 300 + 400), statistics.getTotalNanos());
+        assertEquals(400, statistics.getMaxNanos());
+        assertEquals(250, statistics.getMeanNanos(), 0.0001);
+    }
+}
@@ -1,17 +1,28 @@
 package com.tinkerpop.frames.modules.typedgraph;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
 import junit.framework.TestCase;
 
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.tinkerpop.frames.EdgeFrame;
 import com.tinkerpop.frames.FramedGraph;
 import com.tinkerpop.frames.FramedGraphFactory;
 import com.tinkerpop.frames.InVertex;
 import com.tinkerpop.frames.Property;
 import com.tinkerpop.frames.VertexFrame;
+import com.tinkerpop.frames.modules.generation.GeneratedFrame;
+import com.tinkerpop.frames.modules.generation.GeneratedFramesModule;
 
 public class TypedGraphModuleTest extends TestCase
 {
@@ -38,6 +49,12 @@ public class TypedGraphModuleTest extends TestCase
         <T extends Base> T getInVertex();
     }
 
+    public static @TypeValue("D") interface D extends Base
+    {
+        @Property("type")
+        void setType(String type);
+    }
+
     public void testSerializeVertexType()
     {
         TinkerGraph graph = TinkerGraph.open();
@@ -112,4 +129,127 @@ public class TypedGraphModuleTest extends TestCase
         assertTrue(((C) c).getInVertex() instanceof A);
 
     }
+
+    public void testTypeValues()
+    {
+        TypeRegistry registry = new TypeRegistry().add(A.class).add(B.class).add(C.class);
+        assertEquals(new HashSet<String>(Arrays.asList("A", "B", "C")), registry.getTypeValues(Base.class));
+        assertEquals(new HashSet<String>(Arrays.asList("B", "C")), registry.getTypeValues(B.class));
+        assertEquals(new HashSet<String>(Arrays.asList("C")), registry.getTypeValues(C.class));
+    }
+
+    public void testFindByType()
+    {
+        TinkerGraph graph = TinkerGraph.open();
+        TypedGraphModule module = new TypedGraphModuleBuilder().withClass(A.class).withClass(B.class).withClass(C.class).build();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(graph);
+        A a = framedGraph.addVertex(A.class);
+        framedGraph.addVertex(B.class);
+        framedGraph.addVertex(C.class);
+        graph.addVertex();
+        Vertex aV = ((VertexFrame) a).asVertex();
+        framedGraph.addEdge(aV, aV, "label", C.class);
+
+        assertEquals(3, Iterables.size(module.vertices(framedGraph, Base.class)));
+        assertEquals(2, Iterables.size(module.vertices(framedGraph, B.class)));
+        assertTrue(Iterables.getOnlyElement(module.vertices(framedGraph, C.class)) instanceof C);
+        assertEquals(a, Iterables.getOnlyElement(module.vertices(framedGraph, A.class)));
+        assertTrue(Iterables.getOnlyElement(module.edges(framedGraph, B.class)) instanceof C);
+        assertTrue(graph.getIndexedKeys(Vertex.class).isEmpty());
+    }
+
+    public void testFindByTypeIndexed()
+    {
+        TinkerGraph graph = TinkerGraph.open();
+        TypedGraphModule module = new TypedGraphModuleBuilder().withClass(A.class).withClass(B.class).withClass(C.class)
+                    .withTypeFieldIndex().build();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(graph);
+        framedGraph.addVertex(A.class);
+        framedGraph.addVertex(B.class);
+        framedGraph.addVertex(C.class);
+
+        assertEquals(2, Iterables.size(module.vertices(framedGraph, B.class)));
+        assertEquals(3, Iterables.size(module.vertices(framedGraph, Base.class)));
+        assertTrue(graph.getIndexedKeys(Vertex.class).contains("type"));
+    }
+
+    public void testFindByTypeIndexedSingleValue()
+    {
+        TinkerGraph graph = TinkerGraph.open();
+        TypedGraphModule module = new TypedGraphModuleBuilder().withClass(A.class).withClass(B.class).withClass(C.class)
+                    .withTypeFieldIndex().build();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(graph);
+        framedGraph.addVertex(A.class);
+        framedGraph.addVertex(A.class);
+        framedGraph.addVertex(C.class);
+
+        List<A> found = Lists.newArrayList(module.vertices(framedGraph, A.class));
+        assertEquals(2, found.size());
+        assertTrue(graph.getIndexedKeys(Vertex.class).contains("type"));
+        assertEquals(1, Iterables.size(module.vertices(framedGraph, C.class)));
+    }
+
+    public void testTypeCache()
+    {
+        TinkerGraph graph = TinkerGraph.open();
+        TypedGraphModule module = new TypedGraphModuleBuilder().withClass(A.class).withClass(C.class).withClass(D.class).withTypeCache(100)
+                    .build();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(graph);
+        Object id = ((VertexFrame) framedGraph.addVertex(D.class)).asVertex().id();
+
+        assertTrue(framedGraph.getVertex(id, Base.class) instanceof D);
+        assertTrue(framedGraph.getVertex(id, Base.class) instanceof D);
+        assertEquals(2, module.getTypeCacheStats(framedGraph).hitCount());
+
+        // Writing the type field through a frame evicts the element.
+        framedGraph.getVertex(id, D.class).setType("A");
+        assertTrue(framedGraph.getVertex(id, Base.class) instanceof A);
+
+        // Untyped elements are cached too.
+        Object untyped = graph.addVertex().id();
+        assertFalse(framedGraph.getVertex(untyped, Base.class) instanceof A);
+        assertFalse(framedGraph.getVertex(untyped, Base.class) instanceof A);
+        assertEquals(4, module.getTypeCacheStats(framedGraph).hitCount());
+    }
+
+    public void testTypeCacheOnGeneratedFrames()
+    {
+        TinkerGraph graph = TinkerGraph.open();
+        TypedGraphModule module = new TypedGraphModuleBuilder().withClass(A.class).withClass(D.class).withTypeCache(100).build();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(new GeneratedFramesModule(), module).create(graph);
+        D d = framedGraph.addVertex(D.class);
+        assertTrue(d instanceof GeneratedFrame);
+        Object id = ((VertexFrame) d).asVertex().id();
+        assertTrue(framedGraph.getVertex(id, Base.class) instanceof D);
+
+        d.setType("A");
+        assertTrue(framedGraph.getVertex(id, Base.class) instanceof A);
+    }
+
+    public void testTypeCacheEviction()
+    {
+        TinkerGraph graph = TinkerGraph.open();
+        TypedGraphModule module = new TypedGraphModuleBuilder().withClass(A.class).withClass(C.class).withClass(D.class).withTypeCache(100)
+                    .build();
+        FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory(module).create(graph);
+        EventStrategy events = EventStrategy.build().addListener(module.getTypeCacheListener(framedGraph)).create();
+        GraphTraversalSource g = graph.traversal(GraphTraversalSource.build().with(events));
+
+        // Removing an element through a listened traversal evicts it, so a new element with the same id is not framed with the old type.
+        graph.addVertex(T.id, 10, "type", "D");
+        assertTrue(framedGraph.getVertex(10, Base.class) instanceof D);
+        g.V(10).drop().iterate();
+        graph.addVertex(T.id, 10, "type", "A");
+        assertTrue(framedGraph.getVertex(10, Base.class) instanceof A);
+
+        // So does writing the type field.
+        g.V(10).property("type", "C").iterate();
+        assertTrue(framedGraph.getVertex(10, Base.class) instanceof C);
+
+        // Other changes must be reported.
+        graph.vertices(10).next().remove();
+        Vertex vertex = graph.addVertex(T.id, 10, "type", "D");
+        module.invalidateType(vertex);
+        assertTrue(framedGraph.getVertex(10, Base.class) instanceof D);
+    }
 }
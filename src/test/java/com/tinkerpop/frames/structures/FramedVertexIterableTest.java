@@ -0,0 +1,85 @@
+package com.tinkerpop.frames.structures;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import com.tinkerpop.frames.FramedGraph;
+import com.tinkerpop.frames.FramedGraphFactory;
+import com.tinkerpop.frames.domain.classes.Person;
+import com.tinkerpop.frames.domain.incidences.Knows;
+
+public class FramedVertexIterableTest extends TestCase
+{
+    private TinkerGraph graph = TinkerFactory.createClassic();
+    private FramedGraph<TinkerGraph> framedGraph = new FramedGraphFactory().create(graph);
+
+    public void testIteratorIsNotCopied()
+    {
+        final AtomicInteger consumed = new AtomicInteger();
+        FramedVertexIterable<Person> people = new FramedVertexIterable<Person>(framedGraph, Iterators.transform(graph.vertices(),
+                    v -> {
+                        consumed.incrementAndGet();
+                        return v;
+                    }), Person.class);
+        assertEquals(0, consumed.get());
+        people.iterator().next();
+        assertEquals(1, consumed.get());
+    }
+
+    public void testSinglePass()
+    {
+        FramedVertexIterable<Person> people = new FramedVertexIterable<Person>(framedGraph, graph.vertices(), Person.class);
+        assertEquals(6, Iterables.size(people));
+        try
+        {
+            people.iterator();
+            fail();
+        }
+        catch (IllegalStateException e)
+        {
+        }
+    }
+
+    public void testSnapshot()
+    {
+        FramedVertexIterable<Person> people = new FramedVertexIterable<Person>(framedGraph, graph.vertices(), Person.class).snapshot();
+        assertEquals(6, Iterables.size(people));
+        assertEquals(6, Iterables.size(people));
+        assertTrue(people.spliterator().hasCharacteristics(Spliterator.SIZED));
+        assertEquals(6, people.spliterator().estimateSize());
+    }
+
+    public void testStream()
+    {
+        final AtomicInteger consumed = new AtomicInteger();
+        Iterable<Vertex> vertices = () -> Iterators.transform(graph.vertices(), v -> {
+            consumed.incrementAndGet();
+            return v;
+        });
+        FramedVertexIterable<Person> people = new FramedVertexIterable<Person>(framedGraph, vertices, Person.class);
+        Spliterator<Person> spliterator = people.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.NONNULL));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+
+        assertEquals("marko", people.stream().filter(p -> "marko".equals(p.getName())).findFirst().get().getName());
+        assertTrue(consumed.get() < 6);
+        assertEquals(6, people.stream().count());
+    }
+
+    public void testEdgeStream()
+    {
+        FramedEdgeIterable<Knows> knows = new FramedEdgeIterable<Knows>(framedGraph, () -> graph.vertices(1).next().edges(Direction.OUT,
+                    "knows"), Knows.class);
+        assertEquals(2, knows.stream().count());
+        assertEquals(2, Iterables.size(knows.snapshot()));
+    }
+}
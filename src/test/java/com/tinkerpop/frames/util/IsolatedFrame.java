@@ -0,0 +1,12 @@
+package com.tinkerpop.frames.util;
+
+import com.tinkerpop.frames.Property;
+
+/**
+ * A frame interface in the frames namespace for tests that load it with an {@link IsolatingClassLoader}.
+ */
+public interface IsolatedFrame
+{
+    @Property("name")
+    String getName();
+}
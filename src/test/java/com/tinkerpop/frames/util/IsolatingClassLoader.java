@@ -0,0 +1,46 @@
+package com.tinkerpop.frames.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Defines one class itself instead of delegating to its parent, like a webapp loader that has its own copy of a frame interface.
+ */
+public class IsolatingClassLoader extends ClassLoader
+{
+    private final String isolated;
+
+    public IsolatingClassLoader(String isolated)
+    {
+        super(IsolatingClassLoader.class.getClassLoader());
+        this.isolated = isolated;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+    {
+        if (!name.equals(isolated))
+        {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name))
+        {
+            Class<?> type = findLoadedClass(name);
+            if (type == null)
+            {
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class"))
+                {
+                    byte[] bytecode = ByteStreams.toByteArray(in);
+                    type = defineClass(name, bytecode, 0, bytecode.length);
+                }
+                catch (IOException e)
+                {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+            return type;
+        }
+    }
+}